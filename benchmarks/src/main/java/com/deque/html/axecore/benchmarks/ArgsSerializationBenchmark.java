@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import com.deque.html.axecore.args.AxeRuleOptions;
+import com.deque.html.axecore.args.AxeRunContext;
+import com.deque.html.axecore.args.AxeRunOnlyOptions;
+import com.deque.html.axecore.args.AxeRunOptions;
+import com.deque.html.axecore.selenium.AxeReporter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes {@link AxeRunOptions} and {@link AxeRunContext}, which is done for every scan and, for
+ * the context, for every frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ArgsSerializationBenchmark {
+  /** the number of rules configured and of selectors included and excluded. */
+  @Param({"10", "1000"})
+  private int entries;
+
+  private AxeRunOptions runOptions;
+  private AxeRunContext runContext;
+
+  /** Builds the options and context. */
+  @Setup
+  public void setUp() {
+    AxeRunOnlyOptions runOnly = new AxeRunOnlyOptions();
+    runOnly.setType("tag");
+    runOnly.setValues(Arrays.asList("wcag2a", "wcag2aa", "best-practice"));
+    Map<String, AxeRuleOptions> rules = new HashMap<>();
+    List<Object> include = new ArrayList<>();
+    List<Object> exclude = new ArrayList<>();
+    for (int i = 0; i < entries; i++) {
+      AxeRuleOptions rule = new AxeRuleOptions();
+      rule.setEnabled(i % 2 == 0);
+      rules.put("custom-rule-" + i, rule);
+      include.add(Arrays.asList("#frame-" + i, "#main > section:nth-child(" + i + ")"));
+      exclude.add(Arrays.asList(".ad-slot-" + i));
+    }
+    runOptions = new AxeRunOptions();
+    runOptions.setRunOnly(runOnly);
+    runOptions.setRules(rules);
+    runOptions.setResultTypes(Arrays.asList("violations", "incomplete"));
+    runOptions.setXPath(true);
+    runContext = new AxeRunContext();
+    runContext.setInclude(include);
+    runContext.setExclude(exclude);
+  }
+
+  /**
+   * Serializes the run options.
+   *
+   * @return the JSON
+   */
+  @Benchmark
+  public String serializeRunOptions() {
+    return AxeReporter.serialize(runOptions);
+  }
+
+  /**
+   * Serializes the run context.
+   *
+   * @return the JSON
+   */
+  @Benchmark
+  public String serializeRunContext() {
+    return AxeReporter.serialize(runContext);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the usual JMH command line. Unless a result format or file is given, the
+ * results are written as JSON to jmh-result-VERSION.json, so that runs against different versions
+ * can be compared side by side.
+ */
+public final class BenchmarkMain {
+
+  private BenchmarkMain() {}
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args JMH command line arguments, see -h
+   * @throws Exception if the command line is invalid or a benchmark cannot be run
+   */
+  public static void main(final String[] args) throws Exception {
+    CommandLineOptions cmd = new CommandLineOptions(args);
+    if (cmd.shouldHelp()
+        || cmd.shouldList()
+        || cmd.shouldListWithParams()
+        || cmd.shouldListProfilers()
+        || cmd.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+    if (!cmd.getResultFormat().hasValue() && !cmd.getResult().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON).result("jmh-result-" + version() + ".json");
+    }
+    new Runner(options.build()).run();
+  }
+
+  private static String version() {
+    String version = BenchmarkMain.class.getPackage().getImplementationVersion();
+    return version != null ? version : "dev";
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import com.deque.html.axecore.utilities.PartialResultsChunker;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Packs the partial results of a scan into the chunks sent to the window that runs finishRun. The
+ * results are spread over one frame per hundred nodes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PartialResultsChunkerBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int nodes;
+
+  @Param({"1000000", "20000000"})
+  private int chunkSize;
+
+  private List<String> partialResults;
+
+  /** Builds the fixture. */
+  @Setup
+  public void setUp() {
+    partialResults = ResultsFixture.withNodes(nodes).toPartialResults(Math.max(1, nodes / 100));
+  }
+
+  /**
+   * Chunks the partial results.
+   *
+   * @param blackhole consumes the chunks
+   */
+  @Benchmark
+  public void forEachChunk(final Blackhole blackhole) {
+    PartialResultsChunker.forEachChunk(partialResults, chunkSize, blackhole::consume);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import com.deque.html.axecore.playwright.Reporter;
+import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.selenium.AxeReporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+/** Reports results with the Selenium {@link AxeReporter} and the Playwright {@link Reporter}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReporterBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int nodes;
+
+  private Results results;
+  private AxeResults axeResults;
+  private WebDriver webDriver;
+  private File jsonFile;
+
+  /**
+   * Builds the fixture.
+   *
+   * @throws IOException if the report file cannot be created
+   */
+  @Setup
+  public void setUp() throws IOException {
+    ResultsFixture fixture = ResultsFixture.withNodes(nodes);
+    ObjectMapper objectMapper = new ObjectMapper();
+    results = objectMapper.convertValue(fixture.getRaw(), Results.class);
+    axeResults = objectMapper.convertValue(fixture.getRaw(), AxeResults.class);
+    String url = results.getUrl();
+    // getReadableAxeResults only asks the driver for its URL
+    webDriver =
+        (WebDriver)
+            Proxy.newProxyInstance(
+                WebDriver.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class},
+                (proxy, method, args) -> {
+                  if (method.getName().equals("getCurrentUrl")) {
+                    return url;
+                  }
+                  throw new UnsupportedOperationException(method.getName());
+                });
+    jsonFile = Files.createTempFile("axe-results", ".json").toFile();
+  }
+
+  /** Deletes the report file. */
+  @TearDown
+  public void tearDown() {
+    jsonFile.delete();
+  }
+
+  /**
+   * Serializes the results with AxeReporter.
+   *
+   * @return the JSON
+   */
+  @Benchmark
+  public String serialize() {
+    return AxeReporter.serialize(results);
+  }
+
+  /**
+   * Formats the violations as text with AxeReporter.
+   *
+   * @return the text
+   */
+  @Benchmark
+  public String getReadableAxeResults() {
+    AxeReporter.getReadableAxeResults("violations", webDriver, results.getViolations());
+    return AxeReporter.getAxeResultString();
+  }
+
+  /**
+   * Writes the results to a JSON file with the Playwright Reporter.
+   *
+   * @return the file
+   * @throws IOException if the file cannot be written
+   */
+  @Benchmark
+  public File jsonStringify() throws IOException {
+    new Reporter().JSONStringify(axeResults, jsonFile.getPath());
+    return jsonFile;
+  }
+}
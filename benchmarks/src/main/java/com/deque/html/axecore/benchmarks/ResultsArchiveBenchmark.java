@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.utilities.ObjectMapperFactory;
+import com.deque.html.axecore.utilities.ResultsFormat;
+import com.deque.html.axecore.utilities.ResultsReader;
+import com.deque.html.axecore.utilities.ResultsWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes {@link Results} with a {@link ResultsWriter} and reads them back with a {@link
+ * ResultsReader}, in each format, with and without gzip. Writing also reports the size of the
+ * archive, as the secondary result {@code write:bytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResultsArchiveBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int nodes;
+
+  @Param({"JSON", "SMILE"})
+  private ResultsFormat format;
+
+  @Param({"false", "true"})
+  private boolean gzip;
+
+  private ResultsWriter writer;
+  private final ResultsReader reader = new ResultsReader();
+  private Results results;
+  private byte[] archive;
+
+  /** The size of the archive written, reported next to the time it took. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class ArchiveSize {
+    /** the bytes in the archive. */
+    public long bytes;
+  }
+
+  /**
+   * Builds the fixture and its archive.
+   *
+   * @throws IOException if the results cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    writer = new ResultsWriter().setFormat(format).setGzip(gzip);
+    results =
+        ObjectMapperFactory.getDefault()
+            .read(ResultsFixture.withNodes(nodes).getJson(), Results.class);
+    archive = writeArchive().toByteArray();
+  }
+
+  /**
+   * Archiving a scan.
+   *
+   * @param size receives the size of the archive
+   * @return the archive
+   * @throws IOException if the results cannot be written
+   */
+  @Benchmark
+  public ByteArrayOutputStream write(final ArchiveSize size) throws IOException {
+    ByteArrayOutputStream out = writeArchive();
+    size.bytes = out.size();
+    return out;
+  }
+
+  private ByteArrayOutputStream writeArchive() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(archive == null ? 8192 : archive.length);
+    writer.write(results, out);
+    return out;
+  }
+
+  /**
+   * Reloading an archived scan.
+   *
+   * @return the results
+   * @throws IOException if the archive cannot be read
+   */
+  @Benchmark
+  public Results read() throws IOException {
+    return reader.read(new ByteArrayInputStream(archive), Results.class);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.results.Results;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps axe results onto {@link Results} and {@link AxeResults}, both from the maps a driver returns
+ * and from the JSON string a finishRun or a FinishRunner returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResultsDeserializationBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int nodes;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private Map<String, Object> raw;
+  private String json;
+
+  /** Builds the fixture. */
+  @Setup
+  public void setUp() {
+    ResultsFixture fixture = ResultsFixture.withNodes(nodes);
+    raw = fixture.getRaw();
+    json = fixture.getJson();
+  }
+
+  /**
+   * Selenium's AxeBuilder#analyze.
+   *
+   * @return the results
+   */
+  @Benchmark
+  public Results convertResults() {
+    return objectMapper.convertValue(raw, Results.class);
+  }
+
+  /**
+   * Selenium's AxeBuilder#analyze when finishRun is run outside the page.
+   *
+   * @return the results
+   * @throws IOException if the JSON cannot be read
+   */
+  @Benchmark
+  public Results readResults() throws IOException {
+    return objectMapper.readValue(json, Results.class);
+  }
+
+  /**
+   * Playwright's AxeBuilder#analyze.
+   *
+   * @return the results
+   */
+  @Benchmark
+  public AxeResults convertAxeResults() {
+    return objectMapper.convertValue(raw, AxeResults.class);
+  }
+
+  /**
+   * Playwright's AxeBuilder#analyze when finishRun is run outside the page.
+   *
+   * @return the results
+   * @throws IOException if the JSON cannot be read
+   */
+  @Benchmark
+  public AxeResults readAxeResults() throws IOException {
+    return objectMapper.readValue(json, AxeResults.class);
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds axe results of a given size, in the shape axe-core returns them. The results are held as
+ * the maps and lists a WebDriver or Playwright hands back from a script, and as the JSON string
+ * axe-core serializes them to. Nodes are spread over the violations, incomplete and passes of a
+ * real rule set, with the check data, related nodes and failure summaries axe-core attaches to
+ * them, so that each node costs about what it does in a real scan.
+ */
+public final class ResultsFixture {
+  private static final String[][] RULES = {
+    {"color-contrast", "serious", "cat.color,wcag2aa,wcag143,TTv5,TT13.c,EN-301-549,ACT"},
+    {"image-alt", "critical", "cat.text-alternatives,wcag2a,wcag111,section508,TTv5,ACT"},
+    {"label", "critical", "cat.forms,wcag2a,wcag412,wcag131,section508,TTv5,ACT"},
+    {"link-name", "serious", "cat.name-role-value,wcag2a,wcag244,wcag412,section508,TTv5,ACT"},
+    {"button-name", "critical", "cat.name-role-value,wcag2a,wcag412,section508,TTv5,ACT"},
+    {"region", "moderate", "cat.keyboard,best-practice"},
+    {"heading-order", "moderate", "cat.semantics,best-practice"},
+    {"aria-allowed-attr", "critical", "cat.aria,wcag2a,wcag412,EN-301-549"},
+    {"duplicate-id-aria", "critical", "cat.parsing,wcag2a,wcag412,EN-301-549"},
+    {"landmark-one-main", "moderate", "cat.semantics,best-practice"}
+  };
+
+  private static final String[] INAPPLICABLE = {
+    "accesskeys",
+    "area-alt",
+    "aria-meter-name",
+    "aria-progressbar-name",
+    "audio-caption",
+    "blink",
+    "frame-title",
+    "input-image-alt",
+    "marquee",
+    "object-alt",
+    "server-side-image-map",
+    "svg-img-alt",
+    "td-headers-attr",
+    "th-has-data-cells",
+    "video-caption"
+  };
+
+  private final Map<String, Object> raw;
+  private final String json;
+
+  private ResultsFixture(final Map<String, Object> raw, final String json) {
+    this.raw = raw;
+    this.json = json;
+  }
+
+  /**
+   * Builds results with the given number of nodes, a quarter of them violations, a tenth incomplete
+   * and the rest passes.
+   *
+   * @param nodes the total number of nodes
+   * @return the fixture
+   */
+  public static ResultsFixture withNodes(final int nodes) {
+    int violations = nodes / 4;
+    int incomplete = nodes / 10;
+    Map<String, Object> raw = new LinkedHashMap<>();
+    raw.put("testEngine", map("name", "axe-core", "version", "4.11.0"));
+    raw.put("testRunner", map("name", "axe"));
+    raw.put(
+        "testEnvironment",
+        map(
+            "userAgent",
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko)"
+                + " HeadlessChrome/120.0.0.0 Safari/537.36",
+            "windowWidth",
+            1280,
+            "windowHeight",
+            720,
+            "orientationAngle",
+            0,
+            "orientationType",
+            "landscape-primary"));
+    raw.put("timestamp", "2026-01-01T00:00:00.000Z");
+    raw.put("url", "https://example.com/catalog?page=1");
+    raw.put("toolOptions", map("reporter", "v1"));
+    raw.put("violations", rules(violations, 0, "failed"));
+    raw.put("passes", rules(nodes - violations - incomplete, violations, "passed"));
+    raw.put("incomplete", rules(incomplete, nodes - incomplete, "incomplete"));
+    List<Object> inapplicable = new ArrayList<>();
+    for (String id : INAPPLICABLE) {
+      inapplicable.add(rule(id, "minor", "cat.other,wcag2a", Collections.emptyList()));
+    }
+    raw.put("inapplicable", inapplicable);
+    try {
+      return new ResultsFixture(raw, new ObjectMapper().writeValueAsString(raw));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot serialize fixture", e);
+    }
+  }
+
+  /**
+   * gets the results as a script returns them.
+   *
+   * @return nested maps and lists of the results
+   */
+  public Map<String, Object> getRaw() {
+    return raw;
+  }
+
+  /**
+   * gets the results as axe-core serializes them.
+   *
+   * @return the results JSON
+   */
+  public String getJson() {
+    return json;
+  }
+
+  /**
+   * Splits the results into the serialized partial results of that many frames, as runPartial
+   * returns them.
+   *
+   * @param frames the number of frames
+   * @return one JSON string per frame
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> toPartialResults(final int frames) {
+    List<Map<String, Object>> partials = new ArrayList<>();
+    for (int i = 0; i < frames; i++) {
+      Map<String, Object> partial = new LinkedHashMap<>();
+      partial.put("frames", Collections.emptyList());
+      partial.put("results", new ArrayList<>());
+      partials.add(partial);
+    }
+    int next = 0;
+    for (String type : Arrays.asList("violations", "incomplete", "passes")) {
+      for (Object rule : (List<Object>) raw.get(type)) {
+        for (Object node : (List<Object>) ((Map<String, Object>) rule).get("nodes")) {
+          Map<String, Object> partial = partials.get(next++ % frames);
+          ((List<Object>) partial.get("results")).add(node);
+        }
+      }
+    }
+    ObjectMapper mapper = new ObjectMapper();
+    List<String> serialized = new ArrayList<>();
+    try {
+      for (Map<String, Object> partial : partials) {
+        serialized.add(mapper.writeValueAsString(partial));
+      }
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot serialize fixture", e);
+    }
+    return serialized;
+  }
+
+  private static List<Object> rules(final int nodes, final int firstNode, final String outcome) {
+    List<Object> rules = new ArrayList<>();
+    int perRule = (nodes + RULES.length - 1) / RULES.length;
+    for (int r = 0; r < RULES.length && r * perRule < nodes; r++) {
+      List<Object> ruleNodes = new ArrayList<>();
+      for (int n = r * perRule; n < Math.min(nodes, (r + 1) * perRule); n++) {
+        ruleNodes.add(node(RULES[r][0], RULES[r][1], firstNode + n, outcome));
+      }
+      rules.add(rule(RULES[r][0], RULES[r][1], RULES[r][2], ruleNodes));
+    }
+    return rules;
+  }
+
+  private static Map<String, Object> rule(
+      final String id, final String impact, final String tags, final List<Object> nodes) {
+    return map(
+        "id",
+        id,
+        "impact",
+        nodes.isEmpty() ? null : impact,
+        "tags",
+        Arrays.asList(tags.split(",")),
+        "description",
+        "Ensures every " + id.replace('-', ' ') + " meets the accessibility requirements",
+        "help",
+        "Elements must satisfy " + id,
+        "helpUrl",
+        "https://dequeuniversity.com/rules/axe/4.11/" + id + "?application=axeAPI",
+        "nodes",
+        nodes);
+  }
+
+  private static Map<String, Object> node(
+      final String rule, final String impact, final int index, final String outcome) {
+    String selector = "#main > .product-list > li:nth-child(" + index + ") > a";
+    String html =
+        "<a href=\"/catalog/item/"
+            + index
+            + "\" class=\"product-link\" data-sku=\"SKU-"
+            + index
+            + "\">Item "
+            + index
+            + "</a>";
+    Map<String, Object> check =
+        map(
+            "id",
+            rule,
+            "impact",
+            impact,
+            "message",
+            "Element has insufficient color contrast of 3.2 (foreground color: #777777,"
+                + " background color: #ffffff, font size: 10.5pt (14px), font weight: normal)."
+                + " Expected contrast ratio of 4.5:1",
+            "data",
+            map(
+                "fgColor",
+                "#777777",
+                "bgColor",
+                "#ffffff",
+                "contrastRatio",
+                3.2,
+                "fontSize",
+                "10.5pt (14px)",
+                "fontWeight",
+                "normal",
+                "messageKey",
+                null,
+                "expectedContrastRatio",
+                "4.5:1"),
+            "relatedNodes",
+            Collections.singletonList(
+                map(
+                    "html",
+                    "<ul class=\"product-list\">",
+                    "target",
+                    Collections.singletonList("#main > .product-list"))));
+    boolean failed = !"passed".equals(outcome);
+    return map(
+        "any",
+        Collections.singletonList(check),
+        "all",
+        Collections.emptyList(),
+        "none",
+        Collections.emptyList(),
+        "impact",
+        failed ? impact : null,
+        "html",
+        html,
+        "target",
+        Collections.singletonList(selector),
+        "failureSummary",
+        failed
+            ? "Fix any of the following:\n  Element has insufficient color contrast of 3.2"
+            : null);
+  }
+
+  private static Map<String, Object> map(final Object... entries) {
+    Map<String, Object> map = new LinkedHashMap<>();
+    for (int i = 0; i < entries.length; i += 2) {
+      map.put((String) entries[i], entries[i + 1]);
+    }
+    return map;
+  }
+}
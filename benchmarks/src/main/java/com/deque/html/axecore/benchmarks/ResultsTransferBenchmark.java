@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.benchmarks;
+
+import com.deque.html.axecore.results.Results;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Gets results from a driver's response into {@link Results}, with axe returning the results as an
+ * object, which the driver decodes into maps that are then converted, and with axe returning them
+ * as a JSON string, which is read straight into Results. Run with -prof gc to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResultsTransferBenchmark {
+  @Param({"1000", "10000", "100000"})
+  private int nodes;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private String objectResponse;
+  private String stringResponse;
+
+  /**
+   * Builds the driver responses.
+   *
+   * @throws IOException if the fixture cannot be serialized
+   */
+  @Setup
+  public void setUp() throws IOException {
+    ResultsFixture fixture = ResultsFixture.withNodes(nodes);
+    objectResponse =
+        objectMapper.writeValueAsString(Collections.singletonMap("value", fixture.getRaw()));
+    stringResponse =
+        objectMapper.writeValueAsString(Collections.singletonMap("value", fixture.getJson()));
+  }
+
+  /**
+   * The results returned as an object.
+   *
+   * @return the results
+   * @throws IOException if the response cannot be read
+   */
+  @Benchmark
+  public Results convertValue() throws IOException {
+    Map<?, ?> response = objectMapper.readValue(objectResponse, Map.class);
+    return objectMapper.convertValue(response.get("value"), Results.class);
+  }
+
+  /**
+   * The results returned as a JSON string.
+   *
+   * @return the results
+   * @throws IOException if the response cannot be read
+   */
+  @Benchmark
+  public Results readValue() throws IOException {
+    Map<?, ?> response = objectMapper.readValue(stringResponse, Map.class);
+    return objectMapper.readValue((String) response.get("value"), Results.class);
+  }
+}
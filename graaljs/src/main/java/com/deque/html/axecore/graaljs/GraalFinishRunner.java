@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.graaljs;
+
+import com.deque.html.axecore.utilities.FinishRunner;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
+
+/**
+ * A {@link FinishRunner} that runs axe.finishRun in GraalJS, inside the JVM, so that scans are
+ * finished without a browser window and without sending the partial results back to the browser.
+ *
+ * <p>axe-core is loaded once into each of a pool of JavaScript contexts, which are reused by every
+ * later scan. The first context is created with the runner, so that a source which cannot be loaded
+ * fails there, and the others as concurrent scans need them, up to the given number. Loading
+ * axe-core takes a while, and longer on a JVM without the Graal compiler, where GraalJS only
+ * interprets, so a runner is meant to be shared by every builder of a run and closed after it.
+ *
+ * <p>axe-core expects a browser when it is loaded, so each context first gets a {@code window} and
+ * {@code document} without any elements: enough for axe.finishRun, which only needs the partial
+ * results, but not for axe.run or axe.runPartial. Timers run in the order they were set once the
+ * current job is done, whatever their delay. The contexts have no access to the host.
+ */
+public final class GraalFinishRunner implements FinishRunner, AutoCloseable {
+  /** the browser globals axe-core uses while it loads and in axe.finishRun. */
+  static final String WINDOW_SHIM =
+      "var window = globalThis;"
+          + "window.self = window.top = window.parent = window;"
+          + "var __axeTimers = [];"
+          + "window.setTimeout = function (callback) {"
+          + "  var args = Array.prototype.slice.call(arguments, 2);"
+          + "  __axeTimers.push(function () { callback.apply(window, args); });"
+          + "  return __axeTimers.length;"
+          + "};"
+          + "window.clearTimeout = function (id) {"
+          + "  if (id > 0 && id <= __axeTimers.length) { __axeTimers[id - 1] = null; }"
+          + "};"
+          + "window.addEventListener = window.removeEventListener = function () {};"
+          + "window.getComputedStyle = function () { return {}; };"
+          + "window.innerWidth = window.innerHeight = 0;"
+          + "window.screen = { width: 0, height: 0,"
+          + "  orientation: { angle: 0, type: 'landscape-primary' } };"
+          + "window.navigator = { userAgent: 'axe-core-maven-html GraalJS', language: 'en' };"
+          + "window.location = { href: 'about:blank', origin: 'null', protocol: 'about:',"
+          + "  host: '', hostname: '', pathname: 'blank', search: '', hash: '' };"
+          + "window.document = { documentElement: null, body: null,"
+          + "  addEventListener: function () {},"
+          + "  createElement: function () { return {}; },"
+          + "  elementsFromPoint: function () { return []; },"
+          + "  querySelectorAll: function () { return []; } };";
+
+  /** calls axe.finishRun, handing its serialized results or its error to the given callbacks. */
+  private static final String FINISH_RUN_FUNCTION =
+      "(function (partialResults, resolve, reject) {"
+          + "  __axeTimers.length = 0;"
+          + "  axe.finishRun(JSON.parse(partialResults)).then("
+          + "    function (results) { resolve(JSON.stringify(results)); },"
+          + "    function (error) { reject(String((error && error.stack) || error)); });"
+          + "})";
+
+  /** runs the first pending timer, giving whether there was one. */
+  private static final String RUN_TIMER_FUNCTION =
+      "(function () {"
+          + "  for (var i = 0; i < __axeTimers.length; i++) {"
+          + "    var timer = __axeTimers[i];"
+          + "    if (timer) { __axeTimers[i] = null; timer(); return true; }"
+          + "  }"
+          + "  __axeTimers.length = 0;"
+          + "  return false;"
+          + "})";
+
+  private static final String HAS_FINISH_RUN =
+      "typeof axe === 'object' && typeof axe.finishRun === 'function'";
+
+  private final Engine engine;
+  private final Source shimSource;
+  private final Source axeSource;
+  private final int maxContexts;
+  /** contexts not finishing a scan, guarded by this. */
+  private final ArrayDeque<AxeContext> idle = new ArrayDeque<>();
+  /** contexts created or being created, guarded by this. */
+  private int contexts = 0;
+  /** guarded by this. */
+  private boolean closed = false;
+
+  /**
+   * Loads axe-core into a first context, allowing as many contexts as there are processors.
+   *
+   * @param axeSource the axe-core source, 4.3 or later, along with any axe.configure call to make
+   */
+  public GraalFinishRunner(final String axeSource) {
+    this(axeSource, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Loads axe-core into a first context.
+   *
+   * @param axeSource the axe-core source, 4.3 or later, along with any axe.configure call to make
+   * @param maxContexts the most contexts to create, and so the most scans finished at once
+   * @throws IllegalArgumentException if the source does not define axe.finishRun
+   */
+  public GraalFinishRunner(final String axeSource, final int maxContexts) {
+    Objects.requireNonNull(axeSource, "axeSource");
+    if (maxContexts <= 0) {
+      throw new IllegalArgumentException("maxContexts must be positive.");
+    }
+    this.maxContexts = maxContexts;
+    this.engine = Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build();
+    this.shimSource = Source.newBuilder("js", WINDOW_SHIM, "window-shim.js").buildLiteral();
+    this.axeSource = Source.newBuilder("js", axeSource, "axe.min.js").buildLiteral();
+    AxeContext first;
+    try {
+      first = new AxeContext();
+    } catch (RuntimeException e) {
+      engine.close();
+      throw e;
+    }
+    contexts = 1;
+    idle.push(first);
+  }
+
+  /**
+   * {@inheritDoc} Waits for a context if as many as allowed are finishing other scans.
+   *
+   * @param partialResults the serialized partial results, in frame order, null for frames that were
+   *     not tested
+   * @return the results of axe.finishRun, serialized as JSON
+   * @throws IllegalStateException if the runner is closed
+   * @throws InterruptedException if interrupted while waiting for a context
+   * @throws PolyglotException if the partial results cannot be parsed or axe.finishRun throws
+   * @throws RuntimeException if axe.finishRun rejects
+   */
+  @Override
+  public String finishRun(final List<String> partialResults) throws InterruptedException {
+    AxeContext context = acquire();
+    boolean reusable = true;
+    try {
+      return context.finishRun("[" + String.join(",", partialResults) + "]");
+    } catch (PolyglotException e) {
+      // a cancelled or broken context cannot finish another scan
+      reusable = e.isGuestException() && !e.isCancelled() && !e.isResourceExhausted();
+      throw e;
+    } finally {
+      release(context, reusable);
+    }
+  }
+
+  /** Closes every context, cancelling the scans being finished in them. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      idle.clear();
+      notifyAll();
+    }
+    engine.close(true);
+  }
+
+  /** @return the number of contexts created, which axe-core has been loaded into. */
+  synchronized int getContextCount() {
+    return contexts;
+  }
+
+  private AxeContext acquire() throws InterruptedException {
+    synchronized (this) {
+      while (true) {
+        if (closed) {
+          throw new IllegalStateException("The GraalFinishRunner is closed.");
+        }
+        if (!idle.isEmpty()) {
+          return idle.pop();
+        }
+        if (contexts < maxContexts) {
+          contexts++;
+          break;
+        }
+        wait();
+      }
+    }
+    try {
+      return new AxeContext();
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        contexts--;
+        notifyAll();
+      }
+      throw e;
+    }
+  }
+
+  private void release(final AxeContext context, final boolean reusable) {
+    synchronized (this) {
+      if (!closed && reusable) {
+        idle.push(context);
+        notifyAll();
+        return;
+      }
+      if (!reusable) {
+        contexts--;
+        notifyAll();
+      }
+    }
+    context.close();
+  }
+
+  /** a context axe-core has been loaded into, used by one scan at a time. */
+  private final class AxeContext {
+    private final Context context;
+    private final Value finishRun;
+    private final Value runTimer;
+
+    private AxeContext() {
+      context = Context.newBuilder("js").engine(engine).build();
+      try {
+        context.eval(shimSource);
+        context.eval(axeSource);
+        if (!context.eval("js", HAS_FINISH_RUN).asBoolean()) {
+          throw new IllegalArgumentException(
+              "The axe-core source does not define axe.finishRun, which needs axe-core 4.3 or later.");
+        }
+        finishRun = context.eval("js", FINISH_RUN_FUNCTION);
+        runTimer = context.eval("js", RUN_TIMER_FUNCTION);
+      } catch (RuntimeException e) {
+        context.close();
+        throw e;
+      }
+    }
+
+    private String finishRun(final String partialResults) {
+      String[] settled = new String[2];
+      finishRun.execute(
+          partialResults,
+          (ProxyExecutable) args -> settled[0] = args[0].asString(),
+          (ProxyExecutable) args -> settled[1] = args[0].asString());
+      // promise jobs run when each call into the context returns, timers only when asked to
+      while (settled[0] == null && settled[1] == null && runTimer.execute().asBoolean()) {
+        // until axe.finishRun settles or nothing is left to run
+      }
+      if (settled[1] != null) {
+        throw new RuntimeException("axe.finishRun rejected: " + settled[1]);
+      }
+      if (settled[0] == null) {
+        throw new RuntimeException("axe.finishRun did not settle.");
+      }
+      return settled[0];
+    }
+
+    private void close() {
+      context.close();
+    }
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.graaljs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.graalvm.polyglot.PolyglotException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/** Unit tests for {@link GraalFinishRunner}. */
+public class GraalFinishRunnerUnitTest {
+  /** stands in for axe-core, finishing with the url and frame count once a timer fires. */
+  private static final String TIMER_AXE =
+      "window.axe = { finishRun: function (partialResults) {"
+          + "  return new Promise(function (resolve, reject) {"
+          + "    var first = partialResults[0];"
+          + "    if (first && first.fail) { reject(new Error(first.fail)); return; }"
+          + "    if (first && first.hang) { return; }"
+          + "    setTimeout(resolve, 10, { url: first && first.url, frames: partialResults.length });"
+          + "  });"
+          + "} };";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** finishes with the axe-core the integrations embed, which takes seconds to load. */
+  private static GraalFinishRunner axeRunner;
+
+  private static String partialResult;
+
+  private static String resource(final String name) throws Exception {
+    return new String(
+        Files.readAllBytes(Paths.get(GraalFinishRunnerUnitTest.class.getResource(name).toURI())),
+        StandardCharsets.UTF_8);
+  }
+
+  @BeforeClass
+  public static void loadAxe() throws Exception {
+    axeRunner = new GraalFinishRunner(resource("/axe.min.js"), 1);
+    partialResult = resource("/partial-result.json");
+  }
+
+  @AfterClass
+  public static void closeAxe() {
+    axeRunner.close();
+  }
+
+  @Test
+  public void finishesPartialResultsWithAxeCore() throws Exception {
+    JsonNode results =
+        MAPPER.readTree(axeRunner.finishRun(Arrays.asList(partialResult, null, partialResult)));
+
+    assertEquals("http://example.test/", results.get("url").asText());
+    assertEquals("4.12.1", results.get("testEngine").get("version").asText());
+    assertEquals("image-alt", results.get("violations").get(0).get("id").asText());
+    assertEquals(2, results.get("violations").get(0).get("nodes").size());
+    assertEquals("html-has-lang", results.get("passes").get(0).get("id").asText());
+  }
+
+  @Test
+  public void loadsAxeCoreOnceForEveryScan() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      String results = axeRunner.finishRun(Collections.singletonList(partialResult));
+      assertTrue(results.contains("\"image-alt\""));
+    }
+
+    assertEquals(1, axeRunner.getContextCount());
+  }
+
+  @Test
+  public void runsTimersUntilFinishRunSettles() throws Exception {
+    try (GraalFinishRunner runner = new GraalFinishRunner(TIMER_AXE, 1)) {
+      JsonNode results =
+          MAPPER.readTree(runner.finishRun(Arrays.asList("{\"url\":\"http://a.test/\"}", null)));
+
+      assertEquals("http://a.test/", results.get("url").asText());
+      assertEquals(2, results.get("frames").asInt());
+    }
+  }
+
+  @Test
+  public void createsContextsUpToTheLimitForConcurrentScans() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (GraalFinishRunner runner = new GraalFinishRunner(TIMER_AXE, 2)) {
+      // each scan holds its context until the other one has one too
+      CyclicBarrier bothFinishing = new CyclicBarrier(2);
+      List<String> waiting =
+          new AbstractList<String>() {
+            @Override
+            public String get(final int index) {
+              try {
+                bothFinishing.await(10, TimeUnit.SECONDS);
+              } catch (Exception e) {
+                throw new IllegalStateException(e);
+              }
+              return "{\"url\":\"http://a.test/\"}";
+            }
+
+            @Override
+            public int size() {
+              return 1;
+            }
+          };
+      Future<String> first = executor.submit(() -> runner.finishRun(waiting));
+      Future<String> second = executor.submit(() -> runner.finishRun(waiting));
+      assertEquals(first.get(), second.get());
+      assertEquals(2, runner.getContextCount());
+
+      List<Callable<String>> scans = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        String partial = "{\"url\":\"http://a.test/" + i + "\"}";
+        scans.add(() -> runner.finishRun(Collections.singletonList(partial)));
+      }
+      List<Future<String>> all = executor.invokeAll(scans);
+      for (int i = 0; i < all.size(); i++) {
+        assertEquals("http://a.test/" + i, MAPPER.readTree(all.get(i).get()).get("url").asText());
+      }
+
+      assertEquals(2, runner.getContextCount());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void reportsFailuresAndKeepsTheContext() throws Exception {
+    try (GraalFinishRunner runner = new GraalFinishRunner(TIMER_AXE, 1)) {
+      RuntimeException rejected =
+          assertThrows(
+              RuntimeException.class,
+              () -> runner.finishRun(Collections.singletonList("{\"fail\":\"no frames\"}")));
+      assertTrue(rejected.getMessage().contains("axe.finishRun rejected: Error: no frames"));
+
+      RuntimeException hanging =
+          assertThrows(
+              RuntimeException.class,
+              () -> runner.finishRun(Collections.singletonList("{\"hang\":true}")));
+      assertEquals("axe.finishRun did not settle.", hanging.getMessage());
+
+      assertThrows(PolyglotException.class, () -> runner.finishRun(Collections.singletonList("{")));
+
+      String results = runner.finishRun(Collections.singletonList("{\"url\":\"http://a.test/\"}"));
+      assertEquals("http://a.test/", MAPPER.readTree(results).get("url").asText());
+      assertEquals(1, runner.getContextCount());
+    }
+  }
+
+  @Test
+  public void rejectsSourcesWithoutFinishRun() {
+    assertThrows(IllegalArgumentException.class, () -> new GraalFinishRunner("window.axe = {};"));
+    assertThrows(PolyglotException.class, () -> new GraalFinishRunner("window.axe = ;"));
+    assertThrows(IllegalArgumentException.class, () -> new GraalFinishRunner(TIMER_AXE, 0));
+  }
+
+  @Test
+  public void refusesScansOnceClosed() {
+    GraalFinishRunner runner = new GraalFinishRunner(TIMER_AXE, 1);
+    runner.close();
+    runner.close();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> runner.finishRun(Collections.singletonList("{\"url\":\"http://a.test/\"}")));
+  }
+}
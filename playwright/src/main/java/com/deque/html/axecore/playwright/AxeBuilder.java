@@ -3,29 +3,53 @@ package com.deque.html.axecore.playwright;
 import com.deque.html.axecore.args.*;
 import com.deque.html.axecore.results.AxeResults;
 import com.deque.html.axecore.results.FrameContext;
-import com.fasterxml.jackson.annotation.JsonInclude;
+import com.deque.html.axecore.results.ResultType;
+import com.deque.html.axecore.utilities.FinishRunner;
+import com.deque.html.axecore.utilities.ObjectMapperFactory;
+import com.deque.html.axecore.utilities.PartialResultCache;
+import com.deque.html.axecore.utilities.PartialResultsChunker;
+import com.deque.html.axecore.utilities.ResultCache;
+import com.deque.html.axecore.utilities.ResultsProjection;
+import com.deque.html.axecore.utilities.ScanListener;
+import com.deque.html.axecore.utilities.ScanPhase;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.ElementHandle;
 import com.microsoft.playwright.Frame;
 import com.microsoft.playwright.Page;
-import java.io.IOException;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.*;
-import org.apache.commons.io.IOUtils;
 
 /** Chainable class: AxeBuilder used to customize and analyze using axe-core */
 public class AxeBuilder {
+  /** init scripts already registered, by browser context, keyed by init script source id. */
+  private static final Map<BrowserContext, Set<String>> initScripts =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
   private final AxeRunContext context = new AxeRunContext();
   private AxeRunOptions options = new AxeRunOptions();
 
   private boolean legacyMode = false;
   private boolean hasRunPartial = false;
-  private final ObjectMapper objectMapper;
+  private boolean injectIfAbsent = false;
+  private boolean useInitScript = false;
+  private int frameConcurrency = 1;
+  private int partialResultsChunkSize = PartialResultsChunker.DEFAULT_CHUNK_SIZE;
+  private AxeScript axeScript;
+  private FinisherPage finisherPage;
+  private FinishRunner finishRunner;
+  private ResultsProjection resultsProjection = ResultsProjection.ALL;
+  private ScanListener scanListener = ScanListener.NONE;
+  private PartialResultCache partialResultCache;
+  private ResultCache resultCache;
+  private final ObjectMapperFactory mapperFactory;
+
+  /** the context and options serialized, rebuilt whenever either changes. */
+  private ScanSpec scanSpec;
+
   private final Page page;
 
   /**
@@ -35,7 +59,19 @@ public class AxeBuilder {
    */
   public AxeBuilder(Page page) {
     this.page = page;
-    this.objectMapper = new ObjectMapper();
+    this.mapperFactory = ObjectMapperFactory.getDefault();
+  }
+
+  /**
+   * Axe-core builder constructor for Playwright Java, with a mapper of your own for the context,
+   * options and results
+   *
+   * @param page Playwright page to inject axe-core
+   * @param objectMapper mapper to use when converting JSON
+   */
+  public AxeBuilder(Page page, ObjectMapper objectMapper) {
+    this.page = page;
+    this.mapperFactory = ObjectMapperFactory.of(objectMapper);
   }
 
   /**
@@ -46,6 +82,7 @@ public class AxeBuilder {
    */
   public AxeBuilder include(List<String> selector) {
     this.context.setInclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -58,6 +95,7 @@ public class AxeBuilder {
    */
   public AxeBuilder include(String selector) {
     this.context.setInclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -73,6 +111,7 @@ public class AxeBuilder {
    */
   public AxeBuilder include(Object selector) {
     this.context.setInclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -88,6 +127,7 @@ public class AxeBuilder {
    */
   public AxeBuilder include(Object... selector) {
     this.context.setInclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -103,6 +143,7 @@ public class AxeBuilder {
    */
   public AxeBuilder include(FromFrames fromFrames) {
     this.context.setInclude(fromFrames);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -118,6 +159,7 @@ public class AxeBuilder {
    */
   public AxeBuilder include(FromShadowDom fromShadowDom) {
     this.context.setInclude(fromShadowDom);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -130,6 +172,7 @@ public class AxeBuilder {
    */
   public AxeBuilder exclude(List<String> selector) {
     this.context.setExclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -142,6 +185,7 @@ public class AxeBuilder {
    */
   public AxeBuilder exclude(String selector) {
     this.context.setExclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -157,6 +201,7 @@ public class AxeBuilder {
    */
   public AxeBuilder exclude(Object selector) {
     this.context.setExclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -172,6 +217,7 @@ public class AxeBuilder {
    */
   public AxeBuilder exclude(Object... selector) {
     this.context.setExclude(selector);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -187,6 +233,7 @@ public class AxeBuilder {
    */
   public AxeBuilder exclude(FromFrames fromFrames) {
     this.context.setExclude(fromFrames);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -202,6 +249,7 @@ public class AxeBuilder {
    */
   public AxeBuilder exclude(FromShadowDom fromShadowDom) {
     this.context.setExclude(fromShadowDom);
+    this.scanSpec = newScanSpec();
 
     return this;
   }
@@ -209,13 +257,16 @@ public class AxeBuilder {
   /**
    * Provide options how configure how axe-core operates Run all rules corresponding to one of the
    * accessibility standards Run all rules defined in the system, except for the list of rules
-   * specified Run a specific set of rules provided as a list of rule ids
+   * specified Run a specific set of rules provided as a list of rule ids. The options are
+   * serialized here and reused by every later scan, so changes made to them afterwards are ignored
+   * until they are passed in again
    *
    * @param axeRunOptions axe-core options
    * @return this
    */
   public AxeBuilder options(AxeRunOptions axeRunOptions) {
     this.options = axeRunOptions;
+    this.scanSpec = newScanSpec();
     return this;
   }
 
@@ -236,6 +287,7 @@ public class AxeBuilder {
     runOnlyOptions.setType("rule");
     runOnlyOptions.setValues(rules);
     this.options.setRunOnly(runOnlyOptions);
+    this.scanSpec = newScanSpec();
     return this;
   }
 
@@ -259,6 +311,7 @@ public class AxeBuilder {
     runOnlyOptions.setType("tag");
     runOnlyOptions.setValues(tags);
     this.options.setRunOnly(runOnlyOptions);
+    this.scanSpec = newScanSpec();
     return this;
   }
 
@@ -283,6 +336,162 @@ public class AxeBuilder {
           disableRulesMap.put(rule, axeRuleOptions);
         });
     this.options.setRules(disableRulesMap);
+    this.scanSpec = newScanSpec();
+    return this;
+  }
+
+  /**
+   * Use a custom axe-core source instead of the bundled one
+   *
+   * @param axeScript axe-core source, e.g. {@code AxeScript.of(source)}
+   * @return this
+   */
+  public AxeBuilder setAxeScript(AxeScript axeScript) {
+    this.axeScript = Objects.requireNonNull(axeScript, "axeScript");
+    return this;
+  }
+
+  /**
+   * Only inject axe into a frame when the frame does not already hold the same axe source from an
+   * earlier scan. Each frame is probed with a small script first, so repeated scans of the same
+   * document skip sending the axe source again.
+   *
+   * @param injectIfAbsent boolean
+   * @return this
+   */
+  public AxeBuilder setInjectIfAbsent(boolean injectIfAbsent) {
+    this.injectIfAbsent = injectIfAbsent;
+    return this;
+  }
+
+  /**
+   * Register axe once per browser context with {@code BrowserContext.addInitScript} instead of
+   * evaluating it in every frame on each scan. Every document loaded in the context afterwards,
+   * including lazily loaded iframes, has axe before the scan starts. Documents that were already
+   * loaded when the script was registered are injected on demand. Ignored in legacy mode.
+   *
+   * @param useInitScript boolean
+   * @return this
+   */
+  public AxeBuilder setUseInitScript(boolean useInitScript) {
+    this.useInitScript = useInitScript;
+    return this;
+  }
+
+  /**
+   * Run axe.runPartial in up to this many frames at once. Each frame's runPartial is started
+   * without waiting for it, and the traversal moves on to the next frame until the limit is
+   * reached. Partial results are still handed to finishRun in frame order. Defaults to 1, which
+   * runs frames one after the other.
+   *
+   * @param frameConcurrency maximum number of frames running axe.runPartial at once
+   * @return this
+   */
+  public AxeBuilder setFrameConcurrency(int frameConcurrency) {
+    if (frameConcurrency < 1) {
+      throw new IllegalArgumentException("frameConcurrency must be at least 1.");
+    }
+    this.frameConcurrency = frameConcurrency;
+    return this;
+  }
+
+  /**
+   * Set the maximum size of each piece the partial results are sent to axe.finishRun in. The
+   * partial results are sent piece by piece, so at most one piece is held in memory at a time.
+   *
+   * @param chunkSize maximum size, in characters, of each piece. Defaults to 20,000,000.
+   * @return this
+   */
+  public AxeBuilder setPartialResultsChunkSize(int chunkSize) {
+    this.partialResultsChunkSize = PartialResultsChunker.checkChunkSize(chunkSize);
+    return this;
+  }
+
+  /**
+   * Run axe.finishRun in a page that is kept open across scans, instead of opening and closing a
+   * page on every scan. axe is only injected into the page when it is not already there. Scans in a
+   * different browser, or after the page has been closed, fall back to opening a page per scan.
+   *
+   * @param finisherPage the page from {@link FinisherPage#open(Browser)}, or null
+   * @return this
+   */
+  public AxeBuilder setFinisherPage(FinisherPage finisherPage) {
+    this.finisherPage = finisherPage;
+    return this;
+  }
+
+  /**
+   * Run axe.finishRun with the given runner instead of in a browser page, for example with the
+   * graaljs module's GraalFinishRunner, which runs it in a JavaScript runtime embedded in the JVM.
+   * The runner is only given the partial results, and finishes them with its own axe source, so the
+   * builder's axe script and branding are not used for it. Takes precedence over {@link
+   * #setFinisherPage(FinisherPage)}.
+   *
+   * @param finishRunner the runner, or null to run axe.finishRun in a browser page
+   * @return this
+   */
+  public AxeBuilder setFinishRunner(FinishRunner finishRunner) {
+    this.finishRunner = finishRunner;
+    return this;
+  }
+
+  /**
+   * Only hand back the given result types, for example only the violations. The other types are
+   * emptied in the browser before the results are serialized, so they are neither sent to Java nor
+   * parsed, which on most pages is the bulk of the results. Unlike {@link
+   * AxeRunOptions#setResultTypes(List)}, which only limits the nodes listed for each rule, the
+   * rules of the other types are dropped too. The partial results of each frame are still sent in
+   * full, since axe.finishRun needs them.
+   *
+   * @param resultTypes the result types to keep, or none to keep every type
+   * @return this
+   */
+  public AxeBuilder resultsProjection(ResultType... resultTypes) {
+    this.resultsProjection = ResultsProjection.of(resultTypes);
+    return this;
+  }
+
+  /**
+   * Report how long each phase of every scan takes, such as injecting axe, runPartial in each frame
+   * and finishRun, along with the size of the JSON each phase moves and the depth of the frame it
+   * ran in. A {@link com.deque.html.axecore.utilities.ScanTimingRecorder} aggregates them into
+   * histograms
+   *
+   * @param scanListener the listener, or null to stop reporting
+   * @return this
+   */
+  public AxeBuilder setScanListener(ScanListener scanListener) {
+    this.scanListener = scanListener != null ? scanListener : ScanListener.NONE;
+    return this;
+  }
+
+  /**
+   * Reuse the partial results of frames that were tested before, such as third-party widgets that
+   * appear on every page, instead of running axe.runPartial in them again. Each frame below the
+   * top-level page is fingerprinted in the browser first. See {@link PartialResultCache} for what
+   * the fingerprint does and does not see
+   *
+   * @param partialResultCache the cache, which can be shared by several builders, or null to test
+   *     every frame
+   * @return this
+   */
+  public AxeBuilder setPartialResultCache(PartialResultCache partialResultCache) {
+    this.partialResultCache = partialResultCache;
+    return this;
+  }
+
+  /**
+   * Reuse the results of pages that were scanned before with the same configuration and have not
+   * changed since, without injecting anything. The page is fingerprinted in the browser first.
+   * Errored results are not cached. See {@link ResultCache} for what the fingerprint does and does
+   * not see, such as frames and stylesheets
+   *
+   * @param resultCache the cache, which can be shared by several builders, or null to scan every
+   *     page
+   * @return this
+   */
+  public AxeBuilder setResultCache(ResultCache resultCache) {
+    this.resultCache = resultCache;
     return this;
   }
 
@@ -292,33 +501,90 @@ public class AxeBuilder {
    * @return Array of results containing incomplete, inapplicable, passes, and violations
    */
   public AxeResults analyze() {
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      String cacheKey = resultCacheKey();
+      String cached = cacheKey != null ? resultCache.get(cacheKey) : null;
+      if (cached != null) {
+        AxeResults axeResults = readResults(cached);
+        failed = false;
+        return axeResults;
+      }
+      AxeResults axeResults = scan();
+      failed = axeResults.isErrored();
+      if (cacheKey != null && !failed) {
+        resultCache.put(cacheKey, mapperFactory.serialize(axeResults));
+      }
+      return axeResults;
+    } finally {
+      scanListener.scanFinished(System.nanoTime() - start, failed);
+    }
+  }
 
+  /** fingerprints the page before anything is injected, or gives null when it is not cached */
+  private String resultCacheKey() {
+    if (resultCache == null) {
+      return null;
+    }
+    ScanSpec spec = scanSpec();
+    String fingerprint =
+        (String) page.mainFrame().evaluate(PartialResultCache.FINGERPRINT_FUNCTION);
+    return ResultCache.key(
+        fingerprint,
+        axeScript().getSourceId(),
+        spec.context,
+        spec.options,
+        legacyMode + "," + resultsProjection.getDroppedJson());
+  }
+
+  private AxeResults scan() {
     // We need to serialize the context and options passed by the user (if any)
     // to Strings to be able to parse them via Playwright
-    String axeContext = serialize(this.context);
-    String axeOptions = serialize(this.options);
+    ScanSpec spec = scanSpec();
+    String axeContext = spec.context;
+    String axeOptions = spec.options;
 
+    long injectStart = System.nanoTime();
     try {
-      /**
-       * this allows Playwright to run the script to be used later rather than invoking it instantly
-       *
-       * @see https://github.com/microsoft/playwright-java/issues/1070
-       */
-      this.page.evaluate("() => {" + getAxeScript() + "}");
+      AxeScript script = axeScript();
+      if (initScriptMode()) {
+        registerInitScript(script);
+        evaluateAxeSource(
+            this.page.mainFrame(),
+            script.getInitScriptSource(),
+            script.getInitScriptSourceId(),
+            true);
+      } else {
+        evaluateAxeSource(
+            this.page.mainFrame(),
+            script.getEvaluableSource(),
+            script.getSourceId(),
+            injectIfAbsent);
+      }
     } catch (RuntimeException runtimeException) {
       throw new RuntimeException("Problematic axe-source, unable to inject.", runtimeException);
     }
+    phaseFinished(ScanPhase.INJECT_AXE, 0, injectStart, -1);
 
     // Check if client has axe version>= 4.3
     this.hasRunPartial = hasRunPartial(page);
     if (!hasRunPartial || legacyMode) {
-      Object results = run(axeContext, axeOptions);
-      return this.objectMapper.convertValue(results, AxeResults.class);
+      return readResults(run(axeContext, axeOptions));
     }
 
+    String cacheScanKey =
+        partialResultCache != null
+            ? PartialResultCache.scanKey(
+                axeScript().getConfiguredSourceId(hasRunPartial, legacyMode), axeOptions)
+            : null;
+
     ArrayList<String> partialResults;
     try {
-      partialResults = runPartialRecursive(page.mainFrame(), axeContext, true);
+      partialResults =
+          frameConcurrency > 1
+              ? runPartialConcurrent(axeContext, axeOptions, cacheScanKey)
+              : runPartialRecursive(page.mainFrame(), axeContext, axeOptions, 0, cacheScanKey);
     } catch (RuntimeException runtimeException) {
       if (runtimeException.getMessage().contains("Unable to inject axe-source.")) {
         throw runtimeException;
@@ -326,7 +592,7 @@ public class AxeBuilder {
       return axeResultsErrors(runtimeException);
     }
 
-    Object results;
+    String results;
     try {
       results = finishRun(partialResults);
 
@@ -335,7 +601,25 @@ public class AxeBuilder {
           "Axe finishRun failed. Please see: https://github.com/dequelabs/axe-core-maven-html/blob/develop/playwright/error-handling.md",
           runtimeException);
     }
-    return this.objectMapper.convertValue(results, AxeResults.class);
+    AxeResults axeResults = readResults(results);
+    // results from a runner never passed through the browser
+    return finishRunner != null ? resultsProjection.apply(axeResults) : axeResults;
+  }
+
+  /**
+   * Reads the results axe serialized in the browser straight into AxeResults, rather than having
+   * Playwright build them as a map first
+   */
+  private AxeResults readResults(String results) {
+    long start = System.nanoTime();
+    AxeResults axeResults;
+    try {
+      axeResults = mapperFactory.read(results, AxeResults.class);
+    } catch (JsonProcessingException jsonProcessingException) {
+      throw new RuntimeException("Unable to parse the axe results.", jsonProcessingException);
+    }
+    phaseFinished(ScanPhase.READ_RESULTS, 0, start, length(results));
+    return axeResults;
   }
 
   /**
@@ -355,23 +639,33 @@ public class AxeBuilder {
    *
    * @param frame the current iframe
    * @param context the current context of the iframe
-   * @param isTopLevel is the iframe at the top level (page.mainFrame() is the top level frame)
+   * @param options the serialized run options
+   * @param frameDepth how deeply nested the iframe is, 0 for the top level (page.mainFrame())
+   * @param cacheScanKey the scan key of the partial result cache, or null if there is no cache
    * @return All partial results
    * @see <a href="https://github.com/dequelabs/axe-core/blob/master/doc/run-partial.md">axe-core
    *     runPartial</a>
    */
-  private ArrayList<String> runPartialRecursive(Frame frame, String context, boolean isTopLevel) {
+  private ArrayList<String> runPartialRecursive(
+      Frame frame, String context, String options, int frameDepth, String cacheScanKey) {
+    boolean isTopLevel = frameDepth == 0;
     try {
-      if (!isTopLevel) {
+      // in init script mode getFrameContexts checks for axe itself, saving a round trip
+      if (!isTopLevel && !initScriptMode()) {
+        long start = System.nanoTime();
         injectAxeSource(frame);
+        phaseFinished(ScanPhase.INJECT_AXE, frameDepth, start, -1);
+      }
+      ArrayList<FrameContext> frameContexts = frameContexts(frame, context, frameDepth);
+
+      String cacheKey = cacheKey(frame, context, isTopLevel, cacheScanKey);
+      String result = cacheKey != null ? partialResultCache.get(cacheKey) : null;
+      if (result == null) {
+        long start = System.nanoTime();
+        result = runPartial(frame, context, options);
+        phaseFinished(ScanPhase.RUN_PARTIAL, frameDepth, start, length(result));
+        cachePartial(cacheKey, result);
       }
-      Object frameContextResult = getFrameContexts(frame, context);
-
-      ArrayList<FrameContext> frameContexts =
-          objectMapper.convertValue(
-              frameContextResult, new TypeReference<ArrayList<FrameContext>>() {});
-
-      String result = runPartial(frame, context, serialize(this.options));
 
       ArrayList<String> partialResults = new ArrayList<>();
       partialResults.add(result);
@@ -384,7 +678,8 @@ public class AxeBuilder {
             if (iframe instanceof ElementHandle) {
               Frame childFrame = ((ElementHandle) iframe).contentFrame();
               ArrayList<String> childFrameResults =
-                  runPartialRecursive(childFrame, iframeContext, false);
+                  runPartialRecursive(
+                      childFrame, iframeContext, options, frameDepth + 1, cacheScanKey);
               partialResults.addAll(childFrameResults);
             } else {
               partialResults.add(null);
@@ -404,20 +699,188 @@ public class AxeBuilder {
     }
   }
 
-  // Note: axe.run pre 4.3 (no runPartial / finishRun)
-  private Object run(String axeContext, String axeOptions) {
-    // inject axe source into each iframe if legacyMode is not enabled
-    if (!legacyMode) {
-      this.page.frames().forEach(this::injectAxeSource);
+  /**
+   * runPartialConcurrent visits frames in the same order as runPartialRecursive, but starts
+   * runPartial in each frame without waiting for it. At most frameConcurrency frames are running at
+   * once; the oldest is collected before another is started.
+   *
+   * @param context the context of the top level frame
+   * @param options the serialized run options
+   * @param cacheScanKey the scan key of the partial result cache, or null if there is no cache
+   * @return All partial results, in the order runPartialRecursive returns them
+   */
+  private ArrayList<String> runPartialConcurrent(
+      String context, String options, String cacheScanKey) {
+    List<PartialFrame> frames = new ArrayList<>();
+    Deque<PartialFrame> inFlight = new ArrayDeque<>();
+    startPartialRecursive(page.mainFrame(), context, options, 0, cacheScanKey, frames, inFlight);
+    while (!inFlight.isEmpty()) {
+      collectPartial(inFlight.poll());
+    }
+    if (frames.get(0).error != null) {
+      throw frames.get(0).error;
+    }
+
+    ArrayList<String> partialResults = new ArrayList<>();
+    int index = 0;
+    while (index < frames.size()) {
+      PartialFrame partialFrame = frames.get(index);
+      partialResults.add(partialFrame.failed ? null : partialFrame.result);
+      // a failed frame reports a single null for itself and all its child frames
+      index = partialFrame.failed ? partialFrame.end : index + 1;
+    }
+    return partialResults;
+  }
+
+  private void startPartialRecursive(
+      Frame frame,
+      String context,
+      String options,
+      int frameDepth,
+      String cacheScanKey,
+      List<PartialFrame> frames,
+      Deque<PartialFrame> inFlight) {
+    boolean isTopLevel = frameDepth == 0;
+    PartialFrame partialFrame = new PartialFrame(frame, frameDepth);
+    frames.add(partialFrame);
+    try {
+      if (!isTopLevel && !initScriptMode()) {
+        long start = System.nanoTime();
+        injectAxeSource(frame);
+        phaseFinished(ScanPhase.INJECT_AXE, frameDepth, start, -1);
+      }
+      ArrayList<FrameContext> frameContexts = frameContexts(frame, context, frameDepth);
+
+      partialFrame.cacheKey = cacheKey(frame, context, isTopLevel, cacheScanKey);
+      partialFrame.result =
+          partialFrame.cacheKey != null ? partialResultCache.get(partialFrame.cacheKey) : null;
+      if (partialFrame.result == null) {
+        partialFrame.started = System.nanoTime();
+        startPartial(frame, context, options);
+        inFlight.add(partialFrame);
+        while (inFlight.size() > frameConcurrency) {
+          collectPartial(inFlight.poll());
+        }
+      }
+
+      for (FrameContext frameContext : frameContexts) {
+        String iframeContext = serialize(frameContext.getFrameContext());
+        String iframeSelector = serialize(frameContext.getFrameSelector());
+        Object iframe = getIframeHandle(frame, iframeSelector);
+        if (iframe instanceof ElementHandle) {
+          Frame childFrame = ((ElementHandle) iframe).contentFrame();
+          startPartialRecursive(
+              childFrame, iframeContext, options, frameDepth + 1, cacheScanKey, frames, inFlight);
+        } else {
+          frames.add(new PartialFrame(null, frameDepth + 1));
+        }
+      }
+    } catch (RuntimeException runtimeException) {
+      if (isTopLevel) {
+        throw runtimeException;
+      }
+      partialFrame.failed = true;
+    } finally {
+      partialFrame.end = frames.size();
     }
+  }
 
-    return page.evaluate(
+  private void startPartial(Frame frame, String context, String options) {
+    frame.evaluate(
         "([axeContext, axeOptions]) => {"
             + "const context = JSON.parse(axeContext);"
             + "const options = JSON.parse(axeOptions);"
-            + "return axe.run(context, options).then(res => JSON.parse(JSON.stringify(res)));"
+            + "window.__axePartialResult = axe.runPartial(context, options)"
+            + ".then(res => JSON.stringify(res));"
             + "}",
-        Arrays.asList(axeContext, axeOptions));
+        Arrays.asList(context, options));
+  }
+
+  // failures are recorded rather than thrown, as this may run while another frame is visited
+  private void collectPartial(PartialFrame partialFrame) {
+    try {
+      partialFrame.result =
+          (String)
+              partialFrame.frame.evaluate(
+                  "() => {"
+                      + "const result = window.__axePartialResult;"
+                      + "delete window.__axePartialResult;"
+                      + "return result;"
+                      + "}");
+      // includes the time spent waiting to be collected while other frames ran
+      phaseFinished(
+          ScanPhase.RUN_PARTIAL,
+          partialFrame.frameDepth,
+          partialFrame.started,
+          length(partialFrame.result));
+      cachePartial(partialFrame.cacheKey, partialFrame.result);
+    } catch (RuntimeException runtimeException) {
+      partialFrame.failed = true;
+      partialFrame.error = runtimeException;
+    }
+  }
+
+  /**
+   * Fingerprints the frame for the partial result cache. The top level frame is never cached, as
+   * finishRun takes the url and time of the scan from its partial result
+   *
+   * @return the cache key, or null if the frame's partial result is not cached
+   */
+  private String cacheKey(Frame frame, String context, boolean isTopLevel, String cacheScanKey) {
+    if (cacheScanKey == null || isTopLevel) {
+      return null;
+    }
+    String fingerprint = (String) frame.evaluate(PartialResultCache.FINGERPRINT_FUNCTION);
+    return PartialResultCache.key(fingerprint, cacheScanKey, context);
+  }
+
+  private void cachePartial(String cacheKey, String result) {
+    if (cacheKey != null && result != null) {
+      partialResultCache.put(cacheKey, result);
+    }
+  }
+
+  // Note: axe.run pre 4.3 (no runPartial / finishRun)
+  private String run(String axeContext, String axeOptions) {
+    // inject axe source into each iframe if legacyMode is not enabled
+    if (!legacyMode) {
+      long injectStart = System.nanoTime();
+      for (Frame frame : this.page.frames()) {
+        if (frame == page.mainFrame() && !initScriptMode()) {
+          // the main frame already has this scan's source, marked with its plain source id, so
+          // re-injecting it with the configured id would inject it twice on every scan
+          configureAxe(frame);
+        } else {
+          injectAxeSource(frame);
+        }
+      }
+      phaseFinished(ScanPhase.INJECT_AXE, 0, injectStart, -1);
+    }
+
+    long start = System.nanoTime();
+    String results =
+        (String)
+            page.evaluate(
+                "([axeContext, axeOptions, dropped]) => {"
+                    + "const context = JSON.parse(axeContext);"
+                    + "const options = JSON.parse(axeOptions);"
+                    + "return axe.run(context, options).then(res => {"
+                    + "  JSON.parse(dropped).forEach(key => { res[key] = []; });"
+                    + "  return JSON.stringify(res);"
+                    + "});"
+                    + "}",
+                Arrays.asList(axeContext, axeOptions, resultsProjection.getDroppedJson()));
+    phaseFinished(ScanPhase.RUN, 0, start, length(results));
+    return results;
+  }
+
+  private ArrayList<FrameContext> frameContexts(Frame frame, String context, int frameDepth) {
+    long start = System.nanoTime();
+    Object frameContextResult = getFrameContexts(frame, context);
+    ArrayList<FrameContext> frameContexts =
+        mapperFactory.convert(frameContextResult, new TypeReference<ArrayList<FrameContext>>() {});
+    phaseFinished(ScanPhase.FRAME_CONTEXTS, frameDepth, start, -1);
+    return frameContexts;
   }
 
   /**
@@ -431,6 +894,21 @@ public class AxeBuilder {
    *     frameContexts</a>
    */
   private Object getFrameContexts(Frame frame, String context) {
+    if (initScriptMode()) {
+      Object frameContexts =
+          frame.evaluate(
+              "([axeContext, sourceId]) => { "
+                  + "if (!window.axe || window.axe.__axeSourceId !== sourceId) { return null; }"
+                  + "const context = JSON.parse(axeContext);"
+                  + "return axe.utils.getFrameContexts(context)"
+                  + "}",
+              Arrays.asList(context, axeScript().getInitScriptSourceId()));
+      if (frameContexts != null) {
+        return frameContexts;
+      }
+      // the document was loaded before the init script was registered
+      injectAxeSource(frame);
+    }
     return frame.evaluate(
         "(axeContext) => { "
             + "const context = JSON.parse(axeContext);"
@@ -463,113 +941,237 @@ public class AxeBuilder {
    * Collects all the partial results (top window, child and then sibling frames)
    *
    * @param partialResults A list of all the partial results
-   * @return the final report of the analysis
+   * @return the final report of the analysis, as JSON
    * @see <a
    *     href="https://github.com/dequelabs/axe-core/blob/master/doc/run-partial.md#axefinishrunpartialresults-options-promise>axe-core
    *     runPartial</a>
    */
-  private Object finishRun(ArrayList<String> partialResults) {
+  private String finishRun(ArrayList<String> partialResults) {
+    if (finishRunner != null) {
+      return finishRunWithRunner(partialResults);
+    }
     Browser browser = page.context().browser();
-    Page blankPage = browser.newPage();
-    blankPage.evaluate(getAxeScript() + getAxeConfigure(hasRunPartial));
+    boolean reuseFinisher = finisherPage != null && finisherPage.canFinish(browser);
+    long openStart = System.nanoTime();
+    Page blankPage = reuseFinisher ? finisherPage.getPage() : browser.newPage();
+    phaseFinished(ScanPhase.OPEN_FINISHER, 0, openStart, -1);
+    AxeScript script = axeScript();
+    long injectStart = System.nanoTime();
+    evaluateAxeSource(
+        blankPage.mainFrame(),
+        script.getConfiguredSource(hasRunPartial, legacyMode),
+        script.getConfiguredSourceId(hasRunPartial, legacyMode),
+        reuseFinisher);
+    phaseFinished(ScanPhase.INJECT_AXE, 0, injectStart, -1);
+    if (reuseFinisher) {
+      // drop anything left over from a scan that failed part way through
+      blankPage.evaluate("() => { delete window.partialResults; }");
+    }
 
     storePartialResults(blankPage, partialResults);
 
-    Object results;
+    String results;
 
+    long finishStart = System.nanoTime();
     try {
       results =
-          blankPage.evaluate(
-              "() => {"
-                  + "const partialResults = JSON.parse(window.partialResults || '[]');"
-                  + "return axe.finishRun(partialResults);"
-                  + "}");
+          (String)
+              blankPage.evaluate(
+                  "(dropped) => {"
+                      + "const partialResults = JSON.parse(window.partialResults || '[]');"
+                      + "delete window.partialResults;"
+                      + "return axe.finishRun(partialResults).then(res => {"
+                      + "  JSON.parse(dropped).forEach(key => { res[key] = []; });"
+                      + "  return JSON.stringify(res);"
+                      + "});"
+                      + "}",
+                  resultsProjection.getDroppedJson());
     } catch (RuntimeException runtimeException) {
       throw new RuntimeException(
           "Please make sure popups are not disabled. Please see: https://github.com/dequelabs/axe-core-maven-html/blob/develop/playwright/error-handling.md",
           runtimeException);
     } finally {
-      blankPage.close();
+      if (!reuseFinisher) {
+        blankPage.close();
+      }
     }
+    phaseFinished(ScanPhase.FINISH_RUN, 0, finishStart, length(results));
+    return results;
+  }
+
+  private String finishRunWithRunner(ArrayList<String> partialResults) {
+    long start = System.nanoTime();
+    String results;
+    try {
+      results = finishRunner.finishRun(partialResults);
+    } catch (RuntimeException runtimeException) {
+      throw runtimeException;
+    } catch (InterruptedException interruptedException) {
+      // keep the interrupt, so that a pooled scan being cancelled stops
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(interruptedException);
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
+    }
+    phaseFinished(ScanPhase.FINISH_RUN, 0, start, length(results));
     return results;
   }
 
   /**
-   * Serializes and chunks partial results to send to the browser. This is done because webdriver
-   * has a maximum size for arguments.
+   * Sends partial results to the browser in chunks. This is done because the driver has a maximum
+   * size for arguments.
    */
   private void storePartialResults(Page blankPage, ArrayList<String> partialResults) {
-    // partialResults is a list of result objects, so we can build a JSON array easily with
-    // appending strings
-    StringJoiner sj = new StringJoiner(",", "[", "]");
-    for (String pr : partialResults) {
-      sj.add(pr);
-    }
-    String partialResString = sj.toString();
-
-    int sizeLimit = 20_000_000;
-    while (!partialResString.isEmpty()) {
-      int chunkSize = sizeLimit;
-      if (chunkSize > partialResString.length()) {
-        chunkSize = partialResString.length();
-      }
-      String chunk = partialResString.substring(0, chunkSize);
-      partialResString = partialResString.substring(chunkSize);
-      blankPage.evaluate(
-          "(chunk) => {"
-              + "window.partialResults ??= '';"
-              + "window.partialResults += chunk;"
-              + "}",
-          chunk);
-    }
+    // partialResults is a list of result objects, so the chunks joined up in the browser are a
+    // JSON array of them
+    PartialResultsChunker.forEachChunk(
+        partialResults,
+        partialResultsChunkSize,
+        chunk -> {
+          long start = System.nanoTime();
+          blankPage.evaluate(
+              "(chunk) => {"
+                  + "window.partialResults ??= '';"
+                  + "window.partialResults += chunk;"
+                  + "}",
+              chunk);
+          phaseFinished(ScanPhase.SEND_PARTIAL_RESULTS, 0, start, chunk.length());
+        });
   }
 
   private boolean hasRunPartial(Page page) {
     return (boolean) page.evaluate("typeof window.axe.runPartial === 'function'");
   }
 
-  private String getAxeConfigure(boolean hasRunPartial) {
-    final String origins =
-        !this.legacyMode && !hasRunPartial ? "'<unsafe_all_origins>'" : "'<same_origin>'";
-
-    return String.format(
-        ";axe.configure({"
-            + "allowedOrigins: [%s], "
-            + "branding: { application: 'PlaywrightJava'}"
-            + "});",
-        origins);
+  private void injectAxeSource(Frame frame) {
+    try {
+      AxeScript script = axeScript();
+      if (initScriptMode()) {
+        evaluateAxeSource(
+            frame, script.getInitScriptSource(), script.getInitScriptSourceId(), true);
+      } else {
+        evaluateAxeSource(
+            frame,
+            script.getConfiguredSource(hasRunPartial, legacyMode),
+            script.getConfiguredSourceId(hasRunPartial, legacyMode),
+            injectIfAbsent);
+      }
+    } catch (RuntimeException runtimeException) {
+      throw new RuntimeException("Unable to inject axe-source.", runtimeException);
+    }
   }
 
-  private void injectAxeSource(Frame frame) {
+  private void configureAxe(Frame frame) {
     try {
-      frame.evaluate(getAxeScript() + getAxeConfigure(hasRunPartial));
+      frame.evaluate(axeScript().getConfigureCall(hasRunPartial, legacyMode));
     } catch (RuntimeException runtimeException) {
       throw new RuntimeException("Unable to inject axe-source.", runtimeException);
     }
   }
 
-  // get the axe-script from node_modules
-  public static String getAxeScript() {
-    URL axeUrl = AxeBuilder.class.getResource("/axe.min.js");
-    String axeSource = "";
-    if (axeUrl != null) {
-      try {
-        axeSource = IOUtils.toString(axeUrl.openStream(), StandardCharsets.UTF_8);
-      } catch (IOException ioException) {
-        throw new RuntimeException(
-            "Unable to fetch node_modules/axe.min.js from resources.", ioException);
+  private void evaluateAxeSource(Frame frame, String source, String sourceId, boolean ifAbsent) {
+    if (ifAbsent
+        && (boolean)
+            frame.evaluate(
+                "(sourceId) => !!window.axe && window.axe.__axeSourceId === sourceId", sourceId)) {
+      return;
+    }
+    frame.evaluate(source);
+    if (ifAbsent) {
+      frame.evaluate(
+          "(sourceId) => { if (window.axe) { window.axe.__axeSourceId = sourceId; } }", sourceId);
+    }
+  }
+
+  private void phaseFinished(ScanPhase phase, int frameDepth, long startNanos, long payloadLength) {
+    scanListener.phaseFinished(phase, frameDepth, System.nanoTime() - startNanos, payloadLength);
+  }
+
+  private static long length(String payload) {
+    return payload != null ? payload.length() : -1;
+  }
+
+  private boolean initScriptMode() {
+    return useInitScript && !legacyMode;
+  }
+
+  private void registerInitScript(AxeScript script) {
+    BrowserContext browserContext = page.context();
+    String sourceId = script.getInitScriptSourceId();
+    synchronized (initScripts) {
+      if (!initScripts.computeIfAbsent(browserContext, key -> new HashSet<>()).add(sourceId)) {
+        return;
       }
     }
-    return axeSource;
+    try {
+      browserContext.addInitScript(script.getInitScriptSource());
+    } catch (RuntimeException runtimeException) {
+      synchronized (initScripts) {
+        initScripts.get(browserContext).remove(sourceId);
+      }
+      throw runtimeException;
+    }
+  }
+
+  // get the axe-script from node_modules
+  public static String getAxeScript() {
+    return AxeScript.embedded().getSource();
+  }
+
+  private AxeScript axeScript() {
+    return axeScript != null ? axeScript : AxeScript.embedded();
   }
 
   private <T> String serialize(final T obj) {
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-      return mapper.writeValueAsString(obj);
-    } catch (JsonProcessingException jsonProcessingException) {
-      throw new IllegalArgumentException("Unable to serialize object.", jsonProcessingException);
+    return mapperFactory.serialize(obj);
+  }
+
+  private ScanSpec scanSpec() {
+    ScanSpec spec = scanSpec;
+    if (spec == null) {
+      // nothing was configured, so there is nothing the caller could change afterwards
+      spec = newScanSpec();
+      scanSpec = spec;
+    }
+    return spec;
+  }
+
+  private ScanSpec newScanSpec() {
+    return new ScanSpec(serialize(this.context), serialize(this.options));
+  }
+
+  /**
+   * The context and options of a scan, serialized when the builder is configured and reused for
+   * every frame and every analyze() until the builder's context or options change
+   */
+  private static final class ScanSpec {
+    private final String context;
+    private final String options;
+
+    private ScanSpec(String context, String options) {
+      this.context = context;
+      this.options = options;
+    }
+  }
+
+  /** A frame visited by runPartialConcurrent, in traversal order. */
+  private static final class PartialFrame {
+    private final Frame frame;
+    private final int frameDepth;
+    /** System.nanoTime() when runPartial was started in the frame. */
+    private long started;
+    /** the key of the frame's partial result in the cache, or null if it is not cached. */
+    private String cacheKey;
+
+    private String result;
+    private boolean failed;
+    private RuntimeException error;
+    /** index after the last of this frame's child frames in the traversal order. */
+    private int end;
+
+    private PartialFrame(Frame frame, int frameDepth) {
+      this.frame = frame;
+      this.frameDepth = frameDepth;
     }
   }
 
@@ -0,0 +1,306 @@
+package com.deque.html.axecore.playwright;
+
+import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.utilities.ScanResult;
+import com.deque.html.axecore.utilities.ScanStats;
+import com.deque.html.axecore.utilities.ScanStatsRecorder;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Scans many URLs at once on a fixed number of worker threads. Playwright objects may only be used
+ * by the thread that created them, so each worker owns its own Playwright instance and Browser,
+ * launched on the worker's thread, and scans each URL in a new, isolated BrowserContext. URLs are
+ * handed to the workers through a shared queue. A worker whose browser has crashed launches a new
+ * one before retrying.
+ *
+ * <pre>{@code
+ * try (AxeScanRunner runner =
+ *     new AxeScanRunner(playwright -> playwright.chromium().launch(), AxeBuilder::new)
+ *         .setWorkers(16)) {
+ *   runner.scan(urls, result -> report(result.getUrl(), result.getResults()));
+ *   System.out.println(runner.getStats());
+ * }
+ * }</pre>
+ *
+ * <p>Both functions are called on the worker threads, so they must be thread-safe. A scan that
+ * throws an Error is not retried, and its result holds the Error wrapped in an
+ * IllegalStateException.
+ */
+public class AxeScanRunner implements AutoCloseable {
+  private static final Task STOP = new Task(null, null);
+
+  private final Function<Playwright, Browser> browserLauncher;
+  private final Function<Page, AxeBuilder> builderFactory;
+  private int workers = 4;
+  private int maxRetries = 1;
+  private Browser.NewContextOptions contextOptions;
+
+  private final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+  private final List<Thread> threads = new ArrayList<>();
+  private volatile boolean closed = false;
+  private final ScanStatsRecorder stats = new ScanStatsRecorder();
+
+  /**
+   * Creates a scan runner. No threads or browsers are started until the first scan.
+   *
+   * @param browserLauncher launches a browser with a worker's Playwright instance
+   * @param builderFactory creates the AxeBuilder each URL's page is scanned with
+   */
+  public AxeScanRunner(
+      Function<Playwright, Browser> browserLauncher, Function<Page, AxeBuilder> builderFactory) {
+    this.browserLauncher = Objects.requireNonNull(browserLauncher, "browserLauncher");
+    this.builderFactory = Objects.requireNonNull(builderFactory, "builderFactory");
+  }
+
+  /**
+   * Set the number of worker threads, and so the number of browsers and of URLs scanned at once
+   *
+   * @param workers the number of workers. Defaults to 4.
+   * @return this
+   */
+  public synchronized AxeScanRunner setWorkers(int workers) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("workers must be at least 1.");
+    }
+    if (!threads.isEmpty()) {
+      throw new IllegalStateException("The workers cannot be changed once scanning has started.");
+    }
+    this.workers = workers;
+    return this;
+  }
+
+  /**
+   * Set how many times a URL is retried after its scan throws
+   *
+   * @param maxRetries the number of retries, 0 to not retry. Defaults to 1.
+   * @return this
+   */
+  public AxeScanRunner setMaxRetries(int maxRetries) {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries cannot be negative.");
+    }
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  /**
+   * Set the options each URL's browser context is created with
+   *
+   * @param contextOptions the context options, or null for the defaults
+   * @return this
+   */
+  public AxeScanRunner setContextOptions(Browser.NewContextOptions contextOptions) {
+    this.contextOptions = contextOptions;
+    return this;
+  }
+
+  /**
+   * Scans the URLs, passing each result to the consumer as soon as it completes. At most one URL
+   * per worker is taken from the iterable ahead of the results, so it can be a lazy source of any
+   * size. The consumer is called on the calling thread, in completion order. Returns once every URL
+   * has been scanned.
+   *
+   * @param urls the URLs to scan
+   * @param onResult receives the result of each URL
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a result
+   */
+  public void scan(Iterable<String> urls, Consumer<ScanResult<AxeResults>> onResult)
+      throws InterruptedException {
+    Objects.requireNonNull(onResult, "onResult");
+    startWorkers();
+    BlockingQueue<ScanResult<AxeResults>> results = new LinkedBlockingQueue<>();
+    int inFlight = 0;
+    for (String url : urls) {
+      if (inFlight == workers) {
+        onResult.accept(results.take());
+        inFlight--;
+      }
+      queue.add(new Task(url, results));
+      inFlight++;
+    }
+    while (inFlight > 0) {
+      onResult.accept(results.take());
+      inFlight--;
+    }
+  }
+
+  /**
+   * Scans the URLs, passing each result to the consumer as soon as it completes
+   *
+   * @param urls the URLs to scan
+   * @param onResult receives the result of each URL
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a result
+   * @see #scan(Iterable, Consumer)
+   */
+  public void scan(Stream<String> urls, Consumer<ScanResult<AxeResults>> onResult)
+      throws InterruptedException {
+    scan(urls::iterator, onResult);
+  }
+
+  /** @return a snapshot of the throughput and latency of the scans so far */
+  public ScanStats getStats() {
+    return stats.snapshot();
+  }
+
+  /**
+   * Lets the workers finish the URLs already handed to them, then closes their browsers and stops
+   * them. Closing more than once has no effect.
+   */
+  @Override
+  public void close() {
+    List<Thread> toJoin;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      toJoin = new ArrayList<>(threads);
+      for (int i = 0; i < toJoin.size(); i++) {
+        queue.add(STOP);
+      }
+    }
+    try {
+      for (Thread thread : toJoin) {
+        thread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    // a scan racing with close may have queued a URL after the workers stopped
+    Task task;
+    while ((task = queue.poll()) != null) {
+      if (task != STOP) {
+        task.results.add(
+            new ScanResult<>(
+                task.url,
+                null,
+                new IllegalStateException("The scan runner has been closed."),
+                0,
+                Duration.ZERO));
+      }
+    }
+  }
+
+  private synchronized void startWorkers() {
+    if (closed) {
+      throw new IllegalStateException("The scan runner has been closed.");
+    }
+    while (threads.size() < workers) {
+      Thread thread = new Thread(new Worker(), "axe-scan-" + (threads.size() + 1));
+      thread.setDaemon(true);
+      threads.add(thread);
+      thread.start();
+    }
+  }
+
+  /** A URL to scan, and where to put its result. */
+  private static final class Task {
+    private final String url;
+    private final BlockingQueue<ScanResult<AxeResults>> results;
+
+    private Task(String url, BlockingQueue<ScanResult<AxeResults>> results) {
+      this.url = url;
+      this.results = results;
+    }
+  }
+
+  /** Takes URLs from the queue and scans them with a Playwright instance of its own. */
+  private final class Worker implements Runnable {
+    private Playwright playwright;
+    private Browser browser;
+
+    @Override
+    public void run() {
+      try {
+        Task task;
+        while ((task = queue.take()) != STOP) {
+          task.results.add(scanUrl(task.url));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        closePlaywright();
+      }
+    }
+
+    private ScanResult<AxeResults> scanUrl(String url) {
+      long start = System.nanoTime();
+      AxeResults results = null;
+      RuntimeException error;
+      int attempts = 0;
+      while (true) {
+        attempts++;
+        BrowserContext context = null;
+        try {
+          Browser current = browser();
+          context =
+              contextOptions == null ? current.newContext() : current.newContext(contextOptions);
+          Page page = context.newPage();
+          page.navigate(url);
+          results = builderFactory.apply(page).analyze();
+          error = null;
+          break;
+        } catch (RuntimeException e) {
+          error = e;
+          if (attempts > maxRetries) {
+            break;
+          }
+          stats.recordRetry();
+        } catch (Throwable t) {
+          // an Error is not retried, but the scan still gets its result and the worker carries on
+          error = new IllegalStateException("Scan failed unexpectedly.", t);
+          break;
+        } finally {
+          closeQuietly(context);
+        }
+      }
+      long end = System.nanoTime();
+      stats.record(start, end, error != null);
+      return new ScanResult<>(url, results, error, attempts, Duration.ofNanos(end - start));
+    }
+
+    /** The worker's browser, launching a new one if there is none or it has crashed. */
+    private Browser browser() {
+      if (browser == null || !browser.isConnected()) {
+        closePlaywright();
+        playwright = Playwright.create();
+        browser = browserLauncher.apply(playwright);
+      }
+      return browser;
+    }
+
+    private void closePlaywright() {
+      if (playwright != null) {
+        try {
+          playwright.close();
+        } catch (RuntimeException ignored) {
+          // the driver is already gone
+        }
+        playwright = null;
+        browser = null;
+      }
+    }
+  }
+
+  private static void closeQuietly(BrowserContext context) {
+    if (context != null) {
+      try {
+        context.close();
+      } catch (RuntimeException ignored) {
+        // the browser is already gone
+      }
+    }
+  }
+}
@@ -0,0 +1,177 @@
+package com.deque.html.axecore.playwright;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Immutable holder for an axe-core source. The script, and the script followed by the {@code
+ * axe.configure} call for each allowed-origins mode, are built once and handed back as the same
+ * String instances on every call, so a scan does not re-read or re-concatenate the source per
+ * frame.
+ */
+public final class AxeScript {
+  private static final Object EMBEDDED_LOCK = new Object();
+  private static volatile AxeScript embedded;
+
+  private final String source;
+  private final String sourceId;
+  private final String evaluableSource;
+  private final String sameOriginConfigure;
+  private final String allOriginsConfigure;
+  private final String sameOriginSource;
+  private final String allOriginsSource;
+  private final String initScriptSourceId;
+  private final String initScriptSource;
+
+  private AxeScript(String source) {
+    this.source = source;
+    this.sourceId = Integer.toHexString(source.hashCode()) + ":" + source.length();
+    // this allows Playwright to run the script to be used later rather than invoking it instantly
+    // @see https://github.com/microsoft/playwright-java/issues/1070
+    this.evaluableSource = "() => {" + source + "}";
+    this.sameOriginConfigure = configure("'<same_origin>'");
+    this.allOriginsConfigure = configure("'<unsafe_all_origins>'");
+    this.sameOriginSource = source + sameOriginConfigure;
+    this.allOriginsSource = source + allOriginsConfigure;
+    // an init script runs before we know which axe-core version we have, so it picks the allowed
+    // origins the same way getConfiguredSource does, and marks itself for the injection probe
+    this.initScriptSourceId = sourceId + ":init";
+    this.initScriptSource =
+        source
+            + configure(
+                "typeof axe.runPartial === 'function' ? '<same_origin>' : '<unsafe_all_origins>'")
+            + "if (window.axe) { window.axe.__axeSourceId = '"
+            + initScriptSourceId
+            + "'; }";
+  }
+
+  /**
+   * Use a custom axe-core source
+   *
+   * @param source axe-core source
+   * @return the script holder
+   */
+  public static AxeScript of(String source) {
+    return new AxeScript(Objects.requireNonNull(source, "source"));
+  }
+
+  /**
+   * The axe-core source bundled as /axe.min.js. The resource is read on first use and the same
+   * instance is handed back from then on, until {@link #invalidateEmbedded()} is called.
+   *
+   * @return the script holder for the bundled axe-core
+   */
+  public static AxeScript embedded() {
+    AxeScript current = embedded;
+    if (current == null) {
+      synchronized (EMBEDDED_LOCK) {
+        current = embedded;
+        if (current == null) {
+          current = load(AxeScript.class.getResource("/axe.min.js"));
+          embedded = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Drops the loaded bundled source, so that the next {@link #embedded()} reads /axe.min.js again.
+   * Only needed after replacing the resource at runtime, as tests do
+   */
+  public static void invalidateEmbedded() {
+    synchronized (EMBEDDED_LOCK) {
+      embedded = null;
+    }
+  }
+
+  /** @return the axe-core source */
+  public String getSource() {
+    return source;
+  }
+
+  /** @return the axe-core source wrapped in a function body for {@code page.evaluate} */
+  String getEvaluableSource() {
+    return evaluableSource;
+  }
+
+  /** @return a short id identifying the axe-core source, used to probe whether it is injected */
+  String getSourceId() {
+    return sourceId;
+  }
+
+  /**
+   * A short id identifying the configured axe-core source for the builder's mode
+   *
+   * @param hasRunPartial whether axe-core supports runPartial
+   * @param legacyMode whether the builder runs in legacy mode
+   * @return the configured source id
+   */
+  String getConfiguredSourceId(boolean hasRunPartial, boolean legacyMode) {
+    return sourceId + (!legacyMode && !hasRunPartial ? ":all-origins" : ":same-origin");
+  }
+
+  /**
+   * The axe-core source followed by the axe.configure call the builder needs for its mode
+   *
+   * @param hasRunPartial whether axe-core supports runPartial
+   * @param legacyMode whether the builder runs in legacy mode
+   * @return the configured axe-core source
+   */
+  String getConfiguredSource(boolean hasRunPartial, boolean legacyMode) {
+    return !legacyMode && !hasRunPartial ? allOriginsSource : sameOriginSource;
+  }
+
+  /**
+   * Only the axe.configure call the builder needs for its mode, for a frame that already has this
+   * source
+   *
+   * @param hasRunPartial whether axe-core supports runPartial
+   * @param legacyMode whether the builder runs in legacy mode
+   * @return the axe.configure call
+   */
+  String getConfigureCall(boolean hasRunPartial, boolean legacyMode) {
+    return !legacyMode && !hasRunPartial ? allOriginsConfigure : sameOriginConfigure;
+  }
+
+  /** @return a short id identifying the init script source */
+  String getInitScriptSourceId() {
+    return initScriptSourceId;
+  }
+
+  /**
+   * The axe-core source configured for a non-legacy scan of either axe-core version, for {@code
+   * BrowserContext.addInitScript}. It marks the frame with {@link #getInitScriptSourceId()}.
+   *
+   * @return the init script source
+   */
+  String getInitScriptSource() {
+    return initScriptSource;
+  }
+
+  private static String configure(String origins) {
+    return String.format(
+        ";axe.configure({"
+            + "allowedOrigins: [%s], "
+            + "branding: { application: 'PlaywrightJava'}"
+            + "});",
+        origins);
+  }
+
+  static AxeScript load(URL axeUrl) {
+    String axeSource = "";
+    if (axeUrl != null) {
+      try (InputStream stream = axeUrl.openStream()) {
+        axeSource = IOUtils.toString(stream, StandardCharsets.UTF_8);
+      } catch (IOException ioException) {
+        throw new RuntimeException(
+            "Unable to fetch node_modules/axe.min.js from resources.", ioException);
+      }
+    }
+    return of(axeSource);
+  }
+}
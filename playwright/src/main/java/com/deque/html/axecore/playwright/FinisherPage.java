@@ -0,0 +1,69 @@
+package com.deque.html.axecore.playwright;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Page;
+import java.util.Objects;
+
+/**
+ * A blank page kept open so axe.finishRun can be run in it by many scans in the same browser.
+ * Opening it once saves creating, injecting axe into and closing a page on every scan. Close it
+ * when the scans are done, for example with try-with-resources.
+ *
+ * <pre>{@code
+ * try (FinisherPage finisher = FinisherPage.open(browser)) {
+ *   AxeBuilder axeBuilder = new AxeBuilder(page).setFinisherPage(finisher);
+ *   for (String url : urls) {
+ *     page.navigate(url);
+ *     axeBuilder.analyze();
+ *   }
+ * }
+ * }</pre>
+ */
+public final class FinisherPage implements AutoCloseable {
+  private final Browser browser;
+  private final Page page;
+
+  private FinisherPage(Browser browser, Page page) {
+    this.browser = browser;
+    this.page = page;
+  }
+
+  /**
+   * Opens a finisher page in its own browser context, as a page opened per scan would be
+   *
+   * @param browser the browser the scanned pages belong to
+   * @return the finisher page
+   */
+  public static FinisherPage open(Browser browser) {
+    Objects.requireNonNull(browser, "browser");
+    return new FinisherPage(browser, browser.newPage());
+  }
+
+  /** @return the page axe.finishRun is run in */
+  public Page getPage() {
+    return page;
+  }
+
+  /** @return whether the page can still be used, i.e. it has not been closed */
+  public boolean isOpen() {
+    return !page.isClosed();
+  }
+
+  /**
+   * Whether scans in the given browser can use this page
+   *
+   * @param scanBrowser the browser of the scanned page
+   * @return true if the page is open and belongs to the browser
+   */
+  boolean canFinish(Browser scanBrowser) {
+    return browser == scanBrowser && isOpen();
+  }
+
+  /** Closes the page and its browser context. Closing more than once has no effect. */
+  @Override
+  public void close() {
+    if (isOpen()) {
+      page.context().close();
+    }
+  }
+}
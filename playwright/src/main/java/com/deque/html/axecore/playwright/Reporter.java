@@ -1,8 +1,7 @@
 package com.deque.html.axecore.playwright;
 
 import com.deque.html.axecore.results.AxeResults;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deque.html.axecore.utilities.ObjectMapperFactory;
 import java.io.File;
 import java.io.IOException;
 
@@ -24,9 +23,7 @@ public class Reporter {
         throw new RuntimeException("Saving axe-results requires a .json file.");
       }
     }
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.writer(new DefaultPrettyPrinter());
-    objectMapper.writeValue(JSONFile, axeResults);
+    ObjectMapperFactory.getDefault().writer().writeValue(JSONFile, axeResults);
 
     return this;
   }
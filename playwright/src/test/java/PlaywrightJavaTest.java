@@ -1,14 +1,26 @@
 import static org.junit.Assert.*;
 
 import com.deque.html.axecore.args.AxeRuleOptions;
+import com.deque.html.axecore.args.AxeRunOnlyOptions;
 import com.deque.html.axecore.args.AxeRunOptions;
 import com.deque.html.axecore.args.FromFrames;
 import com.deque.html.axecore.args.FromShadowDom;
+import com.deque.html.axecore.graaljs.GraalFinishRunner;
 import com.deque.html.axecore.playwright.AxeBuilder;
+import com.deque.html.axecore.playwright.AxeScript;
+import com.deque.html.axecore.playwright.FinisherPage;
 import com.deque.html.axecore.playwright.Reporter;
 import com.deque.html.axecore.results.AxeResults;
 import com.deque.html.axecore.results.CheckedNode;
+import com.deque.html.axecore.results.ResultType;
 import com.deque.html.axecore.results.Rule;
+import com.deque.html.axecore.utilities.FinishRunner;
+import com.deque.html.axecore.utilities.InMemoryResultCache;
+import com.deque.html.axecore.utilities.MappedFileResultCache;
+import com.deque.html.axecore.utilities.PartialResultCache;
+import com.deque.html.axecore.utilities.ScanPhase;
+import com.deque.html.axecore.utilities.ScanTimingRecorder;
+import com.deque.html.axecore.utilities.ScanTimings;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserType;
@@ -25,6 +37,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.naming.OperationNotSupportedException;
@@ -59,6 +72,7 @@ public class PlaywrightJavaTest {
     URL currentSource = AxeBuilder.class.getResource("/axe.min.js");
 
     Files.write(Paths.get(currentSource.getPath()), oldSource.getBytes());
+    AxeScript.invalidateEmbedded();
 
     browser.close();
   }
@@ -91,16 +105,19 @@ public class PlaywrightJavaTest {
         Paths.get(axeUrl.toURI().getPath()),
         new String(Files.readAllBytes(Paths.get(source.getPath()))).getBytes(),
         StandardOpenOption.WRITE);
+    AxeScript.invalidateEmbedded();
   }
 
   private void overwriteAxeSourceWithString(String source) throws IOException, URISyntaxException {
     URL axeUrl = AxeBuilder.class.getResource("/axe.min.js");
     Files.write(Paths.get(axeUrl.toURI().getPath()), source.getBytes(), StandardOpenOption.WRITE);
+    AxeScript.invalidateEmbedded();
   }
 
   private void appendAxeSourceWithString(String source) throws IOException, URISyntaxException {
     URL axeUrl = AxeBuilder.class.getResource("/axe.min.js");
     Files.write(Paths.get(axeUrl.toURI().getPath()), source.getBytes(), StandardOpenOption.APPEND);
+    AxeScript.invalidateEmbedded();
   }
 
   private String downloadFromURL(String url) throws Exception {
@@ -208,6 +225,437 @@ public class PlaywrightJavaTest {
     assertEquals(axeResults.getViolations().get(0).getNodes().size(), 2);
   }
 
+  @Test
+  public void shouldReportFramesTestedWithFrameConcurrency() throws Exception {
+    page.navigate(server + "crash-parent.html");
+    String source = AxeBuilder.getAxeScript() + downloadFromURL(server + "axe-crasher.js");
+    overwriteAxeSourceWithString(source);
+
+    AxeBuilder axeBuilder =
+        new AxeBuilder(page)
+            .setFrameConcurrency(4)
+            .withRules(Arrays.asList("label", "frame-tested"));
+    AxeResults axeResults = axeBuilder.analyze();
+
+    assertEquals(axeResults.getIncomplete().get(0).getId(), "frame-tested");
+    assertEquals(axeResults.getIncomplete().get(0).getNodes().size(), 1);
+    assertEquals(axeResults.getViolations().get(0).getId(), "label");
+    assertEquals(axeResults.getViolations().get(0).getNodes().size(), 2);
+  }
+
+  @Test
+  public void returnsSameResultsWithFrameConcurrency() {
+    page.navigate(server + "nested-iframes.html");
+    AxeResults serialResults = new AxeBuilder(page).analyze();
+    AxeResults concurrentResults = new AxeBuilder(page).setFrameConcurrency(2).analyze();
+    AxeResults unboundedResults =
+        new AxeBuilder(page).setFrameConcurrency(Integer.MAX_VALUE).analyze();
+
+    concurrentResults.setTimestamp(serialResults.getTimestamp());
+    unboundedResults.setTimestamp(serialResults.getTimestamp());
+    ObjectMapper mapper = new ObjectMapper();
+    Map<String, Object> serial = mapper.convertValue(serialResults, Map.class);
+    assertEquals(serial, mapper.convertValue(concurrentResults, Map.class));
+    assertEquals(serial, mapper.convertValue(unboundedResults, Map.class));
+  }
+
+  @Test
+  public void returnsErrorWhenTopFrameFailsWithFrameConcurrency()
+      throws URISyntaxException, IOException {
+    page.navigate(server + "nested-iframes.html");
+    overwriteAxeSourceWithString(
+        AxeBuilder.getAxeScript()
+            + ";window.axe.runPartial = () => Promise.reject(new Error('boom'));");
+
+    AxeResults axeResults = new AxeBuilder(page).setFrameConcurrency(2).analyze();
+
+    assertTrue(axeResults.isErrored());
+  }
+
+  @Test
+  public void returnsSameResultsWithSmallPartialResultsChunks() {
+    page.navigate(server + "nested-iframes.html");
+    AxeResults defaultResults = new AxeBuilder(page).analyze();
+    AxeResults chunkedResults = new AxeBuilder(page).setPartialResultsChunkSize(1000).analyze();
+
+    chunkedResults.setTimestamp(defaultResults.getTimestamp());
+    ObjectMapper mapper = new ObjectMapper();
+    assertEquals(
+        mapper.convertValue(defaultResults, Map.class),
+        mapper.convertValue(chunkedResults, Map.class));
+  }
+
+  @Test
+  public void rejectsPartialResultsChunkSizeBelowOne() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new AxeBuilder(page).setPartialResultsChunkSize(0));
+  }
+
+  @Test
+  public void picksUpRuleChangesBetweenScans() {
+    page.navigate(server + "nested-iframes.html");
+    AxeBuilder axeBuilder = new AxeBuilder(page).withRules(Collections.singletonList("label"));
+
+    AxeResults labelResults = axeBuilder.analyze();
+    AxeResults sameResults = axeBuilder.analyze();
+    AxeResults regionResults = axeBuilder.withRules(Collections.singletonList("region")).analyze();
+
+    assertEquals("label", labelResults.getViolations().get(0).getId());
+    assertEquals(
+        labelResults.getViolations().get(0).getNodes().size(),
+        sameResults.getViolations().get(0).getNodes().size());
+    assertTrue(
+        regionResults.getViolations().stream().noneMatch(rule -> rule.getId().equals("label")));
+    assertTrue(regionResults.getPasses().stream().allMatch(rule -> rule.getId().equals("region")));
+  }
+
+  @Test
+  public void usesTheOptionsAsTheyWerePassedIn() {
+    page.navigate(server + "nested-iframes.html");
+    AxeRunOptions runOptions = new AxeRunOptions();
+    AxeRunOnlyOptions runOnly = new AxeRunOnlyOptions();
+    runOnly.setType("rule");
+    runOnly.setValues(Collections.singletonList("label"));
+    runOptions.setRunOnly(runOnly);
+    AxeBuilder axeBuilder = new AxeBuilder(page).options(runOptions);
+    runOnly.setValues(Collections.singletonList("region"));
+
+    AxeResults first = axeBuilder.analyze();
+    AxeResults second = axeBuilder.analyze();
+    AxeResults passedAgain = axeBuilder.options(runOptions).analyze();
+
+    assertEquals("label", first.getViolations().get(0).getId());
+    assertEquals("label", second.getViolations().get(0).getId());
+    assertTrue(
+        passedAgain.getViolations().stream().noneMatch(rule -> rule.getId().equals("label")));
+  }
+
+  @Test
+  public void reusesFinisherPageAcrossScans() {
+    page.navigate(server + "nested-iframes.html");
+    AxeScript countingAxe =
+        AxeScript.of(
+            AxeBuilder.getAxeScript()
+                + ";window.__axeInjections = (window.__axeInjections || 0) + 1;");
+    AxeResults expected =
+        new AxeBuilder(page).withRules(Collections.singletonList("label")).analyze();
+
+    try (FinisherPage finisher = FinisherPage.open(browser)) {
+      AxeBuilder axeBuilder =
+          new AxeBuilder(page)
+              .setAxeScript(countingAxe)
+              .setFinisherPage(finisher)
+              .withRules(Collections.singletonList("label"));
+      AxeResults first = axeBuilder.analyze();
+      AxeResults second = axeBuilder.analyze();
+
+      assertEquals(
+          expected.getViolations().get(0).getNodes().size(),
+          first.getViolations().get(0).getNodes().size());
+      assertEquals(
+          first.getViolations().get(0).getNodes().size(),
+          second.getViolations().get(0).getNodes().size());
+      assertTrue(finisher.isOpen());
+      assertEquals(1, finisher.getPage().evaluate("window.__axeInjections"));
+      assertEquals(false, finisher.getPage().evaluate("'partialResults' in window"));
+    }
+  }
+
+  @Test
+  public void fallsBackWhenFinisherPageIsClosed() {
+    page.navigate(server + "index.html");
+    FinisherPage finisher = FinisherPage.open(browser);
+    finisher.close();
+    finisher.close();
+
+    AxeResults axeResults = new AxeBuilder(page).setFinisherPage(finisher).analyze();
+
+    assertFalse(finisher.isOpen());
+    assertFalse(axeResults.isErrored());
+  }
+
+  @Test
+  public void fallsBackWhenFinisherPageIsInAnotherBrowser() {
+    page.navigate(server + "index.html");
+    try (Playwright otherPlaywright = Playwright.create()) {
+      Browser otherBrowser =
+          otherPlaywright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
+      FinisherPage finisher = FinisherPage.open(otherBrowser);
+
+      AxeResults axeResults = new AxeBuilder(page).setFinisherPage(finisher).analyze();
+
+      assertFalse(axeResults.isErrored());
+      assertEquals(false, finisher.getPage().evaluate("!!window.axe"));
+    }
+  }
+
+  @Test
+  public void finishesRunWithFinishRunner() {
+    page.navigate(server + "nested-iframes.html");
+    AxeResults expected =
+        new AxeBuilder(page).withRules(Collections.singletonList("label")).analyze();
+    List<Integer> partialResultCounts = new ArrayList<>();
+    AxeResults axeResults;
+    try (GraalFinishRunner graal = new GraalFinishRunner(AxeScript.embedded().getSource(), 1)) {
+      FinishRunner runner =
+          partialResults -> {
+            partialResultCounts.add(partialResults.size());
+            return graal.finishRun(partialResults);
+          };
+
+      axeResults =
+          new AxeBuilder(page)
+              .setFinishRunner(runner)
+              .withRules(Collections.singletonList("label"))
+              .analyze();
+    }
+
+    assertEquals(1, partialResultCounts.size());
+    assertEquals(1, page.context().pages().size());
+    assertEquals(
+        expected.getViolations().get(0).getNodes().size(),
+        axeResults.getViolations().get(0).getNodes().size());
+  }
+
+  @Test
+  public void projectsResultsInTheBrowser() {
+    page.navigate(server + "index.html");
+    AxeResults expected = new AxeBuilder(page).analyze();
+
+    AxeResults axeResults = new AxeBuilder(page).resultsProjection(ResultType.Violations).analyze();
+
+    assertEquals(expected.getViolations().size(), axeResults.getViolations().size());
+    assertFalse(expected.getPasses().isEmpty());
+    assertTrue(axeResults.getPasses().isEmpty());
+    assertTrue(axeResults.getInapplicable().isEmpty());
+    assertTrue(axeResults.getIncomplete().isEmpty());
+  }
+
+  @Test
+  public void projectsLegacyResultsInTheBrowser() {
+    page.navigate(server + "index.html");
+
+    AxeResults axeResults =
+        new AxeBuilder(page).setLegacyMode(true).resultsProjection(ResultType.Passes).analyze();
+
+    assertFalse(axeResults.getPasses().isEmpty());
+    assertTrue(axeResults.getViolations().isEmpty());
+    assertTrue(axeResults.getInapplicable().isEmpty());
+  }
+
+  @Test
+  public void projectsResultsOfAFinishRunner() {
+    page.navigate(server + "index.html");
+    AxeResults axeResults;
+    try (GraalFinishRunner runner = new GraalFinishRunner(AxeScript.embedded().getSource(), 1)) {
+      axeResults =
+          new AxeBuilder(page)
+              .setFinishRunner(runner)
+              .resultsProjection(ResultType.Violations)
+              .analyze();
+    }
+
+    assertFalse(axeResults.getViolations().isEmpty());
+    assertTrue(axeResults.getPasses().isEmpty());
+    assertTrue(axeResults.getInapplicable().isEmpty());
+  }
+
+  @Test
+  public void reportsTheTimingOfEachFrame() {
+    page.navigate(server + "nested-iframes.html");
+    for (int frameConcurrency : Arrays.asList(1, 4)) {
+      ScanTimingRecorder recorder = new ScanTimingRecorder();
+
+      new AxeBuilder(page)
+          .withRules(Collections.singletonList("label"))
+          .setFrameConcurrency(frameConcurrency)
+          .setScanListener(recorder)
+          .analyze();
+
+      ScanTimings timings = recorder.snapshot();
+      ScanTimings.Timing runPartial = timings.getPhase(ScanPhase.RUN_PARTIAL);
+      assertEquals(1, timings.getScans().getCount());
+      assertEquals(0, timings.getFailures());
+      assertEquals(timings.getPhase(ScanPhase.FRAME_CONTEXTS).getCount(), runPartial.getCount());
+      assertEquals(3, runPartial.getMaxFrameDepth());
+      assertTrue(runPartial.getPayloadMax() > 0);
+      assertEquals(1, timings.getPhase(ScanPhase.OPEN_FINISHER).getCount());
+      assertTrue(timings.getPhase(ScanPhase.SEND_PARTIAL_RESULTS).getCount() > 0);
+      assertEquals(1, timings.getPhase(ScanPhase.FINISH_RUN).getCount());
+      assertEquals(1, timings.getPhase(ScanPhase.READ_RESULTS).getCount());
+    }
+  }
+
+  @Test
+  public void reportsTheTimingOfLegacyAndFailedScans() {
+    page.navigate(server + "index.html");
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+
+    new AxeBuilder(page).setLegacyMode(true).setScanListener(recorder).analyze();
+    AxeBuilder failing =
+        new AxeBuilder(page)
+            .setScanListener(recorder)
+            .setFinishRunner(
+                partialResults -> {
+                  throw new IOException("no runtime");
+                });
+    assertThrows(RuntimeException.class, failing::analyze);
+    new AxeBuilder(page).setScanListener(recorder).setScanListener(null).analyze();
+
+    ScanTimings timings = recorder.snapshot();
+    assertEquals(2, timings.getScans().getCount());
+    assertEquals(1, timings.getFailures());
+    assertEquals(1, timings.getPhase(ScanPhase.RUN).getCount());
+    assertEquals(0, timings.getPhase(ScanPhase.FINISH_RUN).getCount());
+  }
+
+  @Test
+  public void reusesCachedFramePartialResults() {
+    page.navigate(server + "nested-iframes.html");
+    for (int frameConcurrency : Arrays.asList(1, 4)) {
+      PartialResultCache cache = new PartialResultCache(10_000_000, Duration.ofMinutes(5));
+      AxeBuilder builder =
+          new AxeBuilder(page)
+              .withRules(Collections.singletonList("label"))
+              .setFrameConcurrency(frameConcurrency)
+              .setPartialResultCache(cache);
+
+      AxeResults first = builder.analyze();
+      ScanTimingRecorder recorder = new ScanTimingRecorder();
+      AxeResults second = builder.setScanListener(recorder).analyze();
+
+      assertTrue(cache.getHits() > 0);
+      // only the top-level page is tested again
+      assertEquals(1, recorder.snapshot().getPhase(ScanPhase.RUN_PARTIAL).getCount());
+      assertEquals(
+          first.getViolations().get(0).getNodes().size(),
+          second.getViolations().get(0).getNodes().size());
+    }
+  }
+
+  @Test
+  public void retestsFramesWhoseDocumentChanged() {
+    page.navigate(server + "nested-iframes.html");
+    PartialResultCache cache = new PartialResultCache(10_000_000, Duration.ofMinutes(5));
+    AxeBuilder builder =
+        new AxeBuilder(page)
+            .withRules(Collections.singletonList("label"))
+            .setPartialResultCache(cache);
+    AxeResults first = builder.analyze();
+
+    page.frames().get(1).evaluate("document.body.appendChild(document.createElement('input'))");
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    AxeResults second = builder.setScanListener(recorder).analyze();
+
+    assertEquals(2, recorder.snapshot().getPhase(ScanPhase.RUN_PARTIAL).getCount());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size() + 1,
+        second.getViolations().get(0).getNodes().size());
+  }
+
+  @Test
+  public void reusesCachedResultsOfAnUnchangedPage() {
+    page.navigate(server + "index.html");
+    InMemoryResultCache cache = new InMemoryResultCache(10_000_000, Duration.ofMinutes(5));
+    AxeBuilder builder =
+        new AxeBuilder(page)
+            .withRules(Collections.singletonList("image-alt"))
+            .setResultCache(cache);
+    AxeResults first = builder.analyze();
+
+    page.reload();
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    AxeResults second = builder.setScanListener(recorder).analyze();
+
+    assertEquals(1, cache.getHits());
+    assertEquals(0, recorder.snapshot().getPhase(ScanPhase.INJECT_AXE).getCount());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+
+    page.evaluate("document.body.appendChild(document.createElement('img'))");
+    AxeResults third = builder.analyze();
+
+    assertEquals(2, cache.getMisses());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size() + 1,
+        third.getViolations().get(0).getNodes().size());
+  }
+
+  @Test
+  public void reusesResultsCachedOnDisk() throws IOException {
+    Path directory = Files.createTempDirectory("axe-result-cache");
+    page.navigate(server + "nested-iframes.html");
+    new AxeBuilder(page)
+        .setLegacyMode(true)
+        .setResultCache(new MappedFileResultCache(directory, 10_000_000, Duration.ofMinutes(5)))
+        .analyze();
+    AxeResults first =
+        new AxeBuilder(page)
+            .setResultCache(new MappedFileResultCache(directory, 10_000_000, Duration.ofMinutes(5)))
+            .analyze();
+
+    MappedFileResultCache reopened =
+        new MappedFileResultCache(directory, 10_000_000, Duration.ofMinutes(5));
+    AxeResults second = new AxeBuilder(page).setResultCache(reopened).analyze();
+
+    assertEquals(2, reopened.size());
+    assertEquals(1, reopened.getHits());
+    assertEquals(first.getPasses().size(), second.getPasses().size());
+    assertEquals(first.getViolations().size(), second.getViolations().size());
+  }
+
+  @Test
+  public void throwsWhenFinishRunnerFails() {
+    page.navigate(server + "index.html");
+    AxeBuilder axeBuilder =
+        new AxeBuilder(page)
+            .setFinishRunner(
+                partialResults -> {
+                  throw new IOException("no runtime");
+                });
+
+    RuntimeException exception = assertThrows(RuntimeException.class, axeBuilder::analyze);
+
+    assertTrue(exception.getMessage().contains("Axe finishRun failed."));
+  }
+
+  @Test
+  public void throwsWhenFinishRunnerThrowsUnchecked() {
+    page.navigate(server + "index.html");
+    AxeBuilder axeBuilder =
+        new AxeBuilder(page)
+            .setFinishRunner(
+                partialResults -> {
+                  throw new IllegalStateException("no runtime");
+                });
+
+    RuntimeException exception = assertThrows(RuntimeException.class, axeBuilder::analyze);
+
+    assertTrue(exception.getCause() instanceof IllegalStateException);
+  }
+
+  @Test
+  public void keepsTheInterruptWhenFinishRunnerIsInterrupted() {
+    page.navigate(server + "index.html");
+    AxeBuilder axeBuilder =
+        new AxeBuilder(page)
+            .setFinishRunner(
+                partialResults -> {
+                  throw new InterruptedException("waiting for a runtime");
+                });
+
+    assertThrows(RuntimeException.class, axeBuilder::analyze);
+
+    // clears the flag again for the other tests
+    assertTrue(Thread.interrupted());
+  }
+
+  @Test
+  public void rejectsFrameConcurrencyBelowOne() {
+    assertThrows(IllegalArgumentException.class, () -> new AxeBuilder(page).setFrameConcurrency(0));
+  }
+
   @Test
   public void throwsWhenInjectingProblematicSource() throws URISyntaxException, IOException {
     page.navigate(server + "index.html");
@@ -249,6 +697,7 @@ public class PlaywrightJavaTest {
     AxeBuilder normalRun = new AxeBuilder(page);
     URL current = AxeBuilder.class.getResource("/axe.min.js");
     Files.write(Paths.get(current.toURI()), oldSource.getBytes());
+    AxeScript.invalidateEmbedded();
     AxeResults normalResults = normalRun.analyze();
 
     // set timestamp and name of engine to match legacy to compare results
@@ -464,6 +913,128 @@ public class PlaywrightJavaTest {
     assertEquals(checkedNodes.get(3).getTarget(), Arrays.asList("#ifr-baz", "input"));
   }
 
+  @Test
+  public void injectIfAbsentSkipsFramesThatHaveAxe() {
+    page.navigate(server + "nested-iframes.html");
+    AxeScript countingAxe =
+        AxeScript.of(
+            AxeBuilder.getAxeScript()
+                + ";window.__axeInjections = (window.__axeInjections || 0) + 1;");
+
+    AxeBuilder axeBuilder =
+        new AxeBuilder(page)
+            .setAxeScript(countingAxe)
+            .setInjectIfAbsent(true)
+            .withRules(Collections.singletonList("label"));
+    AxeResults first = axeBuilder.analyze();
+    AxeResults second = axeBuilder.analyze();
+
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+    for (com.microsoft.playwright.Frame frame : page.frames()) {
+      assertEquals(1, frame.evaluate("window.__axeInjections"));
+    }
+  }
+
+  @Test
+  public void injectIfAbsentSkipsTheMainFrameOfAxeBefore43() throws Exception {
+    page.navigate(server + "nested-iframes.html");
+    AxeScript countingAxe =
+        AxeScript.of(
+            downloadFromURL(server + "axe-core@legacy.js")
+                + ";window.__axeInjections = (window.__axeInjections || 0) + 1;");
+
+    AxeBuilder axeBuilder =
+        new AxeBuilder(page)
+            .setAxeScript(countingAxe)
+            .setInjectIfAbsent(true)
+            .withRules(Collections.singletonList("label"));
+    AxeResults first = axeBuilder.analyze();
+    AxeResults second = axeBuilder.analyze();
+
+    assertEquals("4.2.3", second.getTestEngine().getVersion());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+    for (com.microsoft.playwright.Frame frame : page.frames()) {
+      assertEquals(1, frame.evaluate("window.__axeInjections"));
+    }
+  }
+
+  @Test
+  public void injectsEveryScanByDefault() {
+    page.navigate(server + "index.html");
+    AxeScript countingAxe =
+        AxeScript.of(
+            AxeBuilder.getAxeScript()
+                + ";window.__axeInjections = (window.__axeInjections || 0) + 1;");
+
+    AxeBuilder axeBuilder = new AxeBuilder(page).setAxeScript(countingAxe);
+    axeBuilder.analyze();
+    axeBuilder.analyze();
+
+    assertEquals(2, page.evaluate("window.__axeInjections"));
+  }
+
+  @Test
+  public void initScriptRegistersAxeOncePerContext() {
+    page.navigate(server + "nested-iframes.html");
+    AxeScript countingAxe =
+        AxeScript.of(
+            AxeBuilder.getAxeScript()
+                + ";window.__axeInjections = (window.__axeInjections || 0) + 1;");
+
+    AxeBuilder axeBuilder =
+        new AxeBuilder(page)
+            .setAxeScript(countingAxe)
+            .setUseInitScript(true)
+            .withRules(Collections.singletonList("label"));
+    AxeResults injected = axeBuilder.analyze();
+    page.reload();
+    AxeResults first = axeBuilder.analyze();
+    AxeResults second =
+        new AxeBuilder(page)
+            .setAxeScript(countingAxe)
+            .setUseInitScript(true)
+            .withRules(Collections.singletonList("label"))
+            .analyze();
+
+    assertEquals(
+        injected.getViolations().get(0).getNodes().size(),
+        first.getViolations().get(0).getNodes().size());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+    for (com.microsoft.playwright.Frame frame : page.frames()) {
+      assertEquals(1, frame.evaluate("window.__axeInjections"));
+    }
+  }
+
+  @Test
+  public void initScriptInjectsLazyLoadedIframes() {
+    AxeBuilder axeBuilder = new AxeBuilder(page).setUseInitScript(true);
+    page.navigate(server + "lazy-loaded-iframe.html");
+    axeBuilder.analyze();
+    page.reload();
+
+    AxeResults axeResults = axeBuilder.analyze();
+
+    assertNull(axeResults.getErrorMessage());
+    assertTrue(
+        getTargetIncomplete(axeResults).stream()
+            .anyMatch(target -> target.contains("#lazy-iframe")));
+  }
+
+  @Test
+  public void initScriptIsIgnoredInLegacyMode() {
+    page.navigate(server + "index.html");
+    new AxeBuilder(page).setUseInitScript(true).setLegacyMode(true).analyze();
+    page.reload();
+
+    assertEquals(false, page.evaluate("!!window.axe"));
+  }
+
   @Test
   public void injectsIntoNestedFrameSets() {
     page.navigate(server + "nested-frameset.html");
@@ -0,0 +1,140 @@
+package com.deque.html.axecore.playwright;
+
+import static org.junit.Assert.*;
+
+import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.utilities.ScanResult;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class AxeScanRunnerTest {
+  private final String server = "http://localhost:1337/";
+
+  private static final Function<Playwright, Browser> LAUNCHER =
+      playwright -> playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
+
+  @Test
+  public void shouldScanEveryUrlInIsolatedContexts() throws Exception {
+    List<String> urls =
+        Arrays.asList(
+            server + "index.html",
+            server + "nested-iframes.html",
+            server + "shadow-frames.html",
+            server + "index.html");
+    List<ScanResult<AxeResults>> scanResults = new ArrayList<>();
+
+    try (AxeScanRunner runner =
+        new AxeScanRunner(LAUNCHER, AxeBuilder::new)
+            .setWorkers(2)
+            .setContextOptions(new Browser.NewContextOptions().setViewportSize(800, 600))) {
+      runner.scan(urls, scanResults::add);
+
+      assertEquals(4, scanResults.size());
+      for (ScanResult<AxeResults> scanResult : scanResults) {
+        assertFalse(scanResult.isFailed());
+        assertEquals(1, scanResult.getAttempts());
+        assertFalse(scanResult.getResults().getViolations().isEmpty());
+      }
+      assertEquals(
+          urls.stream().sorted().collect(Collectors.toList()),
+          scanResults.stream().map(ScanResult::getUrl).sorted().collect(Collectors.toList()));
+      assertEquals(4, runner.getStats().getScans());
+      assertTrue(runner.getStats().getThroughput() > 0);
+    }
+  }
+
+  @Test
+  public void shouldRelaunchACrashedBrowser() throws Exception {
+    AtomicInteger builds = new AtomicInteger();
+    List<ScanResult<AxeResults>> scanResults = new ArrayList<>();
+
+    try (AxeScanRunner runner =
+        new AxeScanRunner(
+                LAUNCHER,
+                page -> {
+                  if (builds.incrementAndGet() == 1) {
+                    page.context().browser().close();
+                  }
+                  return new AxeBuilder(page);
+                })
+            .setWorkers(1)) {
+      runner.scan(Stream.of(server + "index.html"), scanResults::add);
+
+      assertFalse(scanResults.get(0).isFailed());
+      assertEquals(2, scanResults.get(0).getAttempts());
+      assertEquals(1, runner.getStats().getRetries());
+    }
+  }
+
+  @Test
+  public void shouldReportTheErrorOnceRetriesAreExhausted() throws Exception {
+    IllegalStateException failure = new IllegalStateException("no builder");
+    List<ScanResult<AxeResults>> scanResults = new ArrayList<>();
+
+    try (AxeScanRunner runner =
+        new AxeScanRunner(
+                LAUNCHER,
+                page -> {
+                  throw failure;
+                })
+            .setWorkers(1)
+            .setMaxRetries(0)) {
+      runner.scan(Collections.singletonList(server + "index.html"), scanResults::add);
+
+      assertTrue(scanResults.get(0).isFailed());
+      assertSame(failure, scanResults.get(0).getError());
+      assertNull(scanResults.get(0).getResults());
+      assertEquals(1, scanResults.get(0).getAttempts());
+      assertEquals(1, runner.getStats().getFailures());
+    }
+  }
+
+  @Test
+  public void shouldReportAnErrorAndKeepTheWorker() throws Exception {
+    AssertionError failure = new AssertionError("broken builder");
+    AtomicInteger builds = new AtomicInteger();
+    List<ScanResult<AxeResults>> scanResults = new ArrayList<>();
+
+    try (AxeScanRunner runner =
+        new AxeScanRunner(
+                LAUNCHER,
+                page -> {
+                  if (builds.incrementAndGet() == 1) {
+                    throw failure;
+                  }
+                  return new AxeBuilder(page);
+                })
+            .setWorkers(1)) {
+      runner.scan(Arrays.asList(server + "index.html", server + "index.html"), scanResults::add);
+
+      assertEquals(2, scanResults.size());
+      assertTrue(scanResults.get(0).isFailed());
+      assertSame(failure, scanResults.get(0).getError().getCause());
+      assertEquals(1, scanResults.get(0).getAttempts());
+      assertFalse(scanResults.get(1).isFailed());
+      assertEquals(1, runner.getStats().getFailures());
+    }
+  }
+
+  @Test
+  public void shouldRejectInvalidSettingsAndScansAfterClose() throws Exception {
+    AxeScanRunner runner = new AxeScanRunner(LAUNCHER, AxeBuilder::new);
+    assertThrows(IllegalArgumentException.class, () -> runner.setWorkers(0));
+    assertThrows(IllegalArgumentException.class, () -> runner.setMaxRetries(-1));
+
+    runner.scan(Collections.emptyList(), result -> {});
+    assertThrows(IllegalStateException.class, () -> runner.setWorkers(2));
+
+    runner.close();
+    runner.close();
+    assertThrows(
+        IllegalStateException.class, () -> runner.scan(Collections.emptyList(), result -> {}));
+  }
+}
@@ -0,0 +1,101 @@
+package com.deque.html.axecore.playwright;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AxeScriptTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void shouldPrecomputeConfiguredSources() {
+    AxeScript axeScript = AxeScript.of("var axe = {};");
+
+    assertEquals("var axe = {};", axeScript.getSource());
+    assertEquals("() => {var axe = {};}", axeScript.getEvaluableSource());
+    assertTrue(
+        axeScript
+            .getConfiguredSource(false, false)
+            .contains("allowedOrigins: ['<unsafe_all_origins>']"));
+    assertTrue(
+        axeScript.getConfiguredSource(true, false).contains("allowedOrigins: ['<same_origin>']"));
+    assertTrue(
+        axeScript.getConfiguredSource(false, true).contains("allowedOrigins: ['<same_origin>']"));
+    assertSame(
+        axeScript.getConfiguredSource(true, false), axeScript.getConfiguredSource(true, true));
+    assertEquals(
+        "var axe = {};" + axeScript.getConfigureCall(false, false),
+        axeScript.getConfiguredSource(false, false));
+    assertEquals(
+        "var axe = {};" + axeScript.getConfigureCall(true, false),
+        axeScript.getConfiguredSource(true, false));
+  }
+
+  @Test
+  public void shouldIdentifySourceAndMode() {
+    AxeScript axeScript = AxeScript.of("var axe = {};");
+
+    assertEquals(axeScript.getSourceId(), AxeScript.of("var axe = {};").getSourceId());
+    assertNotEquals(axeScript.getSourceId(), AxeScript.of("var axe = [];").getSourceId());
+    assertNotEquals(
+        axeScript.getConfiguredSourceId(false, false),
+        axeScript.getConfiguredSourceId(true, false));
+    assertEquals(
+        axeScript.getConfiguredSourceId(true, false), axeScript.getConfiguredSourceId(false, true));
+  }
+
+  @Test
+  public void shouldMarkInitScriptSource() {
+    AxeScript axeScript = AxeScript.of("var axe = {};");
+
+    assertTrue(axeScript.getInitScriptSource().startsWith("var axe = {};"));
+    assertTrue(axeScript.getInitScriptSource().contains(axeScript.getInitScriptSourceId()));
+    assertNotEquals(axeScript.getSourceId(), axeScript.getInitScriptSourceId());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void shouldRejectNullSource() {
+    AxeScript.of(null);
+  }
+
+  @Test
+  public void shouldShareEmbeddedScript() {
+    assertSame(AxeScript.embedded(), AxeScript.embedded());
+    assertSame(AxeScript.embedded().getSource(), AxeBuilder.getAxeScript());
+  }
+
+  @Test
+  public void shouldLoadEmptySourceWithoutResource() {
+    assertEquals("", AxeScript.load(null).getSource());
+  }
+
+  @Test
+  public void shouldLoadSourceFromUrl() throws Exception {
+    File file = temporaryFolder.newFile("axe.min.js");
+    Files.write(file.toPath(), "var axe = 1;".getBytes(StandardCharsets.UTF_8));
+
+    assertEquals("var axe = 1;", AxeScript.load(file.toURI().toURL()).getSource());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void shouldThrowWhenUrlCannotBeRead() throws Exception {
+    AxeScript.load(new File(temporaryFolder.getRoot(), "missing.js").toURI().toURL());
+  }
+
+  @Test
+  public void shouldReloadEmbeddedScriptOnceInvalidated() {
+    AxeScript before = AxeScript.embedded();
+
+    AxeScript.invalidateEmbedded();
+
+    AxeScript after = AxeScript.embedded();
+    assertNotSame(before, after);
+    assertEquals(before.getSource(), after.getSource());
+    assertSame(after, AxeScript.embedded());
+  }
+}
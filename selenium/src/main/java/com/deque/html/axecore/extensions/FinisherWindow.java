@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.extensions;
+
+import java.util.Objects;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * An about:blank window kept open so axe.finishRun can be run in it by many scans of the same
+ * driver. Opening it once saves opening, injecting axe into and closing a window on every scan.
+ * Close it when the scans are done, for example with try-with-resources.
+ *
+ * <pre>{@code
+ * try (FinisherWindow finisher = FinisherWindow.open(webDriver)) {
+ *   AxeBuilder axeBuilder = new AxeBuilder().setFinisherWindow(finisher);
+ *   for (String url : urls) {
+ *     webDriver.get(url);
+ *     axeBuilder.analyze(webDriver);
+ *   }
+ * }
+ * }</pre>
+ */
+public final class FinisherWindow implements AutoCloseable {
+  private final WebDriver webDriver;
+  private final String handle;
+  private volatile boolean closed = false;
+
+  private FinisherWindow(final WebDriver webDriver, final String handle) {
+    this.webDriver = webDriver;
+    this.handle = handle;
+  }
+
+  /**
+   * Opens a finisher window. Focus is returned to the window that was focused before.
+   *
+   * @param webDriver the driver the scans will use
+   * @return the finisher window
+   */
+  public static FinisherWindow open(final WebDriver webDriver) {
+    Objects.requireNonNull(webDriver, "webDriver");
+    BlankWindow blankWindow = WebDriverExtensions.openBlankWindow(webDriver);
+    try {
+      webDriver.switchTo().window(blankWindow.getPreviousHandle());
+    } catch (RuntimeException e) {
+      WebDriverExtensions.closeBlankWindow(webDriver, blankWindow);
+      throw e;
+    }
+    return new FinisherWindow(webDriver, blankWindow.getAboutBlankHandle());
+  }
+
+  /** @return the driver the window was opened in. */
+  public WebDriver getWebDriver() {
+    return webDriver;
+  }
+
+  /** @return the window handle of the finisher window. */
+  public String getHandle() {
+    return handle;
+  }
+
+  /** @return whether the window can still be used, i.e. it has not been closed. */
+  public boolean isOpen() {
+    return !closed;
+  }
+
+  /**
+   * Whether scans of the given driver can use this window.
+   *
+   * @param driver the driver of the scan
+   * @return true if the window is open and belongs to the driver
+   */
+  public boolean canFinish(final WebDriver driver) {
+    return !closed && webDriver == driver;
+  }
+
+  /**
+   * Switches the driver to the finisher window. If the window has been closed by someone else, it
+   * is marked closed and the exception is rethrown.
+   *
+   * @throws NoSuchWindowException if the window no longer exists
+   */
+  public void switchTo() {
+    try {
+      webDriver.switchTo().window(handle);
+    } catch (NoSuchWindowException e) {
+      closed = true;
+      throw e;
+    }
+  }
+
+  /**
+   * Closes the window and restores focus to the window that is focused now, or to any remaining
+   * window if the finisher itself is focused. Closing more than once has no effect.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    String currentHandle;
+    try {
+      currentHandle = webDriver.getWindowHandle();
+    } catch (RuntimeException e) {
+      currentHandle = handle;
+    }
+    WebDriverExtensions.closeBlankWindow(webDriver, new BlankWindow(currentHandle, handle));
+  }
+
+  @Override
+  public String toString() {
+    return "FinisherWindow{handle='" + handle + "', open=" + !closed + "}";
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.providers;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.naming.OperationNotSupportedException;
+
+/**
+ * Script provider that memoizes the script returned by another provider. The delegate is asked for
+ * the script lazily, at most once until {@link #invalidate()} is called, and every caller then
+ * receives the same String instance. Safe to share between threads.
+ */
+public class CachingAxeScriptProvider implements IAxeScriptProvider {
+  /** the provider the script is loaded from on a cache miss. */
+  private final IAxeScriptProvider delegate;
+
+  /** the cached script, or null if it has not been loaded yet. */
+  private volatile String script;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Wraps a provider in a cache.
+   *
+   * @param delegate the provider to load the script from
+   */
+  public CachingAxeScriptProvider(final IAxeScriptProvider delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  /**
+   * gets the script, loading it from the delegate on the first call.
+   *
+   * @return the cached script
+   * @throws OperationNotSupportedException if the delegate fails to provide the script
+   * @throws IOException if the delegate fails to read the script
+   */
+  public String getScript() throws OperationNotSupportedException, IOException {
+    String cached = script;
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+    synchronized (this) {
+      if (script == null) {
+        misses.incrementAndGet();
+        script = delegate.getScript();
+        return script;
+      }
+    }
+    hits.incrementAndGet();
+    return script;
+  }
+
+  /** Drops the cached script so the next {@link #getScript()} reloads it from the delegate. */
+  public void invalidate() {
+    synchronized (this) {
+      script = null;
+    }
+  }
+
+  /**
+   * gets the provider the script is loaded from.
+   *
+   * @return the wrapped provider
+   */
+  public IAxeScriptProvider getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * gets the number of calls served from the cache.
+   *
+   * @return the cache hit count
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * gets the number of calls that had to load the script from the delegate.
+   *
+   * @return the cache miss count
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+}
@@ -13,15 +13,43 @@
 package com.deque.html.axecore.providers;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import javax.naming.OperationNotSupportedException;
 import org.apache.commons.io.IOUtils;
 
-/** Class used to access embedded resources for accessibility. */
+/**
+ * Class used to access embedded resources for accessibility. The embedded axe.min.js is read once
+ * per class loader and shared by every instance; see {@link #getCache()}.
+ */
 public class EmbeddedResourceAxeProvider implements IAxeScriptProvider {
+  /** Process-wide cache of the embedded axe.min.js. */
+  private static final CachingAxeScriptProvider CACHE =
+      new CachingAxeScriptProvider(EmbeddedResourceAxeProvider::readResource);
+
   /** Reads the axe.min.js finder. */
   public String getScript() throws OperationNotSupportedException, IOException {
-    URL axeUrl = getClass().getResource("/axe.min.js");
-    return IOUtils.toString(axeUrl.openStream());
+    return CACHE.getScript();
+  }
+
+  /**
+   * gets the cache shared by all embedded resource providers, e.g. to read its hit/miss counts or
+   * to invalidate it after the resource has been replaced.
+   *
+   * @return the shared cache
+   */
+  public static CachingAxeScriptProvider getCache() {
+    return CACHE;
+  }
+
+  private static String readResource() throws IOException {
+    URL axeUrl = EmbeddedResourceAxeProvider.class.getResource("/axe.min.js");
+    if (axeUrl == null) {
+      throw new IOException("Unable to find axe.min.js in resources");
+    }
+    try (InputStream stream = axeUrl.openStream()) {
+      return IOUtils.toString(stream, StandardCharsets.UTF_8);
+    }
   }
 }
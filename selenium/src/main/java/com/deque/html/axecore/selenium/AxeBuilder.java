@@ -14,13 +14,24 @@ package com.deque.html.axecore.selenium;
 
 import com.deque.html.axecore.args.*;
 import com.deque.html.axecore.extensions.BlankWindow;
+import com.deque.html.axecore.extensions.FinisherWindow;
 import com.deque.html.axecore.extensions.WebDriverExtensions;
 import com.deque.html.axecore.extensions.WebDriverInjectorExtensions;
 import com.deque.html.axecore.providers.EmbeddedResourceAxeProvider;
 import com.deque.html.axecore.providers.IAxeScriptProvider;
 import com.deque.html.axecore.results.FrameContext;
+import com.deque.html.axecore.results.ResultType;
 import com.deque.html.axecore.results.Results;
 import com.deque.html.axecore.results.Rule;
+import com.deque.html.axecore.utilities.FinishRunner;
+import com.deque.html.axecore.utilities.ObjectMapperFactory;
+import com.deque.html.axecore.utilities.PartialResultCache;
+import com.deque.html.axecore.utilities.PartialResultsChunker;
+import com.deque.html.axecore.utilities.ResultCache;
+import com.deque.html.axecore.utilities.ResultsProjection;
+import com.deque.html.axecore.utilities.ScanListener;
+import com.deque.html.axecore.utilities.ScanPhase;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.text.SimpleDateFormat;
@@ -31,12 +42,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
-import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.openqa.selenium.InvalidArgumentException;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -66,13 +77,44 @@ public class AxeBuilder {
 
   private Consumer<WebDriver> injectAxeCallback;
   private boolean doNotInjectAxe = false;
+  private boolean injectIfAbsent = false;
+
+  /** window axe.finishRun is run in across scans, or null to open one per scan. */
+  private FinisherWindow finisherWindow = null;
+
+  /** runs axe.finishRun outside the browser, or null to run it in a window. */
+  private FinishRunner finishRunner = null;
+
+  /** maximum size, in characters, of each piece of the partial results sent to finishRun. */
+  private int partialResultsChunkSize = PartialResultsChunker.DEFAULT_CHUNK_SIZE;
+
+  /** the result types handed back, the others are emptied in the browser. */
+  private ResultsProjection resultsProjection = ResultsProjection.ALL;
+
+  /** told how long each phase of a scan takes. */
+  private ScanListener scanListener = ScanListener.NONE;
+
+  /** partial results of frames seen before, or null to run axe.runPartial in every frame. */
+  private PartialResultCache partialResultCache = null;
+
+  /** results of whole pages seen before, or null to scan every page. */
+  private ResultCache resultCache = null;
+
+  /** how the frames of a page are visited. */
+  private FrameTraversal frameTraversal = FrameTraversal.RECURSIVE;
 
   /** timeout of how the the scan should run until an error occurs. */
   private int timeout = 30; // 30 seconds as default.
 
   private Duration FRAME_LOAD_TIMEOUT = Duration.ofMillis(1000);
 
-  private final ObjectMapper objectMapper;
+  private final ObjectMapperFactory mapperFactory;
+
+  /** the run context and options serialized, rebuilt whenever either changes. */
+  private ScanSpec scanSpec;
+
+  /** whether the configuration can no longer be changed, see {@link #freeze()}. */
+  private boolean frozen = false;
 
   public final String axeRunScript =
       "var callback = arguments[arguments.length - 1];"
@@ -111,6 +153,21 @@ public class AxeBuilder {
   private static String shadowSelectScript =
       "return axe.utils.shadowSelect(JSON.parse(arguments[0]))";
 
+  /**
+   * axeRunScript for analyze, handing the results back as a JSON string to read straight into
+   * Results, with the dropped result types emptied.
+   */
+  private static String axeRunJsonScript =
+      "var callback = arguments[arguments.length - 1];"
+          + "var context = typeof arguments[0] === 'string' ? JSON.parse(arguments[0]) : arguments[0];"
+          + "context = context || document;"
+          + "var options = JSON.parse(arguments[1]);"
+          + "var dropped = JSON.parse(arguments[2]);"
+          + "axe.run(context, options).then(res => {"
+          + "  dropped.forEach(key => { res[key] = []; });"
+          + "  return JSON.stringify(res);"
+          + "}).then(callback)";
+
   private static String runPartialScript =
       "const context = typeof arguments[0] == 'string' ? JSON.parse(arguments[0]) : arguments[0];"
           + "const options = JSON.parse(arguments[1]);"
@@ -121,16 +178,48 @@ public class AxeBuilder {
           // finishRun
           "window.axe.runPartial(context, options).then(res => JSON.stringify(res)).then(cb);";
 
+  private static String fingerprintScript =
+      "return (" + PartialResultCache.FINGERPRINT_FUNCTION + ")();";
+
+  private static String visitFrameScript =
+      "const context = typeof arguments[0] == 'string' ? JSON.parse(arguments[0]) : arguments[0];"
+          + "const options = arguments[1] === null ? null : JSON.parse(arguments[1]);"
+          + "const cb = arguments[arguments.length - 1];"
+          + "const frames = !arguments[2] ? [] : window.axe.utils.getFrameContexts(context).map("
+          + "  fc => ({"
+          + "    context: JSON.stringify(fc.frameContext),"
+          + "    element: window.axe.utils.shadowSelect(fc.frameSelector) || null"
+          + "  }));"
+          + "const fingerprint = options === null ? ("
+          + PartialResultCache.FINGERPRINT_FUNCTION
+          + ")() : null;"
+          + "const run = options === null ? Promise.resolve(null)"
+          + "  : window.axe.runPartial(context, options).then(res => JSON.stringify(res));"
+          + "run.then(partialResult => cb({ partialResult, fingerprint, frames }));";
+
   private static String frameContextScript =
       "const context = typeof arguments[0] == 'string' ? JSON.parse(arguments[0]) : arguments[0];"
           + "return window.axe.utils.getFrameContexts(context);";
 
+  private static String axeSourceIdScript =
+      "return !!window.axe && window.axe.__axeSourceId === arguments[0];";
+
+  private static String markAxeSourceIdScript =
+      "if (window.axe) { window.axe.__axeSourceId = arguments[0]; }";
+
   private static String storeChunk =
       "window.partialResults ??= '';" + "window.partialResults += arguments[0];";
 
   private static String finishRunScript =
       "const partialResults = JSON.parse(window.partialResults || '[]');"
-          + "return axe.finishRun(partialResults);";
+          + "const dropped = JSON.parse(arguments[0] || '[]');"
+          + "delete window.partialResults;"
+          + "return axe.finishRun(partialResults).then(res => {"
+          + "  dropped.forEach(key => { res[key] = []; });"
+          + "  return JSON.stringify(res);"
+          + "});";
+
+  private static String clearPartialResultsScript = "delete window.partialResults;";
 
   /**
    * get the default axe builder options.
@@ -150,6 +239,7 @@ public class AxeBuilder {
    * @return an Axe Builder object
    */
   public AxeBuilder setAxeScriptProvider(IAxeScriptProvider axeProvider) {
+    checkNotFrozen();
     builderOptions.setScriptProvider(axeProvider);
     return this;
   }
@@ -170,6 +260,7 @@ public class AxeBuilder {
    * @return an Axe Builder object
    */
   public AxeBuilder setTimeout(final int newTimeout) {
+    checkNotFrozen();
     timeout = newTimeout;
     return this;
   }
@@ -200,14 +291,16 @@ public class AxeBuilder {
    * @param newOptions the options to be set
    */
   public void setOptions(final String newOptions) {
+    checkNotFrozen();
     this.options = newOptions;
+    scanSpec = newScanSpec();
   }
 
   /** Initialize an instance of AxeBuilder. */
   public AxeBuilder() {
     this.builderOptions = getDefaultAxeBuilderOptions();
 
-    this.objectMapper = new ObjectMapper();
+    this.mapperFactory = ObjectMapperFactory.getDefault();
   }
 
   /**
@@ -218,20 +311,88 @@ public class AxeBuilder {
   public AxeBuilder(final AxeBuilderOptions builderOptions) {
     validateNotNullParameter(builderOptions);
     this.builderOptions = builderOptions;
-    this.objectMapper = new ObjectMapper();
+    this.mapperFactory = ObjectMapperFactory.getDefault();
   }
 
   /**
    * Initialize an instance of AxeBuilder.
    *
    * @param builderOptions Builder options
-   * @param objectMapper Mapper to use when converting JSON
+   * @param objectMapper Mapper to use when converting JSON, for the context and options as well as
+   *     the results
    */
   public AxeBuilder(final AxeBuilderOptions builderOptions, final ObjectMapper objectMapper) {
     validateNotNullParameter(builderOptions);
     validateNotNullParameter(objectMapper);
 
-    this.objectMapper = objectMapper;
+    this.builderOptions = builderOptions;
+    this.mapperFactory = ObjectMapperFactory.of(objectMapper);
+  }
+
+  private AxeBuilder(
+      final AxeBuilderOptions builderOptions, final ObjectMapperFactory mapperFactory) {
+    this.builderOptions = builderOptions;
+    this.mapperFactory = mapperFactory;
+  }
+
+  /**
+   * Creates a builder with the same configuration, which can be changed without affecting this one.
+   * The copy of a frozen builder is not frozen. The finisher window, callbacks, scan listener and
+   * caches are shared.
+   *
+   * @return the copy
+   */
+  public AxeBuilder copy() {
+    AxeBuilderOptions copiedBuilderOptions = new AxeBuilderOptions();
+    copiedBuilderOptions.setScriptProvider(builderOptions.getScriptProvider());
+    AxeBuilder copy = new AxeBuilder(copiedBuilderOptions, mapperFactory);
+    copy.runContext = runContext.copy();
+    copy.runOptions = runOptions.copy();
+    copy.options = options;
+    copy.outputFilePath = outputFilePath;
+    copy.legacyMode = legacyMode;
+    copy.noSandbox = noSandbox;
+    copy.disableIframeTesting = disableIframeTesting;
+    copy.injectAxeCallback = injectAxeCallback;
+    copy.doNotInjectAxe = doNotInjectAxe;
+    copy.injectIfAbsent = injectIfAbsent;
+    copy.finisherWindow = finisherWindow;
+    copy.finishRunner = finishRunner;
+    copy.partialResultsChunkSize = partialResultsChunkSize;
+    copy.resultsProjection = resultsProjection;
+    copy.scanListener = scanListener;
+    copy.partialResultCache = partialResultCache;
+    copy.resultCache = resultCache;
+    copy.frameTraversal = frameTraversal;
+    copy.timeout = timeout;
+    copy.FRAME_LOAD_TIMEOUT = FRAME_LOAD_TIMEOUT;
+    copy.scanSpec = scanSpec;
+    return copy;
+  }
+
+  /**
+   * Creates a frozen copy of this builder, whose configuration cannot be changed. Its run context
+   * and options are serialized up front, so any number of threads can call analyze on it at once,
+   * each with its own WebDriver, with no per-call configuration work. Hand it to the other threads
+   * safely, for example through a final field or an executor. This builder is unaffected.
+   *
+   * @return the frozen copy
+   */
+  public AxeBuilder freeze() {
+    AxeBuilder frozenCopy = copy();
+    frozenCopy.scanSpec();
+    frozenCopy.frozen = true;
+    return frozenCopy;
+  }
+
+  /**
+   * gets whether the builder is frozen.
+   *
+   * @return true if the configuration cannot be changed
+   * @see #freeze()
+   */
+  public boolean isFrozen() {
+    return frozen;
   }
 
   /**
@@ -240,6 +401,7 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder withoutIframeSandboxes() {
+    checkNotFrozen();
     noSandbox = true;
     return this;
   }
@@ -250,21 +412,26 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder disableIframeTesting() {
+    checkNotFrozen();
     this.disableIframeTesting = true;
     return this;
   }
 
   /**
    * Run configuration data that is passed to axe for scanning the web page. This will override the
-   * value set by WithRules(string[]), WithTags(string[]) &amp; DisableRules(string[])
+   * value set by WithRules(string[]), WithTags(string[]) &amp; DisableRules(string[]). The options
+   * are serialized here and reused by every later scan, so changes made to them afterwards are
+   * ignored until they are passed in again.
    *
    * @param newRunOptions run options to be used for scanning.
    * @return an Axe Builder
    */
   public AxeBuilder withOptions(final AxeRunOptions newRunOptions) {
+    checkNotFrozen();
     validateNotNullParameter(newRunOptions);
     throwIfDeprecatedOptionsSet();
     this.runOptions = newRunOptions;
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -277,6 +444,7 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder withTags(final List<String> tags) {
+    checkNotFrozen();
     validateParameters(tags);
     throwIfDeprecatedOptionsSet();
     if (tags.isEmpty()) {
@@ -286,6 +454,7 @@ public class AxeBuilder {
     runOnlyOptions.setType("tag");
     runOnlyOptions.setValues(tags);
     this.runOptions.setRunOnly(runOnlyOptions);
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -298,6 +467,7 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder withOnlyRules(final List<String> rules) {
+    checkNotFrozen();
     validateParameters(rules);
     throwIfDeprecatedOptionsSet();
     if (rules.isEmpty()) {
@@ -307,6 +477,7 @@ public class AxeBuilder {
     onlyOptions.setType("rule");
     onlyOptions.setValues(rules);
     this.runOptions.setRunOnly(onlyOptions);
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -319,6 +490,7 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder withRules(final List<String> rules) {
+    checkNotFrozen();
     validateParameters(rules);
     throwIfDeprecatedOptionsSet();
     if (rules.isEmpty()) {
@@ -331,6 +503,7 @@ public class AxeBuilder {
       rulesMap.put(rule, ruleOptions);
     }
     this.runOptions.setRules(rulesMap);
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -343,6 +516,7 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder disableRules(final List<String> rules) {
+    checkNotFrozen();
     validateParameters(rules);
     throwIfDeprecatedOptionsSet();
     if (rules.isEmpty()) {
@@ -355,6 +529,7 @@ public class AxeBuilder {
       rulesMap.put(rule, ruleOptions);
     }
     this.runOptions.setRules(rulesMap);
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -369,11 +544,13 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder include(final List<String> selectors) {
+    checkNotFrozen();
     validateParameters(selectors);
     if (selectors.isEmpty()) {
       return this;
     }
     this.runContext.setInclude(selectors);
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -384,8 +561,10 @@ public class AxeBuilder {
    * @return this
    */
   public AxeBuilder include(String selector) {
+    checkNotFrozen();
     this.runContext.setInclude(selector);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -399,8 +578,10 @@ public class AxeBuilder {
    *     shadow DOM and frame context </a>
    */
   public AxeBuilder include(Object selector) {
+    checkNotFrozen();
     this.runContext.setInclude(selector);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -414,8 +595,10 @@ public class AxeBuilder {
    *     shadow DOM and frame context</a>
    */
   public AxeBuilder include(Object... selector) {
+    checkNotFrozen();
     this.runContext.setInclude(selector);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -429,8 +612,10 @@ public class AxeBuilder {
    *     </a>
    */
   public AxeBuilder include(FromFrames fromFrames) {
+    checkNotFrozen();
     this.runContext.setInclude(fromFrames);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -444,8 +629,10 @@ public class AxeBuilder {
    *     </a>
    */
   public AxeBuilder include(FromShadowDom fromShadowDom) {
+    checkNotFrozen();
     this.runContext.setInclude(fromShadowDom);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -457,11 +644,13 @@ public class AxeBuilder {
    * @return an Axe Builder
    */
   public AxeBuilder exclude(final List<String> selectors) {
+    checkNotFrozen();
     validateParameters(selectors);
     if (selectors.isEmpty()) {
       return this;
     }
     runContext.setExclude(selectors);
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -472,8 +661,10 @@ public class AxeBuilder {
    * @return this
    */
   public AxeBuilder exclude(String selector) {
+    checkNotFrozen();
     this.runContext.setExclude(selector);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -487,8 +678,10 @@ public class AxeBuilder {
    *     shadow DOM and frame context </a>
    */
   public AxeBuilder exclude(Object selector) {
+    checkNotFrozen();
     this.runContext.setExclude(selector);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -502,8 +695,10 @@ public class AxeBuilder {
    *     shadow DOM and frame context </a>
    */
   public AxeBuilder exclude(Object... selector) {
+    checkNotFrozen();
     this.runContext.setExclude(selector);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -517,8 +712,10 @@ public class AxeBuilder {
    *     </a>
    */
   public AxeBuilder exclude(FromFrames fromFrames) {
+    checkNotFrozen();
     this.runContext.setExclude(fromFrames);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -532,8 +729,10 @@ public class AxeBuilder {
    *     </a>
    */
   public AxeBuilder exclude(FromShadowDom fromShadowDom) {
+    checkNotFrozen();
     this.runContext.setExclude(fromShadowDom);
 
+    scanSpec = newScanSpec();
     return this;
   }
 
@@ -545,6 +744,7 @@ public class AxeBuilder {
    * @return an Axe builder
    */
   public AxeBuilder withOutputFile(final String path) {
+    checkNotFrozen();
     validateNotNullParameter(path);
     outputFilePath = path;
     return this;
@@ -558,6 +758,7 @@ public class AxeBuilder {
    */
   @Deprecated
   public AxeBuilder setLegacyMode() {
+    checkNotFrozen();
     return setLegacyMode(true);
   }
 
@@ -570,6 +771,7 @@ public class AxeBuilder {
    */
   @Deprecated
   public AxeBuilder setLegacyMode(final boolean state) {
+    checkNotFrozen();
     legacyMode = state;
     return this;
   }
@@ -580,6 +782,7 @@ public class AxeBuilder {
    * @param cb function that will inject axe-core into the page
    */
   public void setInjectAxe(Consumer<WebDriver> cb) {
+    checkNotFrozen();
     injectAxeCallback = cb;
   }
 
@@ -590,10 +793,151 @@ public class AxeBuilder {
    * @param stillInjectAxe whether or not to still inject axe
    */
   public void setInjectAxe(Consumer<WebDriver> cb, boolean stillInjectAxe) {
+    checkNotFrozen();
     injectAxeCallback = cb;
     doNotInjectAxe = !stillInjectAxe;
   }
 
+  /**
+   * Only inject axe into a frame when the frame does not already hold the same axe source from an
+   * earlier scan. Each frame is probed with a small script first, so repeated scans of the same
+   * document skip sending the axe source again.
+   *
+   * @param state Whether or not to skip injection when axe is already present.
+   * @return an Axe Builder
+   */
+  public AxeBuilder setInjectIfAbsent(final boolean state) {
+    checkNotFrozen();
+    injectIfAbsent = state;
+    return this;
+  }
+
+  /**
+   * Set the maximum size of each piece the partial results are sent to axe.finishRun in. The
+   * partial results are sent piece by piece, so at most one piece is held in memory at a time.
+   *
+   * @param chunkSize maximum size, in characters, of each piece. Defaults to 20,000,000.
+   * @return an Axe Builder
+   */
+  public AxeBuilder setPartialResultsChunkSize(final int chunkSize) {
+    checkNotFrozen();
+    partialResultsChunkSize = PartialResultsChunker.checkChunkSize(chunkSize);
+    return this;
+  }
+
+  /**
+   * Run axe.finishRun in a window that is kept open across scans, instead of opening and closing an
+   * about:blank window on every scan. axe is only injected into the window when it is not already
+   * there. Scans of a different driver, or after the window has been closed, fall back to opening a
+   * window per scan.
+   *
+   * @param finisherWindow the window from {@link FinisherWindow#open(WebDriver)}, or null
+   * @return an Axe Builder
+   */
+  public AxeBuilder setFinisherWindow(final FinisherWindow finisherWindow) {
+    checkNotFrozen();
+    this.finisherWindow = finisherWindow;
+    return this;
+  }
+
+  /**
+   * Run axe.finishRun with the given runner instead of in a browser window, for example with the
+   * graaljs module's GraalFinishRunner, which runs it in a JavaScript runtime embedded in the JVM.
+   * The runner is only given the partial results, and finishes them with its own axe source, so the
+   * script provider and the inject axe callback are not used for it. Takes precedence over {@link
+   * #setFinisherWindow(FinisherWindow)}.
+   *
+   * @param finishRunner the runner, or null to run axe.finishRun in a browser window
+   * @return an Axe Builder
+   */
+  public AxeBuilder setFinishRunner(final FinishRunner finishRunner) {
+    checkNotFrozen();
+    this.finishRunner = finishRunner;
+    return this;
+  }
+
+  /**
+   * Only hand back the given result types, for example only the violations. The other types are
+   * emptied in the browser before the results are serialized, so they are neither sent over the
+   * WebDriver connection nor parsed, which on most pages is the bulk of the results. Unlike {@link
+   * AxeRunOptions#setResultTypes(List)}, which only limits the nodes listed for each rule, the
+   * rules of the other types are dropped too. The partial results of each frame are still sent in
+   * full, since axe.finishRun needs them.
+   *
+   * @param resultTypes the result types to keep, or none to keep every type
+   * @return an Axe Builder
+   */
+  public AxeBuilder resultsProjection(final ResultType... resultTypes) {
+    checkNotFrozen();
+    this.resultsProjection = ResultsProjection.of(resultTypes);
+    return this;
+  }
+
+  /**
+   * Report how long each phase of every scan takes, such as injecting axe, runPartial in each frame
+   * and finishRun, along with the size of the JSON each phase moves and the depth of the frame it
+   * ran in. A {@link com.deque.html.axecore.utilities.ScanTimingRecorder} aggregates them into
+   * histograms.
+   *
+   * @param scanListener the listener, or null to stop reporting
+   * @return an Axe Builder
+   */
+  public AxeBuilder setScanListener(final ScanListener scanListener) {
+    checkNotFrozen();
+    this.scanListener = scanListener != null ? scanListener : ScanListener.NONE;
+    return this;
+  }
+
+  /**
+   * Reuse the partial results of frames that were tested before, such as third-party widgets that
+   * appear on every page, instead of running axe.runPartial in them again. Each frame below the
+   * top-level page is fingerprinted in the browser first, which costs a round trip per frame. See
+   * {@link PartialResultCache} for what the fingerprint does and does not see.
+   *
+   * @param partialResultCache the cache, which can be shared by several builders, or null to test
+   *     every frame
+   * @return an Axe Builder
+   */
+  public AxeBuilder setPartialResultCache(final PartialResultCache partialResultCache) {
+    checkNotFrozen();
+    this.partialResultCache = partialResultCache;
+    return this;
+  }
+
+  /**
+   * Reuse the results of pages that were scanned before with the same configuration and have not
+   * changed since, without injecting anything. The page is fingerprinted in the browser first,
+   * which costs a round trip per scan. Scans of WebElements, scans that do not inject axe
+   * themselves and scans with an inject callback, which can configure axe in ways the cache key
+   * does not see, are never cached, and errored results are not cached. See {@link ResultCache} for
+   * what the fingerprint does and does not see, such as frames and stylesheets.
+   *
+   * @param resultCache the cache, which can be shared by several builders, or null to scan every
+   *     page
+   * @return an Axe Builder
+   */
+  public AxeBuilder setResultCache(final ResultCache resultCache) {
+    checkNotFrozen();
+    this.resultCache = resultCache;
+    return this;
+  }
+
+  /**
+   * Set how the frames of a page are visited. {@link FrameTraversal#PLANNED} resolves each frame's
+   * children in the same script that runs axe.runPartial in it, and sends fewer commands on pages
+   * with many or deeply nested frames. A {@link ScanListener} is told how many commands each scan
+   * sent visiting frames.
+   *
+   * @param frameTraversal the traversal. Defaults to {@link FrameTraversal#RECURSIVE}.
+   * @return an Axe Builder
+   */
+  public AxeBuilder setFrameTraversal(final FrameTraversal frameTraversal) {
+    checkNotFrozen();
+    validateNotNullParameter(frameTraversal);
+    this.frameTraversal = frameTraversal;
+    return this;
+  }
+
   /**
    * Run axe against a specific WebElement or webElements (including its descendants).
    *
@@ -612,10 +956,7 @@ public class AxeBuilder {
    * @return An axe results document
    */
   public Results analyze(final WebDriver webDriver) {
-    boolean runContextHasData =
-        this.runContext.getInclude() != null || this.runContext.getExclude() != null;
-    String rawContext = runContextHasData ? AxeReporter.serialize(runContext) : "{ 'exclude': [] }";
-    return analyzeRawContext(webDriver, rawContext);
+    return analyzeRawContext(webDriver, scanSpec().rawContext);
   }
 
   /**
@@ -626,14 +967,11 @@ public class AxeBuilder {
    * @return An axe results document
    */
   public Results analyze(final WebDriver webDriver, boolean injectAxe) {
-    boolean runContextHasData =
-        this.runContext.getInclude() != null || this.runContext.getExclude() != null;
-    String rawContext = runContextHasData ? AxeReporter.serialize(runContext) : "{ 'exclude': [] }";
-    return analyzeRawContext(webDriver, rawContext);
+    return analyzeRawContext(webDriver, scanSpec().rawContext);
   }
 
   /**
-   * Runs axe via axeRunScript at a specific context, which will be passed as-is to Selenium for
+   * Runs axe via axeRunJsonScript at a specific context, which will be passed as-is to Selenium for
    * scan.js to interpret, and parses/handles the scan.js output per the current builder options.
    *
    * @param rawContextArg The value to pass as-is to scan.js to use as the axe.run "context"
@@ -643,16 +981,42 @@ public class AxeBuilder {
   private Results analyzeRawContext(final WebDriver webDriver, final Object rawContextArg) {
     validateNotNullParameter(webDriver);
 
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      String cacheKey = resultCacheKey(webDriver, rawContextArg);
+      String cached = cacheKey != null ? resultCache.get(cacheKey) : null;
+      if (cached != null) {
+        Results results = readResults(cached);
+        failed = false;
+        return results;
+      }
+      Results results = scan(webDriver, rawContextArg);
+      failed = results.isErrored();
+      if (cacheKey != null && !failed) {
+        resultCache.put(cacheKey, mapperFactory.serialize(results));
+      }
+      return results;
+    } finally {
+      scanListener.scanFinished(System.nanoTime() - start, failed);
+    }
+  }
+
+  private Results scan(final WebDriver webDriver, final Object rawContextArg) {
     if (noSandbox) {
+      long start = System.nanoTime();
       try {
         WebDriverInjectorExtensions.injectAsync(
             webDriver, sandboxBusterScript, disableIframeTesting);
       } catch (Exception e) {
         throw new RuntimeException("Error when removing sandbox from iframes", e);
       }
+      phaseFinished(ScanPhase.SANDBOX_BUSTING, 0, start, -1);
     }
 
+    long injectStart = System.nanoTime();
     injectAxe(webDriver);
+    phaseFinished(ScanPhase.INJECT_AXE, 0, injectStart, -1);
 
     boolean hasRunPartial =
         (Boolean) WebDriverInjectorExtensions.executeScript(webDriver, hasRunPartialScript);
@@ -694,6 +1058,26 @@ public class AxeBuilder {
     }
   }
 
+  private ScanSpec scanSpec() {
+    ScanSpec spec = scanSpec;
+    if (spec == null) {
+      // nothing was configured, so there is nothing the caller could change afterwards
+      spec = newScanSpec();
+      scanSpec = spec;
+    }
+    return spec;
+  }
+
+  private ScanSpec newScanSpec() {
+    boolean runContextHasData =
+        this.runContext.getInclude() != null || this.runContext.getExclude() != null;
+    String rawContext =
+        runContextHasData ? mapperFactory.serialize(runContext) : "{ 'exclude': [] }";
+    String rawOptions =
+        getOptions().equals("{}") ? mapperFactory.serialize(runOptions) : getOptions();
+    return new ScanSpec(rawContext, rawOptions);
+  }
+
   private Results buildErrorResults(Exception execpt) {
     // Formatted to match what you get if you run `new Date().toString()` in JS
     SimpleDateFormat df = new SimpleDateFormat("E MMM dd yyyy HH:mm:ss 'GMT'XX (zzzz)");
@@ -712,23 +1096,51 @@ public class AxeBuilder {
       final Object options,
       final Object context,
       final boolean isTopLevel,
-      final Stack<Object> frameStack) {
+      final Stack<Object> frameStack,
+      final String cacheScanKey,
+      final RoundTrips roundTrips) {
+    int frameDepth = frameStack.size();
+    roundTrips.frames++;
     if (!isTopLevel) {
-      injectAxe(webDriver);
+      long start = System.nanoTime();
+      roundTrips.commands += injectAxe(webDriver);
+      phaseFinished(ScanPhase.INJECT_AXE, frameDepth, start, -1);
     }
     String windowHandle = webDriver.getWindowHandle();
+    roundTrips.commands++;
 
     ArrayList<String> partialResults = new ArrayList<String>();
     try {
+      long frameContextsStart = System.nanoTime();
       Object fcResponse =
           WebDriverInjectorExtensions.executeScript(webDriver, frameContextScript, context);
+      roundTrips.commands++;
       ArrayList<FrameContext> contexts =
-          objectMapper.convertValue(fcResponse, new TypeReference<ArrayList<FrameContext>>() {});
-
-      String resResponse =
-          (String)
-              WebDriverInjectorExtensions.executeAsyncScript(
-                  webDriver, runPartialScript, context, options, frameStack);
+          mapperFactory.convert(fcResponse, new TypeReference<ArrayList<FrameContext>>() {});
+      phaseFinished(ScanPhase.FRAME_CONTEXTS, frameDepth, frameContextsStart, -1);
+
+      // the top-level page is never cached, as finishRun takes the url and time from its result
+      String cacheKey = null;
+      String resResponse = null;
+      if (cacheScanKey != null && !isTopLevel) {
+        String fingerprint =
+            (String) WebDriverInjectorExtensions.executeScript(webDriver, fingerprintScript);
+        roundTrips.commands++;
+        cacheKey = PartialResultCache.key(fingerprint, cacheScanKey, String.valueOf(context));
+        resResponse = partialResultCache.get(cacheKey);
+      }
+      if (resResponse == null) {
+        long runPartialStart = System.nanoTime();
+        resResponse =
+            (String)
+                WebDriverInjectorExtensions.executeAsyncScript(
+                    webDriver, runPartialScript, context, options, frameStack);
+        roundTrips.commands++;
+        phaseFinished(ScanPhase.RUN_PARTIAL, frameDepth, runPartialStart, length(resResponse));
+        if (cacheKey != null && resResponse != null) {
+          partialResultCache.put(cacheKey, resResponse);
+        }
+      }
       partialResults.add(resResponse);
       if (disableIframeTesting) {
         return partialResults;
@@ -736,11 +1148,12 @@ public class AxeBuilder {
 
       for (FrameContext fc : contexts) {
         try {
-          Object frameContext = AxeReporter.serialize(fc.getFrameContext());
-          Object frameSelector = AxeReporter.serialize(fc.getFrameSelector());
+          Object frameContext = mapperFactory.serialize(fc.getFrameContext());
+          Object frameSelector = mapperFactory.serialize(fc.getFrameSelector());
           Object frame =
               WebDriverInjectorExtensions.executeScript(
                   webDriver, shadowSelectScript, frameSelector);
+          roundTrips.commands++;
 
           if (frame instanceof String) {
             webDriver.switchTo().frame((String) frame);
@@ -752,17 +1165,23 @@ public class AxeBuilder {
             partialResults.add(null);
             continue;
           }
+          roundTrips.switched();
           frameStack.push(frameSelector);
 
           ArrayList<String> morePartialResults =
-              runPartialRecursive(webDriver, options, frameContext, false, frameStack);
+              runPartialRecursive(
+                  webDriver, options, frameContext, false, frameStack, cacheScanKey, roundTrips);
           partialResults.addAll(morePartialResults);
         } catch (org.openqa.selenium.TimeoutException e) {
+          // the switch that timed out
+          roundTrips.switched();
           webDriver.switchTo().window(windowHandle);
+          roundTrips.switched();
           for (Object frameSelector : frameStack) {
             Object frame =
                 WebDriverInjectorExtensions.executeScript(
                     webDriver, shadowSelectScript, frameSelector);
+            roundTrips.commands++;
             if (frame instanceof String) {
               webDriver.switchTo().frame((String) frame);
             } else if (frame instanceof WebElement) {
@@ -770,6 +1189,7 @@ public class AxeBuilder {
             } else if (frame instanceof Integer) {
               webDriver.switchTo().frame((Integer) frame);
             }
+            roundTrips.switched();
           }
           partialResults.add(null);
           continue;
@@ -788,6 +1208,124 @@ public class AxeBuilder {
     } finally {
       if (!isTopLevel) {
         webDriver.switchTo().parentFrame();
+        roundTrips.switched();
+      }
+    }
+  }
+
+  /**
+   * Visits a frame and then its children, as {@link FrameTraversal#PLANNED}. One script computes
+   * the frame contexts, resolves every child frame element and runs axe.runPartial, and the
+   * elements it resolved are the path back to this frame after a child times out.
+   */
+  @SuppressWarnings("unchecked")
+  private ArrayList<String> runPartialPlanned(
+      final WebDriver webDriver,
+      final Object options,
+      final Object context,
+      final boolean isTopLevel,
+      final List<WebElement> framePath,
+      final String windowHandle,
+      final String cacheScanKey,
+      final RoundTrips roundTrips) {
+    int frameDepth = framePath.size();
+    roundTrips.frames++;
+    if (!isTopLevel) {
+      long start = System.nanoTime();
+      roundTrips.commands += injectAxe(webDriver);
+      phaseFinished(ScanPhase.INJECT_AXE, frameDepth, start, -1);
+    }
+
+    ArrayList<String> partialResults = new ArrayList<String>();
+    try {
+      // the top-level page is never cached, as finishRun takes the url and time from its result,
+      // and a cached frame is fingerprinted in place of running axe.runPartial
+      boolean cached = cacheScanKey != null && !isTopLevel;
+      long visitStart = System.nanoTime();
+      Map<String, Object> visit =
+          (Map<String, Object>)
+              WebDriverInjectorExtensions.executeAsyncScript(
+                  webDriver,
+                  visitFrameScript,
+                  context,
+                  cached ? null : options,
+                  !disableIframeTesting);
+      roundTrips.commands++;
+
+      String resResponse;
+      if (cached) {
+        phaseFinished(ScanPhase.FRAME_CONTEXTS, frameDepth, visitStart, -1);
+        String cacheKey =
+            PartialResultCache.key(
+                (String) visit.get("fingerprint"), cacheScanKey, String.valueOf(context));
+        resResponse = partialResultCache.get(cacheKey);
+        if (resResponse == null) {
+          long runPartialStart = System.nanoTime();
+          resResponse =
+              (String)
+                  WebDriverInjectorExtensions.executeAsyncScript(
+                      webDriver, runPartialScript, context, options);
+          roundTrips.commands++;
+          phaseFinished(ScanPhase.RUN_PARTIAL, frameDepth, runPartialStart, length(resResponse));
+          if (resResponse != null) {
+            partialResultCache.put(cacheKey, resResponse);
+          }
+        }
+      } else {
+        resResponse = (String) visit.get("partialResult");
+        // the frame contexts are found in the same round trip
+        phaseFinished(ScanPhase.RUN_PARTIAL, frameDepth, visitStart, length(resResponse));
+      }
+      partialResults.add(resResponse);
+
+      for (Map<String, Object> child : (List<Map<String, Object>>) visit.get("frames")) {
+        Object frame = child.get("element");
+        if (!(frame instanceof WebElement)) {
+          partialResults.add(null);
+          continue;
+        }
+        framePath.add((WebElement) frame);
+        try {
+          webDriver.switchTo().frame((WebElement) frame);
+          roundTrips.switched();
+          partialResults.addAll(
+              runPartialPlanned(
+                  webDriver,
+                  options,
+                  child.get("context"),
+                  false,
+                  framePath,
+                  windowHandle,
+                  cacheScanKey,
+                  roundTrips));
+        } catch (org.openqa.selenium.TimeoutException e) {
+          // the switch that timed out
+          roundTrips.switched();
+          framePath.remove(framePath.size() - 1);
+          webDriver.switchTo().window(windowHandle);
+          roundTrips.switched();
+          for (WebElement ancestor : framePath) {
+            webDriver.switchTo().frame(ancestor);
+            roundTrips.switched();
+          }
+          partialResults.add(null);
+          continue;
+        }
+        framePath.remove(framePath.size() - 1);
+      }
+      return partialResults;
+    } catch (RuntimeException e) {
+      if (isTopLevel) {
+        throw e;
+      } else {
+        ArrayList<String> ret = new ArrayList<String>();
+        ret.add(null);
+        return ret;
+      }
+    } finally {
+      if (!isTopLevel) {
+        webDriver.switchTo().parentFrame();
+        roundTrips.switched();
       }
     }
   }
@@ -797,73 +1335,189 @@ public class AxeBuilder {
    * has a maximum size for arguments.
    */
   private void sendPartialResults(final WebDriver webDriver, ArrayList<String> partialResults) {
-    // partialResults is a list of result objects, so we can build a JSON array easily with
-    // appending strings
-    StringJoiner sj = new StringJoiner(",", "[", "]");
-    for (String pr : partialResults) {
-      sj.add(pr);
-    }
-    String partialResString = sj.toString();
-    int sizeLimit = 20_000_000;
-    while (!partialResString.isEmpty()) {
-      int chunkSize = sizeLimit;
-      if (chunkSize > partialResString.length()) {
-        chunkSize = partialResString.length();
-      }
-      String chunk = partialResString.substring(0, chunkSize);
-      partialResString = partialResString.substring(chunkSize);
-      WebDriverInjectorExtensions.executeScript(webDriver, storeChunk, chunk);
-    }
+    // partialResults is a list of result objects, so the chunks joined up in the browser are a
+    // JSON array of them
+    PartialResultsChunker.forEachChunk(
+        partialResults,
+        partialResultsChunkSize,
+        chunk -> {
+          long start = System.nanoTime();
+          WebDriverInjectorExtensions.executeScript(webDriver, storeChunk, chunk);
+          phaseFinished(ScanPhase.SEND_PARTIAL_RESULTS, 0, start, chunk.length());
+        });
   }
 
   private Results analyzePost43x(final WebDriver webDriver, final Object rawContextArg) {
-    String rawOptionsArg =
-        getOptions().equals("{}") ? AxeReporter.serialize(runOptions) : getOptions();
+    String rawOptionsArg = scanSpec().rawOptions;
+
+    String cacheScanKey = partialResultCache != null ? cacheScanKey(rawOptionsArg) : null;
 
+    RoundTrips roundTrips = new RoundTrips();
     ArrayList<String> partialResults;
     try {
-      partialResults =
-          runPartialRecursive(webDriver, rawOptionsArg, rawContextArg, true, new Stack<Object>());
+      if (frameTraversal == FrameTraversal.PLANNED) {
+        String windowHandle = webDriver.getWindowHandle();
+        roundTrips.commands++;
+        partialResults =
+            runPartialPlanned(
+                webDriver,
+                rawOptionsArg,
+                rawContextArg,
+                true,
+                new ArrayList<WebElement>(),
+                windowHandle,
+                cacheScanKey,
+                roundTrips);
+      } else {
+        partialResults =
+            runPartialRecursive(
+                webDriver,
+                rawOptionsArg,
+                rawContextArg,
+                true,
+                new Stack<Object>(),
+                cacheScanKey,
+                roundTrips);
+      }
     } catch (RuntimeException re) {
       if (re.getMessage().contains("Unable to inject axe script")) {
         throw re;
       }
       return buildErrorResults(re);
     }
+    scanListener.framesTraversed(roundTrips.frames, roundTrips.commands, roundTrips.switches);
 
+    if (finishRunner != null) {
+      return finishRunWithRunner(partialResults);
+    }
+    if (finisherWindow != null && finisherWindow.canFinish(webDriver)) {
+      String previousHandle = webDriver.getWindowHandle();
+      long start = System.nanoTime();
+      try {
+        finisherWindow.switchTo();
+      } catch (NoSuchWindowException e) {
+        // closed underneath us, open a window for this scan instead
+        return finishRunInBlankWindow(webDriver, partialResults);
+      }
+      phaseFinished(ScanPhase.OPEN_FINISHER, 0, start, -1);
+      return finishRunInFinisherWindow(webDriver, previousHandle, partialResults);
+    }
+    return finishRunInBlankWindow(webDriver, partialResults);
+  }
+
+  private Results finishRunInBlankWindow(
+      final WebDriver webDriver, final ArrayList<String> partialResults) {
+    long start = System.nanoTime();
     BlankWindow blankWindow = WebDriverExtensions.openBlankWindow(webDriver);
-    Object resResponse;
+    phaseFinished(ScanPhase.OPEN_FINISHER, 0, start, -1);
+    String resResponse;
     RuntimeException mainError = null;
     try {
+      long injectStart = System.nanoTime();
       injectAxe(webDriver);
+      phaseFinished(ScanPhase.INJECT_AXE, 0, injectStart, -1);
       sendPartialResults(webDriver, partialResults);
+      resResponse = finishRun(webDriver);
+    } catch (RuntimeException re) {
+      mainError = re;
+      throw re;
+    } finally {
       try {
-        resResponse = WebDriverInjectorExtensions.executeScript(webDriver, finishRunScript);
-      } catch (Exception e) {
-        throw new RuntimeException(
-            "axe.finishRun failed. Please check out https://github.com/dequelabs/axe-core-maven-html/blob/develop/selenium/error-handling.md",
-            e);
+        WebDriverExtensions.closeBlankWindow(webDriver, blankWindow);
+      } catch (RuntimeException cleanupError) {
+        if (mainError == null) {
+          throw cleanupError;
+        }
       }
+    }
+    return readResults(resResponse);
+  }
+
+  private Results finishRunInFinisherWindow(
+      final WebDriver webDriver,
+      final String previousHandle,
+      final ArrayList<String> partialResults) {
+    String resResponse;
+    RuntimeException mainError = null;
+    try {
+      long injectStart = System.nanoTime();
+      injectAxe(webDriver, true);
+      phaseFinished(ScanPhase.INJECT_AXE, 0, injectStart, -1);
+      // drop anything left over from a scan that failed part way through
+      WebDriverInjectorExtensions.executeScript(webDriver, clearPartialResultsScript);
+      sendPartialResults(webDriver, partialResults);
+      resResponse = finishRun(webDriver);
     } catch (RuntimeException re) {
       mainError = re;
       throw re;
     } finally {
       try {
-        WebDriverExtensions.closeBlankWindow(webDriver, blankWindow);
+        webDriver.switchTo().window(previousHandle);
       } catch (RuntimeException cleanupError) {
         if (mainError == null) {
           throw cleanupError;
         }
       }
     }
-    return objectMapper.convertValue(resResponse, Results.class);
+    return readResults(resResponse);
+  }
+
+  private Results finishRunWithRunner(final ArrayList<String> partialResults) {
+    String resResponse;
+    long start = System.nanoTime();
+    try {
+      resResponse = finishRunner.finishRun(partialResults);
+    } catch (InterruptedException e) {
+      // keep the interrupt, so that a pooled scan being cancelled stops
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("axe.finishRun was interrupted.", e);
+    } catch (Exception e) {
+      throw new RuntimeException(
+          "axe.finishRun failed. Please check out https://github.com/dequelabs/axe-core-maven-html/blob/develop/selenium/error-handling.md",
+          e);
+    }
+    phaseFinished(ScanPhase.FINISH_RUN, 0, start, length(resResponse));
+    return resultsProjection.apply(readResults(resResponse));
+  }
+
+  /**
+   * Reads the results axe serialized in the browser straight into Results, rather than having the
+   * driver build them as a map first.
+   */
+  private Results readResults(final String resResponse) {
+    long start = System.nanoTime();
+    Results results;
+    try {
+      results = mapperFactory.read(resResponse, Results.class);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Unable to parse the axe results.", e);
+    }
+    phaseFinished(ScanPhase.READ_RESULTS, 0, start, length(resResponse));
+    return results;
+  }
+
+  private String finishRun(final WebDriver webDriver) {
+    long start = System.nanoTime();
+    try {
+      String resResponse =
+          (String)
+              WebDriverInjectorExtensions.executeScript(
+                  webDriver, finishRunScript, resultsProjection.getDroppedJson());
+      phaseFinished(ScanPhase.FINISH_RUN, 0, start, length(resResponse));
+      return resResponse;
+    } catch (Exception e) {
+      throw new RuntimeException(
+          "axe.finishRun failed. Please check out https://github.com/dequelabs/axe-core-maven-html/blob/develop/selenium/error-handling.md",
+          e);
+    }
   }
 
   private Results analyzePre43x(final WebDriver webDriver, final Object rawContextArg) {
-    String rawOptionsArg =
-        getOptions().equals("{}") ? AxeReporter.serialize(runOptions) : getOptions();
-    Object[] rawArgs = new Object[] {rawContextArg, rawOptionsArg};
+    String rawOptionsArg = scanSpec().rawOptions;
+    Object[] rawArgs =
+        new Object[] {rawContextArg, rawOptionsArg, resultsProjection.getDroppedJson()};
 
+    long injectStart = System.nanoTime();
     try {
       WebDriverInjectorExtensions.inject(
           webDriver,
@@ -874,6 +1528,7 @@ public class AxeBuilder {
     } catch (Exception e) {
       throw new RuntimeException("Unable to inject axe script", e);
     }
+    phaseFinished(ScanPhase.INJECT_AXE, 0, injectStart, -1);
 
     try {
       boolean hasRunPartial =
@@ -888,22 +1543,42 @@ public class AxeBuilder {
       throw new RuntimeException("Error when enabling iframe communication", e);
     }
 
-    Object response = null;
+    String response;
+    long runStart = System.nanoTime();
     try {
-      response = ((JavascriptExecutor) webDriver).executeAsyncScript(axeRunScript, rawArgs);
+      response =
+          (String) ((JavascriptExecutor) webDriver).executeAsyncScript(axeRunJsonScript, rawArgs);
     } catch (JavascriptException je) {
       return buildErrorResults(je);
     }
+    phaseFinished(ScanPhase.RUN, 0, runStart, length(response));
 
-    Results results = objectMapper.convertValue(response, Results.class);
-    return results;
+    return readResults(response);
   }
 
-  private void injectAxe(final WebDriver webDriver) {
+  private int injectAxe(final WebDriver webDriver) {
+    return injectAxe(webDriver, injectIfAbsent);
+  }
+
+  /** @return the number of scripts run, not counting the inject callback's */
+  private int injectAxe(final WebDriver webDriver, final boolean ifAbsent) {
+    int scripts = 0;
     if (!doNotInjectAxe) {
       try {
-        WebDriverInjectorExtensions.executeScript(
-            webDriver, builderOptions.getScriptProvider().getScript());
+        String script = builderOptions.getScriptProvider().getScript();
+        if (!ifAbsent) {
+          WebDriverInjectorExtensions.executeScript(webDriver, script);
+          scripts = 1;
+        } else {
+          String sourceId = axeSourceId(script);
+          scripts = 1;
+          if (!(Boolean)
+              WebDriverInjectorExtensions.executeScript(webDriver, axeSourceIdScript, sourceId)) {
+            WebDriverInjectorExtensions.executeScript(webDriver, script);
+            WebDriverInjectorExtensions.executeScript(webDriver, markAxeSourceIdScript, sourceId);
+            scripts = 3;
+          }
+        }
       } catch (Exception e) {
         throw new RuntimeException("Unable to inject axe script", e);
       }
@@ -911,6 +1586,61 @@ public class AxeBuilder {
     if (injectAxeCallback != null) {
       injectAxeCallback.accept(webDriver);
     }
+    return scripts;
+  }
+
+  /** fingerprints the page before anything is injected, or gives null when it is not cached. */
+  private String resultCacheKey(final WebDriver webDriver, final Object rawContextArg) {
+    if (resultCache == null
+        || doNotInjectAxe
+        || injectAxeCallback != null
+        || !(rawContextArg instanceof String)) {
+      return null;
+    }
+    String script;
+    try {
+      script = builderOptions.getScriptProvider().getScript();
+    } catch (Exception e) {
+      throw new RuntimeException("Unable to inject axe script", e);
+    }
+    String fingerprint =
+        (String) WebDriverInjectorExtensions.executeScript(webDriver, fingerprintScript);
+    String mode =
+        legacyMode
+            + ","
+            + disableIframeTesting
+            + ","
+            + noSandbox
+            + ","
+            + resultsProjection.getDroppedJson();
+    return ResultCache.key(
+        fingerprint, axeSourceId(script), (String) rawContextArg, scanSpec().rawOptions, mode);
+  }
+
+  private String cacheScanKey(final String rawOptions) {
+    String script;
+    try {
+      script = builderOptions.getScriptProvider().getScript();
+    } catch (Exception e) {
+      throw new RuntimeException("Unable to inject axe script", e);
+    }
+    return PartialResultCache.scanKey(axeSourceId(script), rawOptions);
+  }
+
+  private static String axeSourceId(final String script) {
+    return Integer.toHexString(script.hashCode()) + ":" + script.length();
+  }
+
+  private void phaseFinished(
+      final ScanPhase phase,
+      final int frameDepth,
+      final long startNanos,
+      final long payloadLength) {
+    scanListener.phaseFinished(phase, frameDepth, System.nanoTime() - startNanos, payloadLength);
+  }
+
+  private static long length(final String payload) {
+    return payload != null ? payload.length() : -1;
   }
 
   /**
@@ -940,6 +1670,14 @@ public class AxeBuilder {
     }
   }
 
+  /** Exception that throws if the builder is frozen. */
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new IllegalStateException(
+          "This AxeBuilder is frozen. Use copy() to get one that can be changed.");
+    }
+  }
+
   /** Exception that throws if options is invalid. */
   private void throwIfDeprecatedOptionsSet() {
     if (!getOptions().equals("{}")) {
@@ -949,4 +1687,30 @@ public class AxeBuilder {
               + "- WithOptions/WithRules/WithTags or DisableRules");
     }
   }
+
+  /** The frames a scan visited and the WebDriver commands it sent to do so. */
+  private static final class RoundTrips {
+    private int frames = 0;
+    private int commands = 0;
+    private int switches = 0;
+
+    private void switched() {
+      commands++;
+      switches++;
+    }
+  }
+
+  /**
+   * The run context and options of a scan, serialized when the builder is configured and reused
+   * for every frame and every analyze until the builder's context or options change.
+   */
+  private static final class ScanSpec {
+    private final String rawContext;
+    private final String rawOptions;
+
+    private ScanSpec(final String rawContext, final String rawOptions) {
+      this.rawContext = rawContext;
+      this.rawOptions = rawOptions;
+    }
+  }
 }
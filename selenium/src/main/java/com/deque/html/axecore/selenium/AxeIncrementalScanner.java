@@ -0,0 +1,305 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import com.deque.html.axecore.extensions.WebDriverInjectorExtensions;
+import com.deque.html.axecore.results.CheckedNode;
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.results.Rule;
+import com.deque.html.axecore.utilities.ObjectMapperFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Re-scans only what changed on a page since the last scan, for single page apps that are scanned
+ * after every interaction. The first scan of a document is a full scan, and installs a
+ * MutationObserver in the page alongside axe. Later scans of the same document run axe only on the
+ * subtrees that changed, drop the earlier results for nodes in or removed from them, and merge in
+ * the fresh results. Scans where nothing changed return the earlier results without running axe.
+ * After a navigation, or a change in the document's head, the next scan is a full scan again.
+ *
+ * <pre>{@code
+ * AxeIncrementalScanner scanner = new AxeIncrementalScanner(new AxeBuilder().withTags(tags));
+ * Results results = scanner.analyze(webDriver);
+ * webDriver.findElement(By.id("open-dialog")).click();
+ * results = scanner.analyze(webDriver);
+ * }</pre>
+ *
+ * <p>The MutationObserver sees the top-level document only, not frames or shadow roots, and rules
+ * whose outcome depends on more than the changed subtrees, such as rules about the whole page or an
+ * element's descendants outside of them, keep their earlier results until the next full scan, see
+ * {@link #reset()}. The builder's include and exclude only apply to full scans. A scanner keeps the
+ * state of one page, so use one per WebDriver. Not thread-safe.
+ */
+public class AxeIncrementalScanner {
+  private static final String INSTALL_OBSERVER_SCRIPT =
+      "if (window.__axeMutations) { window.__axeMutations.observer.disconnect(); }"
+          + "const roots = new Set();"
+          + "const add = record => {"
+          + "  const target = record.target.nodeType === Node.ELEMENT_NODE"
+          + "    ? record.target : record.target.parentElement;"
+          + "  if (target) { roots.add(target); }"
+          + "};"
+          + "const observer = new MutationObserver(records => records.forEach(add));"
+          + "observer.observe(document,"
+          + "  { subtree: true, childList: true, attributes: true, characterData: true });"
+          + "window.__axeMutations = { id: arguments[0], roots, observer, add };";
+
+  private static final String TAKE_MUTATIONS_SCRIPT =
+      "const state = window.__axeMutations;"
+          + "if (!state || state.id !== arguments[0]) { return null; }"
+          + "state.observer.takeRecords().forEach(state.add);"
+          + "const changed = Array.from(state.roots).filter(el => el.isConnected);"
+          + "state.roots.clear();"
+          + "const roots = changed.filter("
+          + "  el => !changed.some(other => other !== el && other.contains(el)));"
+          // the head can change how the whole document is tested
+          + "if (roots.some(el => el === document.documentElement"
+          + "    || (document.head && document.head.contains(el)))) {"
+          + "  return null;"
+          + "}"
+          + "const stale = [];"
+          + "JSON.parse(arguments[1]).forEach((selector, index) => {"
+          + "  if (selector === null) { return; }"
+          + "  let el = null;"
+          + "  try { el = document.querySelector(selector); } catch (e) {}"
+          + "  if (!el || roots.some(root => root.contains(el))) { stale.push(index); }"
+          + "});"
+          + "return { roots, stale };";
+
+  private static final List<String> IMPACTS =
+      Arrays.asList("minor", "moderate", "serious", "critical");
+
+  private final AxeBuilder builder;
+  private String documentId;
+  private Results results;
+  private int fullScans = 0;
+  private int deltaScans = 0;
+
+  /**
+   * Creates a scanner.
+   *
+   * @param builder the builder to scan with, which may be frozen
+   */
+  public AxeIncrementalScanner(final AxeBuilder builder) {
+    if (builder == null) {
+      throw new NullPointerException("builder cannot be null.");
+    }
+    this.builder = builder;
+  }
+
+  /**
+   * Scans the page, only running axe on what changed since the last scan of the same document.
+   *
+   * @param webDriver for the page to be scanned
+   * @return the results for the whole page
+   */
+  public Results analyze(final WebDriver webDriver) {
+    if (results != null) {
+      Results merged = analyzeChanges(webDriver);
+      if (merged != null) {
+        return merged;
+      }
+    }
+    documentId = UUID.randomUUID().toString();
+    WebDriverInjectorExtensions.executeScript(webDriver, INSTALL_OBSERVER_SCRIPT, documentId);
+    Results fullResults = builder.analyze(webDriver);
+    fullScans++;
+    results = fullResults.isErrored() ? null : fullResults;
+    return fullResults;
+  }
+
+  /** Makes the next scan a full scan. */
+  public void reset() {
+    results = null;
+  }
+
+  /** @return the number of scans of whole documents so far. */
+  public int getFullScans() {
+    return fullScans;
+  }
+
+  /** @return the number of scans of only what changed so far. */
+  public int getDeltaScans() {
+    return deltaScans;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Results analyzeChanges(final WebDriver webDriver) {
+    List<Object> selectors = new ArrayList<>();
+    for (List<Rule> rules : nodeLists(results)) {
+      for (Rule rule : rules) {
+        for (CheckedNode node : nodes(rule)) {
+          selectors.add(topLevelSelector(node.getTarget()));
+        }
+      }
+    }
+    Object response =
+        WebDriverInjectorExtensions.executeScript(
+            webDriver,
+            TAKE_MUTATIONS_SCRIPT,
+            documentId,
+            ObjectMapperFactory.getDefault().serialize(selectors));
+    if (!(response instanceof Map)) {
+      return null;
+    }
+    List<WebElement> roots = (List<WebElement>) ((Map<String, Object>) response).get("roots");
+    if (roots.isEmpty()) {
+      return results;
+    }
+    Set<Integer> stale = new HashSet<>();
+    for (Object index : (List<Object>) ((Map<String, Object>) response).get("stale")) {
+      stale.add(((Number) index).intValue());
+    }
+
+    Results delta = builder.analyze(webDriver, roots.toArray(new WebElement[0]));
+    deltaScans++;
+    if (delta.isErrored()) {
+      results = null;
+      return delta;
+    }
+    results = merge(results, stale, delta);
+    return results;
+  }
+
+  /**
+   * Merges the results of a scan of the changed subtrees into the earlier results, leaving the
+   * earlier results as they were.
+   *
+   * @param previous the earlier results
+   * @param stale the indexes of the earlier violation, pass and incomplete nodes, in that order, to
+   *     drop
+   * @param delta the results of the changed subtrees, which are updated and returned
+   * @return the merged results
+   */
+  static Results merge(final Results previous, final Set<Integer> stale, final Results delta) {
+    int[] index = {0};
+    List<Rule> violations =
+        mergeRules(previous.getViolations(), stale, index, delta.getViolations());
+    List<Rule> passes = mergeRules(previous.getPasses(), stale, index, delta.getPasses());
+    List<Rule> incomplete =
+        mergeRules(previous.getIncomplete(), stale, index, delta.getIncomplete());
+
+    // a rule is inapplicable if nothing on the whole page matches it any more
+    Set<String> applicable = new HashSet<>();
+    for (List<Rule> rules : Arrays.asList(violations, passes, incomplete)) {
+      for (Rule rule : rules) {
+        applicable.add(rule.getId());
+      }
+    }
+    Map<String, Rule> inapplicable = new LinkedHashMap<>();
+    for (List<Rule> rules :
+        Arrays.asList(
+            nonNull(previous.getInapplicable()),
+            nonNull(delta.getInapplicable()),
+            nonNull(previous.getViolations()),
+            nonNull(previous.getPasses()),
+            nonNull(previous.getIncomplete()))) {
+      for (Rule rule : rules) {
+        if (!applicable.contains(rule.getId()) && !inapplicable.containsKey(rule.getId())) {
+          inapplicable.put(rule.getId(), copyOf(rule, new ArrayList<>()));
+        }
+      }
+    }
+
+    delta.setViolations(violations);
+    delta.setPasses(passes);
+    delta.setIncomplete(incomplete);
+    delta.setInapplicable(new ArrayList<>(inapplicable.values()));
+    return delta;
+  }
+
+  private static List<Rule> mergeRules(
+      final List<Rule> previous,
+      final Set<Integer> stale,
+      final int[] index,
+      final List<Rule> fresh) {
+    Map<String, Rule> merged = new LinkedHashMap<>();
+    for (Rule rule : nonNull(previous)) {
+      List<CheckedNode> kept = new ArrayList<>();
+      for (CheckedNode node : nodes(rule)) {
+        if (!stale.contains(index[0]++)) {
+          kept.add(node);
+        }
+      }
+      if (!kept.isEmpty()) {
+        merged.put(rule.getId(), copyOf(rule, kept));
+      }
+    }
+    for (Rule rule : nonNull(fresh)) {
+      if (nodes(rule).isEmpty()) {
+        continue;
+      }
+      Rule existing = merged.get(rule.getId());
+      if (existing == null) {
+        merged.put(rule.getId(), copyOf(rule, new ArrayList<>(rule.getNodes())));
+      } else {
+        existing.getNodes().addAll(rule.getNodes());
+        if (IMPACTS.indexOf(rule.getImpact()) > IMPACTS.indexOf(existing.getImpact())) {
+          existing.setImpact(rule.getImpact());
+        }
+      }
+    }
+    return new ArrayList<>(merged.values());
+  }
+
+  private static Rule copyOf(final Rule rule, final List<CheckedNode> nodes) {
+    Rule copy = new Rule();
+    copy.setId(rule.getId());
+    copy.setDescription(rule.getDescription());
+    copy.setHelp(rule.getHelp());
+    copy.setHelpUrl(rule.getHelpUrl());
+    copy.setImpact(rule.getImpact());
+    copy.setTags(rule.getTags());
+    copy.setNodes(nodes);
+    copy.setUrl(rule.getUrl());
+    copy.setCreatedDate(rule.getCreatedDate());
+    return copy;
+  }
+
+  /**
+   * gets the selector of the element in the top-level document a node is in or under: the node
+   * itself, or the shadow host or frame it is in.
+   */
+  private static String topLevelSelector(final Object target) {
+    Object selector =
+        target instanceof List && !((List<?>) target).isEmpty() ? ((List<?>) target).get(0) : null;
+    if (selector instanceof List && !((List<?>) selector).isEmpty()) {
+      selector = ((List<?>) selector).get(0);
+    }
+    return selector instanceof String ? (String) selector : null;
+  }
+
+  private static List<List<Rule>> nodeLists(final Results results) {
+    return Arrays.asList(
+        nonNull(results.getViolations()),
+        nonNull(results.getPasses()),
+        nonNull(results.getIncomplete()));
+  }
+
+  private static List<CheckedNode> nodes(final Rule rule) {
+    return rule.getNodes() != null ? rule.getNodes() : new ArrayList<>();
+  }
+
+  private static List<Rule> nonNull(final List<Rule> rules) {
+    return rules != null ? rules : new ArrayList<>();
+  }
+}
@@ -13,18 +13,17 @@
 package com.deque.html.axecore.selenium;
 
 import com.deque.html.axecore.args.AxeRunOptions;
-import com.deque.html.axecore.results.Node;
 import com.deque.html.axecore.results.Results;
 import com.deque.html.axecore.results.Rule;
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.deque.html.axecore.utilities.ObjectMapperFactory;
+import com.deque.html.axecore.utilities.ResultsWriter;
 import java.io.BufferedWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.List;
 import org.openqa.selenium.WebDriver;
 
@@ -33,6 +32,8 @@ public final class AxeReporter {
 
   private AxeReporter() {}
 
+  private static final AxeTextReporter TEXT_REPORTER = new AxeTextReporter();
+
   /** the string format of the results. */
   private static String axeResultString;
 
@@ -77,14 +78,11 @@ public final class AxeReporter {
    * @param outputFilePath Desired filename, sans extension
    * @param output Object to write. Most useful if you pass in either the Builder.analyze() response
    *     or the violations array it contains.
+   * @see ResultsWriter to be told when the file cannot be written
    */
   public static void writeResultsToJsonFile(final String outputFilePath, final Results output) {
-
-    try (Writer writer =
-        new BufferedWriter(
-            new OutputStreamWriter(
-                new FileOutputStream(outputFilePath + ".json"), StandardCharsets.UTF_8))) {
-      writer.write(serialize(output));
+    try {
+      new ResultsWriter().write(output, Paths.get(outputFilePath + ".json"));
     } catch (IOException ignored) {
     }
   }
@@ -97,13 +95,7 @@ public final class AxeReporter {
    * @return a string value of the object
    */
   public static <T> String serialize(final T obj) {
-    try {
-      ObjectMapper mapper = new ObjectMapper();
-      mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-      return mapper.writeValueAsString(obj);
-    } catch (JsonProcessingException jpe) {
-      throw new IllegalArgumentException("Cannot serialize object");
-    }
+    return ObjectMapperFactory.getDefault().serialize(obj);
   }
 
   /**
@@ -113,12 +105,13 @@ public final class AxeReporter {
    * @return the string as an Axe Run Options class object
    */
   static AxeRunOptions deserialize(final String obj) {
-    ObjectMapper mapper = new ObjectMapper();
-    return mapper.convertValue(obj, AxeRunOptions.class);
+    return ObjectMapperFactory.getDefault().convert(obj, AxeRunOptions.class);
   }
 
   /**
-   * Parses scanned accessibility results.
+   * Parses scanned accessibility results. The report is kept in a static field read by {@link
+   * #getAxeResultString()}, so concurrent scans overwrite each other's reports; use an {@link
+   * AxeTextReporter} to format reports in parallel.
    *
    * @param typeOfScan Type of scan
    * @param webDriver Web driver the scan was run on
@@ -127,51 +120,8 @@ public final class AxeReporter {
    */
   public static boolean getReadableAxeResults(
       final String typeOfScan, final WebDriver webDriver, final List<Rule> scannedResults) {
-    StringBuilder message = new StringBuilder();
-    final int axeRules = scannedResults.size();
-
-    message.append("ACCESSIBILITY CHECK");
-    message.append(System.lineSeparator());
-    message
-        .append(typeOfScan.toUpperCase())
-        .append(" check for: ")
-        .append(webDriver.getCurrentUrl());
-    message.append(System.lineSeparator());
-    message.append("Found ").append(axeRules).append(" items");
-    message.append(System.lineSeparator());
-
-    if (axeRules == 0) {
-      setAxeResultString(message.toString().trim());
-      return false;
-    }
-
-    message.append(System.getProperty("line.separator"));
-    int loops = 1;
-
-    for (Rule element : scannedResults) {
-      message.append(loops++).append(": ").append(element.getHelp());
-      message.append(System.lineSeparator());
-      message.append("Description: ").append(element.getDescription());
-      message.append(System.lineSeparator());
-      message.append("Help URL: ").append(element.getHelpUrl());
-      message.append(System.lineSeparator());
-      message.append("Impact: ").append(element.getImpact());
-      message.append(System.lineSeparator());
-      message.append("Tags: ").append(String.join(", ", element.getTags()));
-      message.append(System.lineSeparator());
-
-      if (element.getNodes() != null && !element.getNodes().isEmpty()) {
-        for (Node item : element.getNodes()) {
-          message.append("\t\t" + "HTML element: ").append(item.getHtml());
-          message.append(System.lineSeparator());
-          message.append("\t\t" + "Selector: ").append(item.getTarget());
-          message.append(System.lineSeparator());
-        }
-      }
-      message.append(System.lineSeparator());
-      message.append(System.lineSeparator());
-    }
-    setAxeResultString(message.toString().trim());
-    return true;
+    setAxeResultString(
+        TEXT_REPORTER.format(typeOfScan, webDriver.getCurrentUrl(), scannedResults).trim());
+    return !scannedResults.isEmpty();
   }
 }
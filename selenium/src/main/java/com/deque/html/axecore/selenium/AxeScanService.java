@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.utilities.ScanResult;
+import com.deque.html.axecore.utilities.ScanStats;
+import com.deque.html.axecore.utilities.ScanStatsRecorder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Scans many URLs at once on a bounded pool of WebDrivers. Drivers are created on demand from a
+ * factory, up to the pool size, and reused for later URLs. A URL whose scan throws is retried on a
+ * driver that still responds, or on a new driver if the old one has crashed. Results are handed
+ * back as each scan completes, along with running throughput and latency stats.
+ *
+ * <pre>{@code
+ * try (AxeScanService service =
+ *     new AxeScanService(ChromeDriver::new, () -> new AxeBuilder().withTags(tags))
+ *         .setPoolSize(8)) {
+ *   service.scan(urls, result -> report(result.getUrl(), result.getResults()));
+ *   System.out.println(service.getStats());
+ * }
+ * }</pre>
+ *
+ * <p>Both factories are called from the pool's threads, so they must be thread-safe. Each scan uses
+ * the AxeBuilder the builder factory returns, which may be one shared builder if it is frozen, see
+ * {@link AxeBuilder#freeze()}. A scan that completes with errored axe results, see {@link
+ * Results#isErrored()}, is returned as is rather than retried.
+ */
+public class AxeScanService implements AutoCloseable {
+  private final Supplier<? extends WebDriver> driverFactory;
+  private final Supplier<AxeBuilder> builderFactory;
+
+  private int poolSize = 4;
+  private int maxRetries = 1;
+
+  /** every driver created and not yet quit, guarded by itself. */
+  private final List<WebDriver> drivers = new ArrayList<>();
+
+  private final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+  private ExecutorService executor;
+  private volatile boolean closed = false;
+
+  private final ScanStatsRecorder stats = new ScanStatsRecorder();
+
+  /**
+   * Creates a scan service. No drivers are created until the first scan.
+   *
+   * @param driverFactory creates a WebDriver for the pool
+   * @param builderFactory creates the AxeBuilder each URL is scanned with
+   */
+  public AxeScanService(
+      final Supplier<? extends WebDriver> driverFactory,
+      final Supplier<AxeBuilder> builderFactory) {
+    this.driverFactory = Objects.requireNonNull(driverFactory, "driverFactory");
+    this.builderFactory = Objects.requireNonNull(builderFactory, "builderFactory");
+  }
+
+  /**
+   * Set the number of drivers, and so the number of URLs scanned at once.
+   *
+   * @param poolSize the maximum number of drivers. Defaults to 4.
+   * @return this
+   * @throws IllegalStateException if scanning has already started
+   */
+  public synchronized AxeScanService setPoolSize(final int poolSize) {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("poolSize must be at least 1.");
+    }
+    if (executor != null) {
+      throw new IllegalStateException("The pool size cannot be changed once scanning has started.");
+    }
+    this.poolSize = poolSize;
+    return this;
+  }
+
+  /**
+   * Set how many times a URL is retried after its scan throws.
+   *
+   * @param maxRetries the number of retries, 0 to not retry. Defaults to 1.
+   * @return this
+   */
+  public AxeScanService setMaxRetries(final int maxRetries) {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries cannot be negative.");
+    }
+    this.maxRetries = maxRetries;
+    return this;
+  }
+
+  /**
+   * Scans the URLs, passing each result to the consumer as soon as it completes. At most pool size
+   * URLs are taken from the iterable ahead of the results, so it can be a lazy source of any size.
+   * The consumer is called on the calling thread, in completion order. Returns once every URL has
+   * been scanned.
+   *
+   * @param urls the URLs to scan
+   * @param onResult receives the result of each URL
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a result
+   */
+  public void scan(final Iterable<String> urls, final Consumer<ScanResult<Results>> onResult)
+      throws InterruptedException {
+    Objects.requireNonNull(onResult, "onResult");
+    CompletionService<ScanResult<Results>> completion =
+        new ExecutorCompletionService<>(startExecutor());
+    int inFlight = 0;
+    for (String url : urls) {
+      if (inFlight == poolSize) {
+        onResult.accept(takeResult(completion));
+        inFlight--;
+      }
+      completion.submit(() -> scanUrl(url));
+      inFlight++;
+    }
+    while (inFlight > 0) {
+      onResult.accept(takeResult(completion));
+      inFlight--;
+    }
+  }
+
+  /**
+   * Scans the URLs, passing each result to the consumer as soon as it completes.
+   *
+   * @param urls the URLs to scan
+   * @param onResult receives the result of each URL
+   * @throws InterruptedException if the calling thread is interrupted while waiting for a result
+   * @see #scan(Iterable, Consumer)
+   */
+  public void scan(final Stream<String> urls, final Consumer<ScanResult<Results>> onResult)
+      throws InterruptedException {
+    scan(urls::iterator, onResult);
+  }
+
+  /**
+   * gets the throughput and latency of the scans so far.
+   *
+   * @return a snapshot of the stats
+   */
+  public ScanStats getStats() {
+    return stats.snapshot();
+  }
+
+  /** @return the number of drivers currently in the pool. */
+  public int getDriverCount() {
+    synchronized (drivers) {
+      return drivers.size();
+    }
+  }
+
+  /** Stops the pool's threads and quits every driver. Closing more than once has no effect. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+    List<WebDriver> toQuit;
+    synchronized (drivers) {
+      toQuit = new ArrayList<>(drivers);
+      drivers.clear();
+    }
+    idleDrivers.clear();
+    for (WebDriver driver : toQuit) {
+      quitQuietly(driver);
+    }
+  }
+
+  private synchronized ExecutorService startExecutor() {
+    if (closed) {
+      throw new IllegalStateException("The scan service has been closed.");
+    }
+    if (executor == null) {
+      AtomicInteger threadCount = new AtomicInteger();
+      ThreadFactory threadFactory =
+          runnable -> {
+            Thread thread = new Thread(runnable, "axe-scan-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          };
+      executor = Executors.newFixedThreadPool(poolSize, threadFactory);
+    }
+    return executor;
+  }
+
+  private static ScanResult<Results> takeResult(
+      final CompletionService<ScanResult<Results>> completion) throws InterruptedException {
+    try {
+      return completion.take().get();
+    } catch (ExecutionException e) {
+      // scanUrl handles its own failures, so this is a bug or an Error
+      throw new IllegalStateException("Scan failed unexpectedly.", e.getCause());
+    }
+  }
+
+  private ScanResult<Results> scanUrl(final String url) {
+    long start = System.nanoTime();
+    Results results = null;
+    RuntimeException error;
+    int attempts = 0;
+    while (true) {
+      attempts++;
+      WebDriver driver = null;
+      try {
+        driver = borrowDriver();
+        driver.get(url);
+        results = builderFactory.get().analyze(driver);
+        idleDrivers.add(driver);
+        error = null;
+        break;
+      } catch (RuntimeException e) {
+        error = e;
+        if (driver != null) {
+          releaseOrDiscard(driver);
+        }
+        if (attempts > maxRetries || closed) {
+          break;
+        }
+        stats.recordRetry();
+      }
+    }
+    long end = System.nanoTime();
+    stats.record(start, end, error != null);
+    return new ScanResult<>(url, results, error, attempts, Duration.ofNanos(end - start));
+  }
+
+  private WebDriver borrowDriver() {
+    WebDriver driver = idleDrivers.poll();
+    if (driver != null) {
+      return driver;
+    }
+    // each pool thread holds at most one driver, so this never creates more than poolSize
+    driver = driverFactory.get();
+    synchronized (drivers) {
+      if (closed) {
+        quitQuietly(driver);
+        throw new IllegalStateException("The scan service has been closed.");
+      }
+      drivers.add(driver);
+    }
+    return driver;
+  }
+
+  /** Returns a driver that still responds to the pool, and quits one that does not. */
+  private void releaseOrDiscard(final WebDriver driver) {
+    boolean alive;
+    try {
+      driver.getWindowHandle();
+      alive = true;
+    } catch (RuntimeException e) {
+      alive = false;
+    }
+    if (alive && !closed) {
+      idleDrivers.add(driver);
+      return;
+    }
+    synchronized (drivers) {
+      drivers.remove(driver);
+    }
+    quitQuietly(driver);
+  }
+
+  private static void quitQuietly(final WebDriver driver) {
+    try {
+      driver.quit();
+    } catch (RuntimeException ignored) {
+      // already gone
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import com.deque.html.axecore.results.Node;
+import com.deque.html.axecore.results.Rule;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Writes scan results as the human-readable report of {@link AxeReporter#getReadableAxeResults}.
+ * The report is returned or streamed to the caller rather than kept in shared state, and a reporter
+ * holds no state of its own, so one reporter can format any number of scans at once.
+ */
+public final class AxeTextReporter {
+  private final String lineSeparator;
+
+  /** Creates a reporter that separates lines with {@link System#lineSeparator()}. */
+  public AxeTextReporter() {
+    this(System.lineSeparator());
+  }
+
+  /**
+   * Creates a reporter that separates lines with the given separator.
+   *
+   * @param lineSeparator the line separator
+   */
+  public AxeTextReporter(final String lineSeparator) {
+    if (lineSeparator == null) {
+      throw new NullPointerException("lineSeparator");
+    }
+    this.lineSeparator = lineSeparator;
+  }
+
+  /**
+   * Formats the scanned results as a readable report.
+   *
+   * @param typeOfScan Type of scan
+   * @param url the URL the scan was run on
+   * @param scannedResults The scan results
+   * @return the report
+   */
+  public String format(final String typeOfScan, final String url, final List<Rule> scannedResults) {
+    StringBuilder report = new StringBuilder();
+    try {
+      write(report, typeOfScan, url, scannedResults);
+    } catch (IOException e) {
+      // a StringBuilder does not throw
+      throw new UncheckedIOException(e);
+    }
+    return report.toString();
+  }
+
+  /**
+   * Writes the scanned results as a readable report, a line at a time. The report does not end with
+   * a line separator.
+   *
+   * @param out where to write the report
+   * @param typeOfScan Type of scan
+   * @param url the URL the scan was run on
+   * @param scannedResults The scan results
+   * @return True if the scan found anything
+   * @throws IOException if writing to out fails
+   */
+  public boolean write(
+      final Appendable out,
+      final String typeOfScan,
+      final String url,
+      final List<Rule> scannedResults)
+      throws IOException {
+    final int axeRules = scannedResults.size();
+
+    out.append("ACCESSIBILITY CHECK");
+    line(out).append(typeOfScan.toUpperCase()).append(" check for: ").append(url);
+    line(out).append("Found ").append(String.valueOf(axeRules)).append(" items");
+
+    if (axeRules == 0) {
+      return false;
+    }
+
+    line(out);
+    int loops = 1;
+
+    for (Rule element : scannedResults) {
+      if (loops > 1) {
+        line(line(out));
+      }
+      line(out).append(String.valueOf(loops++)).append(": ").append(element.getHelp());
+      line(out).append("Description: ").append(element.getDescription());
+      line(out).append("Help URL: ").append(element.getHelpUrl());
+      line(out).append("Impact: ").append(element.getImpact());
+      line(out).append("Tags: ").append(String.join(", ", element.getTags()));
+
+      if (element.getNodes() != null) {
+        for (Node item : element.getNodes()) {
+          line(out).append("\t\tHTML element: ").append(item.getHtml());
+          line(out).append("\t\tSelector: ").append(String.valueOf(item.getTarget()));
+        }
+      }
+    }
+    return true;
+  }
+
+  /** Ends the current line. */
+  private Appendable line(final Appendable out) throws IOException {
+    return out.append(lineSeparator);
+  }
+}
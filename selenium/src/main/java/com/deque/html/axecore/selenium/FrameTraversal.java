@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+/**
+ * How a scan visits the frames of a page to run axe.runPartial in each, see {@link
+ * AxeBuilder#setFrameTraversal(FrameTraversal)}.
+ */
+public enum FrameTraversal {
+  /**
+   * Runs separate scripts in each frame to find its frame contexts and run axe.runPartial, and
+   * resolves each child frame with a script of its own just before switching into it. After a frame
+   * times out, the builder goes back to the frame it was in by resolving every frame selector from
+   * the top window again. The default.
+   */
+  RECURSIVE,
+
+  /**
+   * Plans each frame's children in the same script that runs axe.runPartial in it: the frame
+   * contexts are computed and every child frame element is resolved at once, and the elements are
+   * kept. The frames are then visited in one ordered pass, switching into each child by its element
+   * and back out with one command each. After a frame times out, the builder goes back down the
+   * kept elements without running any script. Sends several fewer commands per frame, and far fewer
+   * after timeouts in deeply nested frames.
+   */
+  PLANNED
+}
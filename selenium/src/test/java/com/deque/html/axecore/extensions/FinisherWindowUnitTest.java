@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.extensions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+
+/** Unit tests for {@link FinisherWindow} that avoid spinning up a real browser. */
+public class FinisherWindowUnitTest {
+  private WebDriver driver;
+  private WebDriver.TargetLocator targetLocator;
+
+  @Before
+  public void setUp() {
+    driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    targetLocator = mock(WebDriver.TargetLocator.class);
+    lenient().when(driver.switchTo()).thenReturn(targetLocator);
+  }
+
+  private FinisherWindow openFinisher() {
+    when(driver.getWindowHandle()).thenReturn("user-tab");
+    when(driver.getWindowHandles())
+        .thenReturn(handles("user-tab"))
+        .thenReturn(handles("user-tab", "axe-finisher"));
+    return FinisherWindow.open(driver);
+  }
+
+  @Test
+  public void open_returnsFocusToThePreviousWindow() {
+    FinisherWindow finisher = openFinisher();
+
+    assertEquals("axe-finisher", finisher.getHandle());
+    assertTrue(finisher.isOpen());
+    InOrder inOrder = Mockito.inOrder(targetLocator);
+    inOrder.verify(targetLocator).window("axe-finisher");
+    inOrder.verify(targetLocator).window("user-tab");
+  }
+
+  @Test
+  public void canFinish_onlyForTheSameOpenDriver() {
+    FinisherWindow finisher = openFinisher();
+    WebDriver otherDriver = mock(WebDriver.class);
+
+    assertTrue(finisher.canFinish(driver));
+    assertFalse(finisher.canFinish(otherDriver));
+  }
+
+  @Test
+  public void switchTo_marksClosedWhenTheWindowIsGone() {
+    FinisherWindow finisher = openFinisher();
+    when(targetLocator.window("axe-finisher")).thenThrow(new NoSuchWindowException("gone"));
+
+    assertThrows(NoSuchWindowException.class, finisher::switchTo);
+    assertFalse(finisher.isOpen());
+    assertFalse(finisher.canFinish(driver));
+  }
+
+  @Test
+  public void close_closesOnceAndRestoresFocus() {
+    FinisherWindow finisher = openFinisher();
+
+    finisher.close();
+    finisher.close();
+
+    assertFalse(finisher.isOpen());
+    verify(driver, times(1)).close();
+    verify(targetLocator, times(2)).window("user-tab");
+  }
+
+  private static Set<String> handles(String... handles) {
+    return new LinkedHashSet<>(Arrays.asList(handles));
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.providers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assume;
+import org.junit.Test;
+
+/** Unit tests for {@link CachingAxeScriptProvider}. */
+public class CachingAxeScriptProviderUnitTest {
+
+  @Test
+  public void loadsOnceAndCountsHitsAndMisses() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CachingAxeScriptProvider provider =
+        new CachingAxeScriptProvider(() -> "axe-" + loads.incrementAndGet());
+
+    String first = provider.getScript();
+    String second = provider.getScript();
+
+    assertEquals("axe-1", first);
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+    assertEquals(1, provider.getMissCount());
+    assertEquals(1, provider.getHitCount());
+  }
+
+  @Test
+  public void invalidateReloadsFromDelegate() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CachingAxeScriptProvider provider =
+        new CachingAxeScriptProvider(() -> "axe-" + loads.incrementAndGet());
+
+    provider.getScript();
+    provider.invalidate();
+
+    assertEquals("axe-2", provider.getScript());
+    assertEquals(2, provider.getMissCount());
+  }
+
+  @Test
+  public void concurrentCallersShareOneLoad() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CachingAxeScriptProvider provider =
+        new CachingAxeScriptProvider(
+            () -> {
+              loads.incrementAndGet();
+              return "axe";
+            });
+
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                  provider.getScript();
+                } catch (Exception e) {
+                  throw new RuntimeException(e);
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(1, loads.get());
+    assertEquals(8, provider.getHitCount() + provider.getMissCount());
+  }
+
+  @Test
+  public void embeddedProvidersShareOneCache() throws Exception {
+    Assume.assumeNotNull(EmbeddedResourceAxeProvider.class.getResource("/axe.min.js"));
+    EmbeddedResourceAxeProvider.getCache().invalidate();
+    long misses = EmbeddedResourceAxeProvider.getCache().getMissCount();
+
+    String first = new EmbeddedResourceAxeProvider().getScript();
+    String second = new EmbeddedResourceAxeProvider().getScript();
+
+    assertSame(first, second);
+    assertEquals(misses + 1, EmbeddedResourceAxeProvider.getCache().getMissCount());
+  }
+}
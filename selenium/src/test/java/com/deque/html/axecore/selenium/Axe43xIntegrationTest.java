@@ -17,11 +17,20 @@ import static org.mockito.ArgumentMatchers.any;
 
 import com.deque.html.axecore.args.FromFrames;
 import com.deque.html.axecore.args.FromShadowDom;
+import com.deque.html.axecore.graaljs.GraalFinishRunner;
+import com.deque.html.axecore.extensions.FinisherWindow;
 import com.deque.html.axecore.providers.EmbeddedResourceAxeProvider;
 import com.deque.html.axecore.providers.StringAxeScriptProvider;
 import com.deque.html.axecore.results.CheckedNode;
+import com.deque.html.axecore.results.ResultType;
 import com.deque.html.axecore.results.Results;
 import com.deque.html.axecore.results.Rule;
+import com.deque.html.axecore.utilities.FinishRunner;
+import com.deque.html.axecore.utilities.InMemoryResultCache;
+import com.deque.html.axecore.utilities.PartialResultCache;
+import com.deque.html.axecore.utilities.ScanPhase;
+import com.deque.html.axecore.utilities.ScanTimingRecorder;
+import com.deque.html.axecore.utilities.ScanTimings;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
@@ -38,6 +47,7 @@ import org.junit.rules.ExpectedException;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.UnexpectedAlertBehaviour;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -229,6 +239,172 @@ public class Axe43xIntegrationTest {
     assertEquals(Arrays.asList("#slotted-frame", "input"), nodes.get(2).getTarget());
   }
 
+  @Test
+  public void injectIfAbsentSkipsFramesThatHaveAxe() throws Exception {
+    webDriver.get(fixture("/nested-iframes.html"));
+    String countingAxe =
+        axePost43x + ";window.__axeInjections = (window.__axeInjections || 0) + 1;";
+    AxeBuilder builder =
+        new AxeBuilder()
+            .setAxeScriptProvider(new StringAxeScriptProvider(countingAxe))
+            .setInjectIfAbsent(true)
+            .withOnlyRules(Arrays.asList("label"));
+
+    Results first = builder.analyze(webDriver);
+    Results second = builder.analyze(webDriver);
+
+    assertEquals(
+        1L, ((JavascriptExecutor) webDriver).executeScript("return window.__axeInjections"));
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+  }
+
+  @Test
+  public void injectIfAbsentReinjectsDifferentSource() throws Exception {
+    webDriver.get(fixture("/nested-iframes.html"));
+    String countingAxe =
+        axePost43x + ";window.__axeInjections = (window.__axeInjections || 0) + 1;";
+
+    new AxeBuilder()
+        .setAxeScriptProvider(new StringAxeScriptProvider(axePost43x))
+        .setInjectIfAbsent(true)
+        .analyze(webDriver);
+    new AxeBuilder()
+        .setAxeScriptProvider(new StringAxeScriptProvider(countingAxe))
+        .setInjectIfAbsent(true)
+        .analyze(webDriver);
+
+    assertEquals(
+        1L, ((JavascriptExecutor) webDriver).executeScript("return window.__axeInjections"));
+  }
+
+  @Test
+  public void returnsSameResultsWithSmallPartialResultsChunks() throws Exception {
+    webDriver.get(fixture("/nested-iframes.html"));
+    AxeBuilder builder = new AxeBuilder().withOnlyRules(Arrays.asList("label"));
+    Results defaultResults = builder.analyze(webDriver);
+    Results chunkedResults = builder.setPartialResultsChunkSize(1000).analyze(webDriver);
+
+    assertEquals(
+        defaultResults.getViolations().get(0).getNodes().size(),
+        chunkedResults.getViolations().get(0).getNodes().size());
+    assertEquals(
+        defaultResults.getPasses().size() + defaultResults.getIncomplete().size(),
+        chunkedResults.getPasses().size() + chunkedResults.getIncomplete().size());
+  }
+
+  @Test
+  public void reusesFinisherWindowAcrossScans() throws Exception {
+    webDriver.get(fixture("/nested-iframes.html"));
+    String countingAxe =
+        axePost43x + ";window.__axeInjections = (window.__axeInjections || 0) + 1;";
+    Results expected = new AxeBuilder().withOnlyRules(Arrays.asList("label")).analyze(webDriver);
+    String userHandle = webDriver.getWindowHandle();
+
+    try (FinisherWindow finisher = FinisherWindow.open(webDriver)) {
+      AxeBuilder builder =
+          new AxeBuilder()
+              .setAxeScriptProvider(new StringAxeScriptProvider(countingAxe))
+              .setFinisherWindow(finisher)
+              .withOnlyRules(Arrays.asList("label"));
+      Results first = builder.analyze(webDriver);
+      Results second = builder.analyze(webDriver);
+
+      assertEquals(userHandle, webDriver.getWindowHandle());
+      assertEquals(2, webDriver.getWindowHandles().size());
+      assertEquals(
+          expected.getViolations().get(0).getNodes().size(),
+          first.getViolations().get(0).getNodes().size());
+      assertEquals(
+          first.getViolations().get(0).getNodes().size(),
+          second.getViolations().get(0).getNodes().size());
+
+      finisher.switchTo();
+      assertEquals(
+          1L, ((JavascriptExecutor) webDriver).executeScript("return window.__axeInjections"));
+      webDriver.switchTo().window(userHandle);
+    }
+    assertEquals(1, webDriver.getWindowHandles().size());
+  }
+
+  @Test
+  public void fallsBackWhenFinisherWindowIsClosed() throws Exception {
+    webDriver.get(fixture("/nested-iframes.html"));
+    FinisherWindow finisher = FinisherWindow.open(webDriver);
+    finisher.close();
+
+    Results res =
+        new AxeBuilder()
+            .setFinisherWindow(finisher)
+            .withOnlyRules(Arrays.asList("label"))
+            .analyze(webDriver);
+
+    assertFalse(res.isErrored());
+    assertEquals(1, webDriver.getWindowHandles().size());
+  }
+
+  @Test
+  public void finishesRunWithFinishRunner() throws Exception {
+    webDriver.get(fixture("/nested-iframes.html"));
+    Results expected = new AxeBuilder().withOnlyRules(Arrays.asList("label")).analyze(webDriver);
+    List<Integer> partialResultCounts = new ArrayList<>();
+    Results res;
+    try (GraalFinishRunner graal =
+        new GraalFinishRunner(new EmbeddedResourceAxeProvider().getScript(), 1)) {
+      FinishRunner runner =
+          partialResults -> {
+            partialResultCounts.add(partialResults.size());
+            return graal.finishRun(partialResults);
+          };
+
+      res =
+          new AxeBuilder()
+              .setFinishRunner(runner)
+              .withOnlyRules(Arrays.asList("label"))
+              .analyze(webDriver);
+    }
+
+    assertEquals(1, partialResultCounts.size());
+    assertEquals(1, webDriver.getWindowHandles().size());
+    assertEquals(
+        expected.getViolations().get(0).getNodes().size(),
+        res.getViolations().get(0).getNodes().size());
+  }
+
+  @Test
+  public void throwsWhenFinishRunnerFails() {
+    webDriver.get(fixture("/index.html"));
+    AxeBuilder builder =
+        new AxeBuilder()
+            .setFinishRunner(
+                partialResults -> {
+                  throw new IllegalStateException("no runtime");
+                });
+
+    RuntimeException e = assertThrows(RuntimeException.class, () -> builder.analyze(webDriver));
+
+    assertTrue(e.getMessage().contains("axe.finishRun failed"));
+    assertTrue(e.getCause() instanceof IllegalStateException);
+  }
+
+  @Test
+  public void keepsTheInterruptWhenFinishRunnerIsInterrupted() {
+    webDriver.get(fixture("/index.html"));
+    AxeBuilder builder =
+        new AxeBuilder()
+            .setFinishRunner(
+                partialResults -> {
+                  throw new InterruptedException("waiting for a runtime");
+                });
+
+    RuntimeException e = assertThrows(RuntimeException.class, () -> builder.analyze(webDriver));
+
+    assertTrue(e.getCause() instanceof InterruptedException);
+    // clears the flag again for the other tests
+    assertTrue(Thread.interrupted());
+  }
+
   @Test
   public void reportsErrorFrames() throws Exception {
     webDriver.get(fixture("/crash-parent.html"));
@@ -552,6 +728,169 @@ public class Axe43xIntegrationTest {
     assertEquals(passes.get(0).getId(), "duplicate-id");
   }
 
+  @Test
+  public void projectsResultsInTheBrowser() {
+    webDriver.get(fixture("/index.html"));
+    Results expected = new AxeBuilder().analyze(webDriver);
+
+    Results axeResults =
+        new AxeBuilder().resultsProjection(ResultType.Violations).analyze(webDriver);
+
+    assertEquals(expected.getViolations().size(), axeResults.getViolations().size());
+    assertTrue(axeResults.getPasses().isEmpty());
+    assertTrue(axeResults.getInapplicable().isEmpty());
+    assertTrue(axeResults.getIncomplete().isEmpty());
+  }
+
+  @Test
+  public void projectsLegacyResultsInTheBrowser() {
+    webDriver.get(fixture("/index.html"));
+    AxeBuilder axeBuilder =
+        new AxeBuilder().setAxeScriptProvider(new StringAxeScriptProvider(axePre43x));
+    Results expected = axeBuilder.analyze(webDriver);
+
+    Results axeResults = axeBuilder.resultsProjection(ResultType.Passes).analyze(webDriver);
+
+    assertTrue(axeResults.getViolations().isEmpty());
+    assertEquals(expected.getPasses().size(), axeResults.getPasses().size());
+  }
+
+  @Test
+  public void reportsTheTimingOfEachFrame() {
+    webDriver.get(fixture("/nested-iframes.html"));
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+
+    new AxeBuilder()
+        .withOnlyRules(Arrays.asList("label"))
+        .setScanListener(recorder)
+        .analyze(webDriver);
+
+    ScanTimings timings = recorder.snapshot();
+    ScanTimings.Timing runPartial = timings.getPhase(ScanPhase.RUN_PARTIAL);
+    assertEquals(1, timings.getScans().getCount());
+    assertEquals(0, timings.getFailures());
+    assertEquals(timings.getPhase(ScanPhase.FRAME_CONTEXTS).getCount(), runPartial.getCount());
+    assertEquals(3, runPartial.getMaxFrameDepth());
+    assertTrue(runPartial.getPayloadMax() > 0);
+    assertEquals(1, timings.getPhase(ScanPhase.OPEN_FINISHER).getCount());
+    assertTrue(timings.getPhase(ScanPhase.SEND_PARTIAL_RESULTS).getCount() > 0);
+    assertEquals(1, timings.getPhase(ScanPhase.FINISH_RUN).getCount());
+    assertEquals(1, timings.getPhase(ScanPhase.READ_RESULTS).getCount());
+    assertEquals(0, timings.getPhase(ScanPhase.RUN).getCount());
+  }
+
+  @Test
+  public void reusesCachedFramePartialResults() {
+    webDriver.get(fixture("/nested-iframes.html"));
+    PartialResultCache cache = new PartialResultCache(10_000_000, Duration.ofMinutes(5));
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    AxeBuilder builder =
+        new AxeBuilder().withOnlyRules(Arrays.asList("label")).setPartialResultCache(cache);
+
+    Results first = builder.analyze(webDriver);
+    Results second = builder.setScanListener(recorder).analyze(webDriver);
+
+    assertTrue(cache.getHits() > 0);
+    // only the top-level page is tested again
+    assertEquals(1, recorder.snapshot().getPhase(ScanPhase.RUN_PARTIAL).getCount());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+  }
+
+  @Test
+  public void rescansOnlyWhatChanged() {
+    webDriver.get(fixture("/index.html"));
+    AxeIncrementalScanner scanner =
+        new AxeIncrementalScanner(new AxeBuilder().withOnlyRules(Arrays.asList("image-alt")));
+    JavascriptExecutor js = (JavascriptExecutor) webDriver;
+
+    Results full = scanner.analyze(webDriver);
+    int before = imageAltViolations(full);
+    assertSame(full, scanner.analyze(webDriver));
+
+    js.executeScript(
+        "const div = document.createElement('div');"
+            + "div.id = 'incremental';"
+            + "div.innerHTML = '<img src=\"a.png\"><img src=\"b.png\">';"
+            + "document.body.appendChild(div);");
+    assertEquals(before + 2, imageAltViolations(scanner.analyze(webDriver)));
+
+    js.executeScript("document.querySelector('#incremental img').alt = 'fixed';");
+    assertEquals(before + 1, imageAltViolations(scanner.analyze(webDriver)));
+
+    js.executeScript("document.getElementById('incremental').remove();");
+    assertEquals(before, imageAltViolations(scanner.analyze(webDriver)));
+    assertEquals(1, scanner.getFullScans());
+    assertEquals(3, scanner.getDeltaScans());
+
+    webDriver.get(fixture("/index.html"));
+    scanner.analyze(webDriver);
+    assertEquals(2, scanner.getFullScans());
+  }
+
+  private static int imageAltViolations(final Results results) {
+    return results.getViolations().stream()
+        .filter(rule -> rule.getId().equals("image-alt"))
+        .mapToInt(rule -> rule.getNodes().size())
+        .sum();
+  }
+
+  @Test
+  public void reusesCachedResultsOfAnUnchangedPage() {
+    webDriver.get(fixture("/nested-iframes.html"));
+    InMemoryResultCache cache = new InMemoryResultCache(10_000_000, Duration.ofMinutes(5));
+    AxeBuilder builder =
+        new AxeBuilder().withOnlyRules(Arrays.asList("label")).setResultCache(cache).freeze();
+    Results first = builder.analyze(webDriver);
+
+    webDriver.navigate().refresh();
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    Results second = builder.copy().setScanListener(recorder).analyze(webDriver);
+
+    assertEquals(1, cache.getHits());
+    assertEquals(0, recorder.snapshot().getPhase(ScanPhase.INJECT_AXE).getCount());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+
+    ((JavascriptExecutor) webDriver)
+        .executeScript("document.body.appendChild(document.createElement('input'))");
+    Results third = builder.analyze(webDriver);
+
+    assertEquals(2, cache.getMisses());
+    assertEquals(
+        first.getViolations().get(0).getNodes().size() + 1,
+        third.getViolations().get(0).getNodes().size());
+  }
+
+  @Test
+  public void plansFrameTraversalWithFewerRoundTrips() {
+    webDriver.get(fixture("/nested-iframes.html"));
+    ScanTimingRecorder recursive = new ScanTimingRecorder();
+    ScanTimingRecorder planned = new ScanTimingRecorder();
+
+    Results first =
+        new AxeBuilder()
+            .withOnlyRules(Arrays.asList("label"))
+            .setScanListener(recursive)
+            .analyze(webDriver);
+    Results second =
+        new AxeBuilder()
+            .withOnlyRules(Arrays.asList("label"))
+            .setFrameTraversal(FrameTraversal.PLANNED)
+            .setScanListener(planned)
+            .analyze(webDriver);
+
+    assertEquals(
+        first.getViolations().get(0).getNodes().size(),
+        second.getViolations().get(0).getNodes().size());
+    ScanTimings.Traversals recursiveTrips = recursive.snapshot().getTraversals();
+    ScanTimings.Traversals plannedTrips = planned.snapshot().getTraversals();
+    assertEquals(recursiveTrips.getFrames(), plannedTrips.getFrames());
+    assertTrue(plannedTrips.getRoundTrips() < recursiveTrips.getRoundTrips());
+  }
+
   @Test
   public void putsBackPageLoad() {
     webDriver.get(fixture("/lazy-loaded-iframe.html"));
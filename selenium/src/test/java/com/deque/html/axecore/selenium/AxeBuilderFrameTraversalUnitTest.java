@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.deque.html.axecore.utilities.ScanTimingRecorder;
+import com.deque.html.axecore.utilities.ScanTimings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/** Unit tests for {@link AxeBuilder#setFrameTraversal(FrameTraversal)}. */
+public class AxeBuilderFrameTraversalUnitTest {
+  /** a frame of the page, whose partial result is its name. */
+  private static final class Frame {
+    private final String name;
+    private final List<Frame> children;
+    private final WebElement element = mock(WebElement.class);
+    private Frame parent;
+
+    private Frame(final String name, final Frame... children) {
+      this.name = name;
+      this.children = Arrays.asList(children);
+      for (Frame child : children) {
+        child.parent = this;
+      }
+    }
+
+    private Frame child(final String name) {
+      for (Frame child : children) {
+        if (child.name.equals(name)) {
+          return child;
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * a driver for a page with axe-core 4.3 or later and nested frames, answering each script for the
+   * frame it is switched to. Switching into the frame named "slow" times out.
+   */
+  private static final class FrameTreeDriver {
+    private final Frame top;
+    private final WebDriver driver;
+    private Frame current;
+
+    private FrameTreeDriver(final Frame top) {
+      this.top = top;
+      this.current = top;
+      WebDriver.Timeouts timeouts = mock(WebDriver.Timeouts.class);
+      WebDriver.Options options = mock(WebDriver.Options.class);
+      WebDriver.TargetLocator targetLocator =
+          mock(
+              WebDriver.TargetLocator.class,
+              invocation -> {
+                switch (invocation.getMethod().getName()) {
+                  case "frame":
+                    Frame frame = null;
+                    for (Frame child : current.children) {
+                      if (child.element == invocation.getArgument(0)) {
+                        frame = child;
+                      }
+                    }
+                    if (frame.name.equals("slow")) {
+                      throw new TimeoutException("frame load");
+                    }
+                    current = frame;
+                    break;
+                  case "parentFrame":
+                    current = current.parent;
+                    break;
+                  case "window":
+                    current = top;
+                    break;
+                  default:
+                    break;
+                }
+                return FrameTreeDriver.this.driver;
+              });
+      driver =
+          mock(
+              WebDriver.class,
+              withSettings()
+                  .extraInterfaces(JavascriptExecutor.class)
+                  .defaultAnswer(
+                      invocation -> {
+                        switch (invocation.getMethod().getName()) {
+                          case "switchTo":
+                            return targetLocator;
+                          case "manage":
+                            return options;
+                          case "getWindowHandle":
+                            return "main";
+                          case "executeScript":
+                          case "executeAsyncScript":
+                            return script(invocation.getRawArguments());
+                          default:
+                            return RETURNS_DEFAULTS.answer(invocation);
+                        }
+                      }));
+      when(options.timeouts()).thenReturn(timeouts);
+    }
+
+    private Object script(final Object[] arguments) {
+      String script = (String) arguments[0];
+      Object[] args = (Object[]) arguments[1];
+      if (script.contains("typeof window.axe.runPartial")) {
+        return true;
+      } else if (script.contains("shadowSelect(fc.frameSelector)")) {
+        List<Map<String, Object>> frames = new ArrayList<>();
+        for (Frame child : current.children) {
+          Map<String, Object> frame = new HashMap<>();
+          frame.put("context", "{}");
+          frame.put("element", child.element);
+          frames.add(frame);
+        }
+        Map<String, Object> visit = new HashMap<>();
+        visit.put("partialResult", current.name);
+        visit.put("frames", frames);
+        return visit;
+      } else if (script.contains("getFrameContexts")) {
+        List<Map<String, Object>> contexts = new ArrayList<>();
+        for (Frame child : current.children) {
+          Map<String, Object> context = new HashMap<>();
+          context.put("frameSelector", child.name);
+          context.put("frameContext", Collections.emptyMap());
+          contexts.add(context);
+        }
+        return contexts;
+      } else if (script.contains("shadowSelect")) {
+        return current.child(((String) args[0]).replace("\"", "")).element;
+      } else if (script.contains("runPartial")) {
+        return current.name;
+      }
+      // injecting axe
+      return null;
+    }
+  }
+
+  private static Frame page() {
+    return new Frame(
+        "top", new Frame("a", new Frame("a1"), new Frame("slow"), new Frame("a2")), new Frame("b"));
+  }
+
+  private static List<String> scan(
+      final FrameTraversal frameTraversal, final ScanTimingRecorder recorder) {
+    List<String> partialResults = new ArrayList<>();
+    AxeBuilderOptions builderOptions = new AxeBuilderOptions();
+    builderOptions.setScriptProvider(() -> "window.axe = {};");
+    new AxeBuilder(builderOptions)
+        .setFrameTraversal(frameTraversal)
+        .setScanListener(recorder)
+        .setFinishRunner(
+            partials -> {
+              partialResults.addAll(partials);
+              return "{\"url\":\"http://example.test/\"}";
+            })
+        .analyze(new FrameTreeDriver(page()).driver);
+    return partialResults;
+  }
+
+  @Test
+  public void visitsTheSameFramesInTheSameOrder() {
+    List<String> expected = Arrays.asList("top", "a", "a1", null, "a2", "b");
+
+    assertEquals(expected, scan(FrameTraversal.RECURSIVE, new ScanTimingRecorder()));
+    assertEquals(expected, scan(FrameTraversal.PLANNED, new ScanTimingRecorder()));
+  }
+
+  @Test
+  public void countsTheRoundTripsOfEachTraversal() {
+    ScanTimingRecorder recursive = new ScanTimingRecorder();
+    ScanTimingRecorder planned = new ScanTimingRecorder();
+    scan(FrameTraversal.RECURSIVE, recursive);
+    scan(FrameTraversal.PLANNED, planned);
+
+    ScanTimings.Traversals recursiveTrips = recursive.snapshot().getTraversals();
+    ScanTimings.Traversals plannedTrips = planned.snapshot().getTraversals();
+    assertEquals(5, recursiveTrips.getFrames());
+    assertEquals(5, plannedTrips.getFrames());
+    // per frame, one script in place of four, and no selector is resolved again after the timeout
+    assertEquals(36, recursiveTrips.getRoundTrips());
+    assertEquals(21, plannedTrips.getRoundTrips());
+    assertEquals(11, recursiveTrips.getSwitches());
+    assertEquals(11, plannedTrips.getSwitches());
+  }
+
+  @Test
+  public void rejectsNoTraversal() {
+    assertThrows(NullPointerException.class, () -> new AxeBuilder().setFrameTraversal(null));
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.deque.html.axecore.args.AxeRuleOptions;
+import com.deque.html.axecore.args.AxeRunOptions;
+import com.deque.html.axecore.results.ResultType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/** Unit tests for {@link AxeBuilder#copy()} and {@link AxeBuilder#freeze()}. */
+public class AxeBuilderFreezeUnitTest {
+  /** the arguments each mocked driver's last axe.run call was given. */
+  private static final class RecordingDriver {
+    private final WebDriver driver;
+    private volatile Object[] runArgs;
+
+    private RecordingDriver() {
+      WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+      driver =
+          mock(
+              WebDriver.class,
+              withSettings()
+                  .extraInterfaces(JavascriptExecutor.class)
+                  .defaultAnswer(
+                      invocation -> {
+                        switch (invocation.getMethod().getName()) {
+                          case "switchTo":
+                            return targetLocator;
+                          case "executeScript":
+                            // axe is not yet on the page and has no runPartial
+                            return false;
+                          case "executeAsyncScript":
+                            Object[] args = invocation.getArguments();
+                            runArgs = Arrays.copyOfRange(args, 1, args.length);
+                            return "{\"url\":\"http://example.test/\"}";
+                          default:
+                            return RETURNS_DEFAULTS.answer(invocation);
+                        }
+                      }));
+    }
+
+    private String context() {
+      return (String) runArgs[0];
+    }
+
+    private String options() {
+      return (String) runArgs[1];
+    }
+
+    private String droppedResultTypes() {
+      return (String) runArgs[2];
+    }
+  }
+
+  private static AxeBuilder newBuilder() {
+    AxeBuilderOptions builderOptions = new AxeBuilderOptions();
+    builderOptions.setScriptProvider(() -> "window.axe = {};");
+    return new AxeBuilder(builderOptions);
+  }
+
+  @Test
+  public void freeze_rejectsChanges() {
+    AxeBuilder frozen = newBuilder().withTags(Collections.singletonList("wcag2a")).freeze();
+
+    assertTrue(frozen.isFrozen());
+    assertThrows(IllegalStateException.class, () -> frozen.include("#main"));
+    assertThrows(IllegalStateException.class, () -> frozen.exclude("#footer"));
+    assertThrows(
+        IllegalStateException.class, () -> frozen.withRules(Collections.singletonList("label")));
+    assertThrows(IllegalStateException.class, () -> frozen.withOptions(new AxeRunOptions()));
+    assertThrows(IllegalStateException.class, () -> frozen.setTimeout(10));
+    assertThrows(IllegalStateException.class, frozen::disableIframeTesting);
+  }
+
+  @Test
+  public void freeze_leavesTheOriginalChangeable() {
+    AxeBuilder builder = newBuilder();
+    AxeBuilder frozen = builder.freeze();
+
+    assertNotSame(builder, frozen);
+    assertFalse(builder.isFrozen());
+    builder.include("#main");
+
+    RecordingDriver driver = new RecordingDriver();
+    frozen.analyze(driver.driver);
+    assertFalse(driver.context().contains("#main"));
+  }
+
+  @Test
+  public void copy_isIndependentOfTheOriginal() {
+    AxeBuilder builder = newBuilder().withTags(Collections.singletonList("wcag2a"));
+    AxeBuilder copy = builder.copy().withRules(Collections.singletonList("label"));
+    builder.include("#main");
+
+    RecordingDriver original = new RecordingDriver();
+    builder.analyze(original.driver);
+    RecordingDriver copied = new RecordingDriver();
+    copy.analyze(copied.driver);
+
+    assertTrue(original.context().contains("#main"));
+    assertFalse(original.options().contains("label"));
+    assertFalse(copied.context().contains("#main"));
+    assertTrue(copied.options().contains("label"));
+    assertTrue(copied.options().contains("wcag2a"));
+  }
+
+  @Test
+  public void copy_keepsTheResultsProjection() {
+    AxeBuilder copy = newBuilder().resultsProjection(ResultType.Violations).freeze().copy();
+
+    RecordingDriver driver = new RecordingDriver();
+    copy.analyze(driver.driver);
+    assertEquals("[\"passes\",\"inapplicable\",\"incomplete\"]", driver.droppedResultTypes());
+
+    copy.resultsProjection();
+    copy.analyze(driver.driver);
+    assertEquals("[]", driver.droppedResultTypes());
+  }
+
+  @Test
+  public void copy_ofAFrozenBuilderIsChangeable() {
+    AxeBuilder copy = newBuilder().freeze().copy();
+
+    assertFalse(copy.isFrozen());
+    copy.include("#main");
+
+    RecordingDriver driver = new RecordingDriver();
+    copy.analyze(driver.driver);
+    assertTrue(driver.context().contains("#main"));
+  }
+
+  @Test
+  public void withOptions_usesTheOptionsAsTheyWerePassedIn() {
+    AxeRunOptions options = new AxeRunOptions();
+    options.setRules(Collections.singletonMap("label", new AxeRuleOptions()));
+    List<String> include = new ArrayList<>(Collections.singletonList("#main"));
+    AxeBuilder builder = newBuilder().withOptions(options).include(include);
+    options.setRules(Collections.singletonMap("region", new AxeRuleOptions()));
+    include.set(0, "#footer");
+
+    RecordingDriver first = new RecordingDriver();
+    builder.analyze(first.driver);
+    RecordingDriver second = new RecordingDriver();
+    builder.analyze(second.driver);
+
+    assertTrue(first.options().contains("label"));
+    assertEquals(first.options(), second.options());
+    assertTrue(first.context().contains("#main"));
+    assertEquals(first.context(), second.context());
+
+    RecordingDriver passedAgain = new RecordingDriver();
+    builder.withOptions(options).analyze(passedAgain.driver);
+    assertTrue(passedAgain.options().contains("region"));
+  }
+
+  @Test
+  public void frozen_canBeSharedByConcurrentScans() throws Exception {
+    AxeBuilder frozen =
+        newBuilder()
+            .include("#main")
+            .withRules(Arrays.asList("label", "image-alt"))
+            .disableIframeTesting()
+            .freeze();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<RecordingDriver>> scans = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        scans.add(
+            () -> {
+              RecordingDriver driver = new RecordingDriver();
+              assertEquals("http://example.test/", frozen.analyze(driver.driver).getUrl());
+              return driver;
+            });
+      }
+      for (Future<RecordingDriver> scan : executor.invokeAll(scans)) {
+        RecordingDriver driver = scan.get();
+        assertTrue(driver.context().contains("#main"));
+        assertTrue(driver.options().contains("image-alt"));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
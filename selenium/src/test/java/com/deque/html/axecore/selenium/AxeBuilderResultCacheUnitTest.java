@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.utilities.InMemoryResultCache;
+import com.deque.html.axecore.utilities.ResultCache;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/** Unit tests for {@link AxeBuilder#setResultCache(ResultCache)}. */
+public class AxeBuilderResultCacheUnitTest {
+  /** a page with axe-core before 4.3, counting how often axe.run is called. */
+  private static final class CountingDriver {
+    private final WebDriver driver;
+    private volatile String fingerprint = "http://example.test/\nabc:100";
+    private volatile boolean failing = false;
+    private int runs = 0;
+
+    private CountingDriver() {
+      WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+      driver =
+          mock(
+              WebDriver.class,
+              withSettings()
+                  .extraInterfaces(JavascriptExecutor.class)
+                  .defaultAnswer(
+                      invocation -> {
+                        switch (invocation.getMethod().getName()) {
+                          case "switchTo":
+                            return targetLocator;
+                          case "executeScript":
+                            String script = invocation.getArgument(0);
+                            // axe is not yet on the page and has no runPartial
+                            return script.contains("location.href") ? fingerprint : false;
+                          case "executeAsyncScript":
+                            runs++;
+                            if (failing) {
+                              throw new JavascriptException("axe.run failed");
+                            }
+                            return "{\"url\":\"http://example.test/\",\"violations\":"
+                                + "[{\"id\":\"image-alt\",\"nodes\":[]}]}";
+                          default:
+                            return RETURNS_DEFAULTS.answer(invocation);
+                        }
+                      }));
+    }
+  }
+
+  private static AxeBuilder newBuilder(final ResultCache cache) {
+    AxeBuilderOptions builderOptions = new AxeBuilderOptions();
+    builderOptions.setScriptProvider(() -> "window.axe = {};");
+    return new AxeBuilder(builderOptions).setResultCache(cache);
+  }
+
+  @Test
+  public void scansAnUnchangedPageOnce() {
+    InMemoryResultCache cache = new InMemoryResultCache(1 << 20, Duration.ofMinutes(5));
+    AxeBuilder frozen = newBuilder(cache).freeze();
+    CountingDriver driver = new CountingDriver();
+
+    Results first = frozen.analyze(driver.driver);
+    Results second = frozen.copy().analyze(driver.driver);
+
+    assertEquals(1, driver.runs);
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(first.getUrl(), second.getUrl());
+    assertEquals("image-alt", second.getViolations().get(0).getId());
+  }
+
+  @Test
+  public void rescansWhenThePageOrConfigurationChanges() {
+    InMemoryResultCache cache = new InMemoryResultCache(1 << 20, Duration.ofMinutes(5));
+    AxeBuilder builder = newBuilder(cache);
+    CountingDriver driver = new CountingDriver();
+
+    builder.analyze(driver.driver);
+    driver.fingerprint = "http://example.test/\ndef:101";
+    builder.analyze(driver.driver);
+    builder.withRules(Collections.singletonList("image-alt")).analyze(driver.driver);
+    builder.disableIframeTesting().analyze(driver.driver);
+
+    assertEquals(4, driver.runs);
+    assertEquals(0, cache.getHits());
+    assertEquals(4, cache.size());
+  }
+
+  @Test
+  public void doesNotCacheErroredOrElementScans() {
+    InMemoryResultCache cache = new InMemoryResultCache(1 << 20, Duration.ofMinutes(5));
+    AxeBuilder builder = newBuilder(cache);
+    CountingDriver driver = new CountingDriver();
+
+    driver.failing = true;
+    assertTrue(builder.analyze(driver.driver).isErrored());
+    assertTrue(builder.analyze(driver.driver).isErrored());
+    driver.failing = false;
+    builder.analyze(driver.driver, mock(WebElement.class));
+    builder.analyze(driver.driver, mock(WebElement.class));
+
+    assertEquals(4, driver.runs);
+    assertEquals(0, cache.size());
+    assertEquals(2, cache.getMisses());
+  }
+
+  @Test
+  public void doesNotCacheScansWithAnInjectCallback() {
+    InMemoryResultCache cache = new InMemoryResultCache(1 << 20, Duration.ofMinutes(5));
+    AxeBuilder builder = newBuilder(cache);
+    builder.setInjectAxe(webDriver -> {}, true);
+    CountingDriver driver = new CountingDriver();
+
+    builder.analyze(driver.driver);
+    builder.analyze(driver.driver);
+
+    assertEquals(2, driver.runs);
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getMisses());
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.deque.html.axecore.utilities.ScanListener;
+import com.deque.html.axecore.utilities.ScanPhase;
+import com.deque.html.axecore.utilities.ScanTimingRecorder;
+import com.deque.html.axecore.utilities.ScanTimings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/** Unit tests for {@link AxeBuilder#setScanListener(ScanListener)}. */
+public class AxeBuilderScanListenerUnitTest {
+  private static final String RESULTS = "{\"url\":\"http://example.test/\"}";
+
+  /** a driver for a page with axe-core before 4.3, whose axe.run responds with the results. */
+  private static WebDriver driver(final String runResponse) {
+    WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+    return mock(
+        WebDriver.class,
+        withSettings()
+            .extraInterfaces(JavascriptExecutor.class)
+            .defaultAnswer(
+                invocation -> {
+                  switch (invocation.getMethod().getName()) {
+                    case "switchTo":
+                      return targetLocator;
+                    case "executeScript":
+                      // axe is not yet on the page and has no runPartial
+                      return false;
+                    case "executeAsyncScript":
+                      return runResponse;
+                    default:
+                      return RETURNS_DEFAULTS.answer(invocation);
+                  }
+                }));
+  }
+
+  private static AxeBuilder newBuilder() {
+    AxeBuilderOptions builderOptions = new AxeBuilderOptions();
+    builderOptions.setScriptProvider(() -> "window.axe = {};");
+    return new AxeBuilder(builderOptions);
+  }
+
+  @Test
+  public void reportsEachPhaseOfAScan() {
+    List<ScanPhase> phases = new ArrayList<>();
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    ScanListener listener =
+        new ScanListener() {
+          @Override
+          public void phaseFinished(
+              final ScanPhase phase,
+              final int frameDepth,
+              final long elapsedNanos,
+              final long payloadLength) {
+            phases.add(phase);
+            recorder.phaseFinished(phase, frameDepth, elapsedNanos, payloadLength);
+          }
+
+          @Override
+          public void scanFinished(final long elapsedNanos, final boolean failed) {
+            recorder.scanFinished(elapsedNanos, failed);
+          }
+        };
+
+    newBuilder().withoutIframeSandboxes().setScanListener(listener).analyze(driver(RESULTS));
+
+    assertEquals(
+        Arrays.asList(
+            ScanPhase.SANDBOX_BUSTING,
+            ScanPhase.INJECT_AXE,
+            ScanPhase.INJECT_AXE,
+            ScanPhase.RUN,
+            ScanPhase.READ_RESULTS),
+        phases);
+    ScanTimings timings = recorder.snapshot();
+    assertEquals(RESULTS.length(), timings.getPhase(ScanPhase.RUN).getPayloadMax());
+    assertEquals(1, timings.getScans().getCount());
+    assertEquals(0, timings.getFailures());
+  }
+
+  @Test
+  public void reportsFailedScans() {
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    AxeBuilder builder = newBuilder().setScanListener(recorder);
+
+    assertThrows(RuntimeException.class, () -> builder.analyze(driver("not results")));
+
+    ScanTimings timings = recorder.snapshot();
+    assertEquals(1, timings.getScans().getCount());
+    assertEquals(1, timings.getFailures());
+    assertEquals(0, timings.getPhase(ScanPhase.READ_RESULTS).getCount());
+  }
+
+  @Test
+  public void copiesShareTheListener() {
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    AxeBuilder frozen = newBuilder().setScanListener(recorder).freeze();
+
+    frozen.analyze(driver(RESULTS));
+    frozen.copy().analyze(driver(RESULTS));
+    frozen.copy().setScanListener(null).analyze(driver(RESULTS));
+
+    assertEquals(2, recorder.snapshot().getScans().getCount());
+    assertThrows(IllegalStateException.class, () -> frozen.setScanListener(recorder));
+  }
+}
@@ -18,8 +18,10 @@ import com.deque.html.axecore.args.AxeRuleOptions;
 import com.deque.html.axecore.args.AxeRunContext;
 import com.deque.html.axecore.args.AxeRunOnlyOptions;
 import com.deque.html.axecore.args.AxeRunOptions;
+import com.deque.html.axecore.providers.IAxeScriptProvider;
 import com.deque.html.axecore.results.Results;
 import com.deque.html.axecore.results.Rule;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
@@ -272,6 +274,18 @@ public class AxeBuilderUnitTest {
     builder.withOptions(null);
   }
 
+  /** tests the builder options are kept when an object mapper is passed too. */
+  @Test
+  public void shouldKeepBuilderOptionsWhenPassedAnObjectMapper() {
+    AxeBuilderOptions builderOptions = new AxeBuilderOptions();
+    IAxeScriptProvider scriptProvider = () -> "window.axe = {};";
+    builderOptions.setScriptProvider(scriptProvider);
+
+    AxeBuilder builder = new AxeBuilder(builderOptions, new ObjectMapper());
+
+    Assert.assertSame(scriptProvider, builder.getAxeScriptProvider());
+  }
+
   /**
    * tests error if empty parameters are passed.
    *
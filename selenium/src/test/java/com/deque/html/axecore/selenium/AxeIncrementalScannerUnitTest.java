@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import com.deque.html.axecore.results.CheckedNode;
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.results.Rule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+/** Unit tests for merging the results of {@link AxeIncrementalScanner}. */
+public class AxeIncrementalScannerUnitTest {
+  private static Rule rule(final String id, final String impact, final String... selectors) {
+    Rule rule = new Rule();
+    rule.setId(id);
+    rule.setImpact(impact);
+    List<CheckedNode> nodes = new ArrayList<>();
+    for (String selector : selectors) {
+      CheckedNode node = new CheckedNode();
+      node.setTarget(Collections.singletonList(selector));
+      nodes.add(node);
+    }
+    rule.setNodes(nodes);
+    return rule;
+  }
+
+  private static Results results(
+      final List<Rule> violations, final List<Rule> passes, final List<Rule> inapplicable) {
+    Results results = new Results();
+    results.setViolations(violations);
+    results.setPasses(passes);
+    results.setIncomplete(new ArrayList<>());
+    results.setInapplicable(inapplicable);
+    return results;
+  }
+
+  private static List<Object> targets(final Rule rule) {
+    return rule.getNodes().stream()
+        .map(node -> ((List<?>) node.getTarget()).get(0))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void replacesTheNodesOfChangedSubtrees() {
+    // nodes are indexed violations first: #a 0, #b 1, then passes: #c 2, #d 3
+    Results previous =
+        results(
+            Arrays.asList(rule("image-alt", "critical", "#a", "#b")),
+            Arrays.asList(rule("label", null, "#c", "#d")),
+            Arrays.asList(rule("list", null)));
+    Results delta =
+        results(
+            Arrays.asList(rule("image-alt", "critical", "#b2"), rule("label", "serious", "#d")),
+            new ArrayList<>(),
+            Arrays.asList(rule("list", null), rule("region", null)));
+
+    Results merged =
+        AxeIncrementalScanner.merge(previous, new HashSet<>(Arrays.asList(1, 3)), delta);
+
+    assertEquals(2, merged.getViolations().size());
+    assertEquals(Arrays.asList("#a", "#b2"), targets(merged.getViolations().get(0)));
+    assertEquals(Arrays.asList("#d"), targets(merged.getViolations().get(1)));
+    assertEquals(Arrays.asList("#c"), targets(merged.getPasses().get(0)));
+    assertEquals(
+        Arrays.asList("list", "region"),
+        merged.getInapplicable().stream().map(Rule::getId).collect(Collectors.toList()));
+    // the earlier results are left as they were
+    assertEquals(Arrays.asList("#a", "#b"), targets(previous.getViolations().get(0)));
+    assertNotSame(previous.getViolations().get(0), merged.getViolations().get(0));
+  }
+
+  @Test
+  public void rulesWithNoNodesLeftBecomeInapplicable() {
+    Results previous =
+        results(
+            Arrays.asList(rule("image-alt", "critical", "#a")),
+            Arrays.asList(rule("label", null, "#c")),
+            new ArrayList<>());
+    Results delta =
+        results(
+            new ArrayList<>(),
+            Arrays.asList(rule("label", null, "#c")),
+            Arrays.asList(rule("image-alt", null)));
+
+    Results merged =
+        AxeIncrementalScanner.merge(previous, new HashSet<>(Arrays.asList(0, 1)), delta);
+
+    assertTrue(merged.getViolations().isEmpty());
+    assertEquals(Arrays.asList("#c"), targets(merged.getPasses().get(0)));
+    assertEquals(1, merged.getInapplicable().size());
+    assertEquals("image-alt", merged.getInapplicable().get(0).getId());
+  }
+
+  @Test
+  public void keepsTheHighestImpact() {
+    Results previous =
+        results(
+            Arrays.asList(rule("color-contrast", "moderate", "#a")),
+            new ArrayList<>(),
+            new ArrayList<>());
+    Results delta =
+        results(
+            Arrays.asList(rule("color-contrast", "serious", "#b")),
+            new ArrayList<>(),
+            new ArrayList<>());
+
+    Results merged = AxeIncrementalScanner.merge(previous, new HashSet<>(), delta);
+
+    assertEquals("serious", merged.getViolations().get(0).getImpact());
+    assertEquals(Arrays.asList("#a", "#b"), targets(merged.getViolations().get(0)));
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.utilities.ScanResult;
+import com.deque.html.axecore.utilities.ScanStats;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/** Unit tests for {@link AxeScanService} using mocked drivers and builders. */
+public class AxeScanServiceUnitTest {
+  private final List<WebDriver> createdDrivers = new CopyOnWriteArrayList<>();
+
+  private WebDriver newDriver() {
+    WebDriver driver = mock(WebDriver.class);
+    createdDrivers.add(driver);
+    return driver;
+  }
+
+  private static AxeBuilder builderReturning(Results results) {
+    AxeBuilder builder = mock(AxeBuilder.class);
+    when(builder.analyze(any(WebDriver.class))).thenReturn(results);
+    return builder;
+  }
+
+  private static List<String> urls(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> "http://example.test/" + i)
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void scansEveryUrlWithABoundedPool() throws Exception {
+    Results results = new Results();
+    List<ScanResult<Results>> scanResults = new ArrayList<>();
+    try (AxeScanService service =
+        new AxeScanService(this::newDriver, () -> builderReturning(results)).setPoolSize(3)) {
+      service.scan(urls(20), scanResults::add);
+
+      assertEquals(20, scanResults.size());
+      assertTrue(createdDrivers.size() <= 3);
+      assertEquals(createdDrivers.size(), service.getDriverCount());
+      Set<String> scanned = new HashSet<>();
+      for (ScanResult<Results> scanResult : scanResults) {
+        assertSame(results, scanResult.getResults());
+        assertFalse(scanResult.isFailed());
+        assertEquals(1, scanResult.getAttempts());
+        scanned.add(scanResult.getUrl());
+      }
+      assertEquals(new HashSet<>(urls(20)), scanned);
+
+      ScanStats stats = service.getStats();
+      assertEquals(20, stats.getScans());
+      assertEquals(0, stats.getFailures());
+      assertTrue(stats.getThroughput() > 0);
+      assertTrue(stats.getLatencyPercentile(50).compareTo(stats.getMaxLatency()) <= 0);
+    }
+    for (WebDriver driver : createdDrivers) {
+      verify(driver).quit();
+    }
+  }
+
+  @Test
+  public void replacesACrashedDriverAndRetries() throws Exception {
+    Results results = new Results();
+    List<ScanResult<Results>> scanResults = new ArrayList<>();
+    try (AxeScanService service =
+        new AxeScanService(
+                () -> {
+                  WebDriver driver = newDriver();
+                  if (createdDrivers.size() == 1) {
+                    doThrow(new WebDriverException("crashed")).when(driver).get(any());
+                    when(driver.getWindowHandle()).thenThrow(new WebDriverException("crashed"));
+                  }
+                  return driver;
+                },
+                () -> builderReturning(results))
+            .setPoolSize(1)) {
+      service.scan(Collections.singletonList("http://example.test/"), scanResults::add);
+
+      assertEquals(1, scanResults.size());
+      assertSame(results, scanResults.get(0).getResults());
+      assertEquals(2, scanResults.get(0).getAttempts());
+      assertEquals(2, createdDrivers.size());
+      verify(createdDrivers.get(0)).quit();
+      assertEquals(1, service.getDriverCount());
+      assertEquals(1, service.getStats().getRetries());
+    }
+  }
+
+  @Test
+  public void reportsTheErrorOnceRetriesAreExhausted() throws Exception {
+    WebDriverException crash = new WebDriverException("page crashed");
+    AxeBuilder builder = mock(AxeBuilder.class);
+    when(builder.analyze(any(WebDriver.class))).thenThrow(crash);
+    List<ScanResult<Results>> scanResults = new ArrayList<>();
+    try (AxeScanService service =
+        new AxeScanService(this::newDriver, () -> builder).setPoolSize(1).setMaxRetries(2)) {
+      service.scan(Arrays.asList("http://example.test/").stream(), scanResults::add);
+
+      ScanResult<Results> scanResult = scanResults.get(0);
+      assertTrue(scanResult.isFailed());
+      assertSame(crash, scanResult.getError());
+      assertNull(scanResult.getResults());
+      assertEquals(3, scanResult.getAttempts());
+      // the driver still responds, so it is kept for the retries
+      assertEquals(1, createdDrivers.size());
+      assertEquals(1, service.getStats().getFailures());
+    }
+  }
+
+  @Test
+  public void rejectsScansAfterClose() {
+    AxeScanService service = new AxeScanService(this::newDriver, AxeBuilder::new);
+    service.close();
+    service.close();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> service.scan(Collections.singletonList("http://example.test/"), result -> {}));
+  }
+
+  @Test
+  public void rejectsInvalidSettings() throws Exception {
+    try (AxeScanService service = new AxeScanService(this::newDriver, AxeBuilder::new)) {
+      assertThrows(IllegalArgumentException.class, () -> service.setPoolSize(0));
+      assertThrows(IllegalArgumentException.class, () -> service.setMaxRetries(-1));
+      service.scan(Collections.emptyList(), result -> {});
+      assertThrows(IllegalStateException.class, () -> service.setPoolSize(2));
+      assertEquals(Duration.ZERO, service.getStats().getMaxLatency());
+      assertEquals(0, service.getStats().getThroughput(), 0);
+    }
+  }
+}
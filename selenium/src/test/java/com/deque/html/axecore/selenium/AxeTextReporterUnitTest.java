@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.selenium;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.deque.html.axecore.results.CheckedNode;
+import com.deque.html.axecore.results.Rule;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+/** Unit tests for {@link AxeTextReporter}. */
+public class AxeTextReporterUnitTest {
+  private final AxeTextReporter reporter = new AxeTextReporter("\n");
+
+  private static Rule rule(final String name, final String... targets) {
+    Rule rule = new Rule();
+    rule.setHelp("help " + name);
+    rule.setHelpUrl("https://example.test/" + name);
+    rule.setDescription("desc " + name);
+    rule.setImpact("serious");
+    rule.setTags(Arrays.asList("wcag2a", "wcag412"));
+    List<CheckedNode> nodes = new ArrayList<>();
+    for (String target : targets) {
+      CheckedNode node = new CheckedNode();
+      node.setHtml("<div id=\"" + target + "\">");
+      node.setTarget(target);
+      nodes.add(node);
+    }
+    rule.setNodes(nodes);
+    return rule;
+  }
+
+  @Test
+  public void format_noRules() {
+    assertEquals(
+        "ACCESSIBILITY CHECK\nANALYZE check for: http://example.test/\nFound 0 items",
+        reporter.format("analyze", "http://example.test/", Collections.emptyList()));
+  }
+
+  @Test
+  public void write_streamsTheReport() throws Exception {
+    StringWriter out = new StringWriter();
+
+    assertTrue(
+        reporter.write(
+            out, "violations", "http://example.test/", Arrays.asList(rule("a", "#a"), rule("b"))));
+    assertEquals(
+        "ACCESSIBILITY CHECK\n"
+            + "VIOLATIONS check for: http://example.test/\n"
+            + "Found 2 items\n"
+            + "\n"
+            + "1: help a\n"
+            + "Description: desc a\n"
+            + "Help URL: https://example.test/a\n"
+            + "Impact: serious\n"
+            + "Tags: wcag2a, wcag412\n"
+            + "\t\tHTML element: <div id=\"#a\">\n"
+            + "\t\tSelector: #a\n"
+            + "\n"
+            + "\n"
+            + "2: help b\n"
+            + "Description: desc b\n"
+            + "Help URL: https://example.test/b\n"
+            + "Impact: serious\n"
+            + "Tags: wcag2a, wcag412",
+        out.toString());
+    assertFalse(reporter.write(new StringWriter(), "passes", "", Collections.emptyList()));
+  }
+
+  @Test
+  public void format_concurrentReportsDoNotMix() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<String>> reports = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        String url = "http://example.test/" + i;
+        List<Rule> rules = Collections.nCopies(i % 5, rule(String.valueOf(i), "#" + i));
+        reports.add(() -> reporter.format("analyze", url, rules));
+      }
+      List<Future<String>> results = executor.invokeAll(reports);
+      for (int i = 0; i < results.size(); i++) {
+        String report = results.get(i).get();
+        assertTrue(report.contains("check for: http://example.test/" + i + "\n"));
+        assertTrue(report.contains("Found " + i % 5 + " items"));
+        assertEquals(i % 5, report.split("Selector: #" + i + "\n?", -1).length - 1);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
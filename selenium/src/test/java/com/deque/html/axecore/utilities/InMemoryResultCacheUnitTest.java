@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+/** Unit tests for {@link InMemoryResultCache} and {@link ResultCache#key}. */
+public class InMemoryResultCacheUnitTest {
+  private final AtomicLong now = new AtomicLong();
+
+  private InMemoryResultCache newCache(final long maxChars) {
+    return new InMemoryResultCache(maxChars, Duration.ofSeconds(10), now::get);
+  }
+
+  private static String results(final int length) {
+    StringBuilder results = new StringBuilder("{\"url\":\"");
+    while (results.length() < length - 2) {
+      results.append('x');
+    }
+    return results.append("\"}").toString();
+  }
+
+  @Test
+  public void countsHitsAndMisses() {
+    InMemoryResultCache cache = newCache(1000);
+    String key = ResultCache.key("http://example.test/\nabc:1", "source", "{}", "{}", "");
+
+    assertNull(cache.get(key));
+    cache.put(key, results(100));
+
+    assertEquals(results(100), cache.get(key));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(1, cache.size());
+    assertEquals(key.length() + 100, cache.getChars());
+  }
+
+  @Test
+  public void evictsTheLeastRecentlyUsed() {
+    // room for two results with their 64 character keys
+    InMemoryResultCache cache = newCache(2 * (64 + 100));
+    String a = ResultCache.key("a", "source", "{}", "{}", "");
+    String b = ResultCache.key("b", "source", "{}", "{}", "");
+    String c = ResultCache.key("c", "source", "{}", "{}", "");
+    cache.put(a, results(100));
+    cache.put(b, results(100));
+    cache.get(a);
+    cache.put(c, results(100));
+
+    assertNull(cache.get(b));
+    assertEquals(results(100), cache.get(a));
+    assertEquals(1, cache.getEvictions());
+
+    cache.put(a, results(1000));
+    assertNull(cache.get(a));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void expiresResultsEvenWhenTheyKeepBeingUsed() {
+    InMemoryResultCache cache = newCache(1000);
+    String key = ResultCache.key("page", "source", "{}", "{}", "");
+    cache.put(key, results(100));
+
+    now.addAndGet(Duration.ofSeconds(9).toNanos());
+    assertEquals(results(100), cache.get(key));
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    assertNull(cache.get(key));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getChars());
+    assertEquals(1, cache.getMisses());
+
+    cache.put(key, results(100));
+    assertEquals(results(100), cache.get(key));
+  }
+
+  @Test
+  public void rejectsInvalidSizesAndTtls() {
+    assertThrows(
+        IllegalArgumentException.class, () -> new InMemoryResultCache(0, Duration.ofSeconds(1)));
+    assertThrows(IllegalArgumentException.class, () -> new InMemoryResultCache(100, Duration.ZERO));
+  }
+
+  @Test
+  public void keysDifferByEveryPart() {
+    String key = ResultCache.key("page", "source", "{}", "{}", "");
+
+    assertEquals(64, key.length());
+    assertNotEquals(key, ResultCache.key("page2", "source", "{}", "{}", ""));
+    assertNotEquals(key, ResultCache.key("page", "source2", "{}", "{}", ""));
+    assertNotEquals(key, ResultCache.key("page", "source", "{ }", "{}", ""));
+    assertNotEquals(key, ResultCache.key("page", "source", "{}", "{ }", ""));
+    assertNotEquals(key, ResultCache.key("page", "source", "{}", "{}", "legacy"));
+    assertNotEquals(key, ResultCache.key("pag", "esource", "{}", "{}", ""));
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Unit tests for {@link MappedFileResultCache}. */
+public class MappedFileResultCacheUnitTest {
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+
+  private MappedFileResultCache newCache(final Path directory, final long maxBytes)
+      throws IOException {
+    return new MappedFileResultCache(directory, maxBytes, Duration.ofMinutes(5), now::get);
+  }
+
+  private static String results(final String url) {
+    return "{\"url\":\"" + url + "\",\"violations\":[{\"id\":\"image-alt\",\"help\":\"é\"}]}";
+  }
+
+  /** the bytes of a file holding the results, after the line with the time they were cached. */
+  private long fileSize(final String results) {
+    return (now.get() + "\n" + results).getBytes(StandardCharsets.UTF_8).length;
+  }
+
+  private static List<Path> files(final Path directory) throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+      stream.forEach(files::add);
+    }
+    return files;
+  }
+
+  @Test
+  public void keepsResultsAcrossInstances() throws IOException {
+    Path directory = folder.getRoot().toPath().resolve("cache");
+    MappedFileResultCache cache = newCache(directory, 1 << 20);
+    String key = ResultCache.key("http://example.test/\nabc:1", "source", "{}", "{}", "");
+
+    assertNull(cache.get(key));
+    cache.put(key, results("http://example.test/"));
+    assertEquals(results("http://example.test/"), cache.get(key));
+
+    MappedFileResultCache reopened = newCache(directory, 1 << 20);
+    assertEquals(1, reopened.size());
+    assertEquals(results("http://example.test/"), reopened.get(key));
+    assertEquals(1, reopened.getHits());
+    assertEquals(0, reopened.getMisses());
+    assertEquals(1, files(directory).size());
+  }
+
+  @Test
+  public void findsResultsAnotherInstanceWrote() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    MappedFileResultCache reader = newCache(directory, 1 << 20);
+    MappedFileResultCache writer = newCache(directory, 1 << 20);
+
+    writer.put("key", results("http://example.test/"));
+
+    assertEquals(results("http://example.test/"), reader.get("key"));
+    assertEquals(1, reader.size());
+
+    Files.delete(files(directory).get(0));
+    assertNull(reader.get("key"));
+    assertEquals(0, reader.size());
+    assertEquals(0, reader.getBytes());
+  }
+
+  @Test
+  public void evictsTheLeastRecentlyUsedFiles() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    long size = fileSize(results("http://example.test/a"));
+    MappedFileResultCache cache = newCache(directory, 2 * size);
+    cache.put("a", results("http://example.test/a"));
+    cache.put("b", results("http://example.test/b"));
+    cache.get("a");
+    cache.put("c", results("http://example.test/c"));
+
+    assertNull(cache.get("b"));
+    assertEquals(1, cache.getEvictions());
+    assertEquals(2, files(directory).size());
+    assertEquals(2 * size, cache.getBytes());
+
+    cache.put(
+        "d", results("http://example.test/d?" + String.join("", Collections.nCopies(100, "x"))));
+    assertNull(cache.get("d"));
+    assertEquals(2, files(directory).size());
+  }
+
+  @Test
+  public void evictsByLastUseOnOpening() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    MappedFileResultCache cache = newCache(directory, 1 << 20);
+    cache.put("a", results("http://example.test/a"));
+    cache.put("b", results("http://example.test/b"));
+    // b was used longer ago than a
+    for (Path file : files(directory)) {
+      Files.setLastModifiedTime(file, FileTime.fromMillis(now.get() - 60_000));
+    }
+    cache.get("a");
+
+    long size = fileSize(results("http://example.test/a"));
+    MappedFileResultCache reopened = newCache(directory, size);
+
+    assertEquals(1, reopened.getEvictions());
+    assertEquals(results("http://example.test/a"), reopened.get("a"));
+    assertNull(reopened.get("b"));
+  }
+
+  @Test
+  public void expiresResultsEvenWhenTheyKeepBeingUsed() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    MappedFileResultCache cache = newCache(directory, 1 << 20);
+    cache.put("a", results("http://example.test/a"));
+
+    now.addAndGet(Duration.ofMinutes(4).toMillis());
+    assertEquals(results("http://example.test/a"), cache.get("a"));
+    now.addAndGet(Duration.ofMinutes(1).toMillis());
+
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getBytes());
+    assertEquals(1, cache.getMisses());
+    assertEquals(0, files(directory).size());
+  }
+
+  @Test
+  public void deletesExpiredFilesOnOpening() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    newCache(directory, 1 << 20).put("a", results("http://example.test/a"));
+    assertEquals(1, newCache(directory, 1 << 20).size());
+
+    now.addAndGet(Duration.ofMinutes(6).toMillis());
+    MappedFileResultCache reopened = newCache(directory, 1 << 20);
+
+    assertEquals(0, reopened.size());
+    assertEquals(0, files(directory).size());
+  }
+
+  @Test
+  public void dropsFilesWithoutTheTimeTheyWereCached() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    MappedFileResultCache cache = newCache(directory, 1 << 20);
+    cache.put("a", results("http://example.test/a"));
+    Files.write(
+        files(directory).get(0), results("http://example.test/a").getBytes(StandardCharsets.UTF_8));
+
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+    assertEquals(0, files(directory).size());
+  }
+
+  @Test
+  public void rejectsInvalidSizesAndTtls() {
+    Path directory = folder.getRoot().toPath();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MappedFileResultCache(directory, 0, Duration.ofSeconds(1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MappedFileResultCache(directory, 100, Duration.ZERO));
+  }
+
+  @Test
+  public void canBeSharedByConcurrentScans() throws Exception {
+    MappedFileResultCache cache = newCache(folder.getRoot().toPath(), 1 << 20);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<String>> scans = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        String url = "http://example.test/" + (i % 10);
+        scans.add(
+            () -> {
+              String cached = cache.get(url);
+              if (cached == null) {
+                cache.put(url, results(url));
+                return results(url);
+              }
+              return cached;
+            });
+      }
+      List<Future<String>> all = executor.invokeAll(scans);
+      for (int i = 0; i < all.size(); i++) {
+        assertEquals(results("http://example.test/" + (i % 10)), all.get(i).get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(10, cache.size());
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.deque.html.axecore.results.Results;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+/** Unit tests for {@link ObjectMapperFactory}. */
+public class ObjectMapperFactoryUnitTest {
+
+  @Test
+  public void sharesTheDefaultFactoryAndItsReaders() {
+    ObjectMapperFactory factory = ObjectMapperFactory.getDefault();
+
+    assertSame(factory, ObjectMapperFactory.getDefault());
+    assertSame(factory.readerFor(Results.class), factory.readerFor(Results.class));
+    assertSame(factory.nonNullWriter(), factory.nonNullWriter());
+  }
+
+  @Test
+  public void serializesWithoutNulls() {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put("a", 1);
+    value.put("b", null);
+
+    assertEquals("{\"a\":1}", ObjectMapperFactory.getDefault().serialize(value));
+  }
+
+  @Test
+  public void readsWithAMapperOfYourOwn() throws JsonProcessingException {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
+    ObjectMapperFactory factory = ObjectMapperFactory.of(objectMapper);
+
+    assertNotSame(objectMapper, factory.getObjectMapper());
+    assertTrue(factory.getObjectMapper().isEnabled(JsonParser.Feature.ALLOW_SINGLE_QUOTES));
+    assertEquals(
+        "https://example.com/",
+        factory.read("{'url':'https://example.com/'}", Results.class).getUrl());
+    assertThrows(
+        JsonProcessingException.class,
+        () -> ObjectMapperFactory.getDefault().read("{'url':'x'}", Results.class));
+  }
+
+  @Test
+  public void keepsTheSharedMapperToItself() throws JsonProcessingException {
+    ObjectMapperFactory factory = ObjectMapperFactory.getDefault();
+    factory.getObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    Map<String, Object> value = Collections.singletonMap("a", 1);
+
+    assertEquals("{\"a\":1}", factory.serialize(value));
+    assertEquals("{\"a\":1}", factory.writer().writeValueAsString(value));
+  }
+
+  @Test
+  public void convertsDriverValues() {
+    List<Map<String, Object>> value =
+        Collections.singletonList(Collections.singletonMap("url", "https://example.com/"));
+
+    List<Results> results =
+        ObjectMapperFactory.getDefault().convert(value, new TypeReference<List<Results>>() {});
+
+    assertEquals("https://example.com/", results.get(0).getUrl());
+    assertEquals(
+        "https://example.com/",
+        ObjectMapperFactory.getDefault().convert(value.get(0), Results.class).getUrl());
+  }
+
+  @Test
+  public void leavesTheMapperOfYourOwnAsItIs() throws JsonProcessingException {
+    ObjectMapper objectMapper = new ObjectMapper();
+    ObjectMapperFactory factory = ObjectMapperFactory.of(objectMapper);
+
+    assertEquals("{}", factory.serialize(Collections.singletonMap("a", null)));
+    assertEquals(
+        "{\"a\":null}", objectMapper.writeValueAsString(Collections.singletonMap("a", null)));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+/** Unit tests for {@link PartialResultCache}. */
+public class PartialResultCacheUnitTest {
+  private final AtomicLong now = new AtomicLong();
+
+  private PartialResultCache newCache(final long maxChars) {
+    return new PartialResultCache(maxChars, Duration.ofSeconds(10), now::get);
+  }
+
+  @Test
+  public void returnsCachedPartialResults() {
+    PartialResultCache cache = newCache(1000);
+    String key = PartialResultCache.key("http://example.test/\nabc:10", "scan", "{}");
+
+    assertNull(cache.get(key));
+    cache.put(key, "{\"results\":[]}");
+
+    assertEquals("{\"results\":[]}", cache.get(key));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(key.length() + 14, cache.getChars());
+  }
+
+  @Test
+  public void expiresPartialResults() {
+    PartialResultCache cache = newCache(1000);
+    cache.put("frame", "partial");
+
+    now.addAndGet(Duration.ofSeconds(10).toNanos() - 1);
+    assertEquals("partial", cache.get("frame"));
+    now.incrementAndGet();
+
+    assertNull(cache.get("frame"));
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getChars());
+  }
+
+  @Test
+  public void evictsTheLeastRecentlyUsed() {
+    PartialResultCache cache = newCache(30);
+    cache.put("a", "123456789");
+    cache.put("b", "123456789");
+    cache.put("c", "123456789");
+    cache.get("a");
+
+    cache.put("d", "123456789");
+
+    assertNull(cache.get("b"));
+    assertEquals("123456789", cache.get("a"));
+    assertEquals(3, cache.size());
+    assertEquals(1, cache.getEvictions());
+  }
+
+  @Test
+  public void skipsPartialResultsLargerThanTheCache() {
+    PartialResultCache cache = newCache(10);
+    cache.put("a", "1234");
+    cache.put("a", "12345678901");
+
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.getChars());
+  }
+
+  @Test
+  public void keysDependOnTheAxeSourceAndOptions() {
+    String scanKey = PartialResultCache.scanKey("1a2b:100", "{}");
+
+    assertEquals(64, scanKey.length());
+    assertEquals(scanKey, PartialResultCache.scanKey("1a2b:100", "{}"));
+    assertNotEquals(scanKey, PartialResultCache.scanKey("1a2b:101", "{}"));
+    assertNotEquals(scanKey, PartialResultCache.scanKey("1a2b:100", "{\"rules\":{}}"));
+    assertThrows(
+        IllegalArgumentException.class, () -> new PartialResultCache(0, Duration.ofSeconds(1)));
+    assertThrows(IllegalArgumentException.class, () -> new PartialResultCache(100, Duration.ZERO));
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/** Unit tests for {@link PartialResultsChunker}. */
+public class PartialResultsChunkerUnitTest {
+
+  private static List<String> chunk(List<String> partialResults, int chunkSize) {
+    List<String> chunks = new ArrayList<>();
+    PartialResultsChunker.forEachChunk(partialResults, chunkSize, chunks::add);
+    return chunks;
+  }
+
+  @Test
+  public void sendsSmallResultsAsOneChunk() {
+    List<String> chunks =
+        chunk(
+            Arrays.asList("{\"a\":1}", null, "{\"b\":2}"),
+            PartialResultsChunker.DEFAULT_CHUNK_SIZE);
+
+    assertEquals(Collections.singletonList("[{\"a\":1},null,{\"b\":2}]"), chunks);
+  }
+
+  @Test
+  public void sendsAnEmptyArray() {
+    assertEquals(
+        Collections.singletonList("[]"),
+        chunk(Collections.emptyList(), PartialResultsChunker.DEFAULT_CHUNK_SIZE));
+  }
+
+  @Test
+  public void joinsToTheSameArrayForEveryChunkSize() {
+    List<String> partialResults =
+        Arrays.asList("{\"rule\":\"label\",\"nodes\":[1,2,3]}", null, "{}", "{\"x\":\"yz\"}");
+    String expected = "[" + String.join(",", partialResults) + "]";
+
+    for (int chunkSize = 1; chunkSize <= expected.length() + 1; chunkSize++) {
+      List<String> chunks = chunk(partialResults, chunkSize);
+
+      assertEquals(expected, String.join("", chunks));
+      for (int i = 0; i < chunks.size(); i++) {
+        assertTrue(chunks.get(i).length() <= chunkSize);
+        if (i < chunks.size() - 1) {
+          assertEquals(chunkSize, chunks.get(i).length());
+        }
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsChunkSizeBelowOne() {
+    PartialResultsChunker.forEachChunk(Collections.emptyList(), 0, chunk -> {});
+  }
+}
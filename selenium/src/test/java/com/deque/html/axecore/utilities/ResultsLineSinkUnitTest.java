@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.deque.html.axecore.results.CheckedNode;
+import com.deque.html.axecore.results.Results;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Unit tests for {@link ResultsLineSink}. */
+public class ResultsLineSinkUnitTest {
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private static final ObjectMapperFactory MAPPER = ObjectMapperFactory.getDefault();
+
+  private static Results results(final String url, final int nodes) {
+    List<CheckedNode> checkedNodes = new ArrayList<>();
+    for (int i = 0; i < nodes; i++) {
+      CheckedNode node = new CheckedNode();
+      node.setHtml("<img src=\"" + i + ".png\">");
+      node.setTarget(Collections.singletonList("img:nth-child(" + i + ")"));
+      checkedNodes.add(node);
+    }
+    com.deque.html.axecore.results.Rule rule = new com.deque.html.axecore.results.Rule();
+    rule.setId("image-alt");
+    rule.setImpact("critical");
+    rule.setTags(Arrays.asList("wcag2a", "wcag111"));
+    rule.setNodes(checkedNodes);
+    Results results = new Results();
+    results.setUrl(url);
+    results.setViolations(Collections.singletonList(rule));
+    return results;
+  }
+
+  private static List<String> lines(final Path path) throws IOException {
+    return Files.readAllLines(path, StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void writesOneLinePerScanFromManyThreads() throws Exception {
+    Path path = folder.getRoot().toPath().resolve("run.ndjson");
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try (ResultsLineSink sink = new ResultsLineSink(path)) {
+      List<Callable<Void>> scans = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        Results results = results("http://example.test/" + i, 20);
+        scans.add(
+            () -> {
+              sink.write(results);
+              return null;
+            });
+      }
+      for (Future<Void> scan : executor.invokeAll(scans)) {
+        scan.get();
+      }
+      assertEquals(200, sink.getLines());
+    } finally {
+      executor.shutdown();
+    }
+
+    Set<String> urls = new HashSet<>();
+    for (String line : lines(path)) {
+      Results results = MAPPER.read(line, Results.class);
+      assertEquals(20, results.getViolations().get(0).getNodes().size());
+      urls.add(results.getUrl());
+    }
+    assertEquals(200, urls.size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void writesOneLinePerNode() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("nodes.ndjson");
+    Results results = results("http://example.test/", 3);
+
+    try (ResultsLineSink sink = new ResultsLineSink(path)) {
+      sink.writeNodes(results.getUrl(), results.getViolations());
+    }
+
+    List<String> lines = lines(path);
+    assertEquals(3, lines.size());
+    Map<String, Object> line = MAPPER.read(lines.get(2), Map.class);
+    assertEquals("http://example.test/", line.get("url"));
+    assertEquals("image-alt", line.get("ruleId"));
+    assertEquals("critical", line.get("impact"));
+    assertEquals(Collections.singletonList("img:nth-child(2)"), line.get("target"));
+  }
+
+  @Test
+  public void appendsToAnExistingFile() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("run.ndjson");
+    try (ResultsLineSink sink = new ResultsLineSink(path)) {
+      sink.write(results("http://example.test/1", 1));
+    }
+    try (ResultsLineSink sink = new ResultsLineSink(path)) {
+      sink.write(results("http://example.test/2", 1));
+    }
+
+    assertEquals(2, lines(path).size());
+  }
+
+  @Test
+  public void flushesPeriodically() throws Exception {
+    Path path = folder.getRoot().toPath().resolve("run.ndjson");
+    try (ResultsLineSink sink =
+        new ResultsLineSink(path, Duration.ofMillis(10), ObjectMapperFactory.getDefault())) {
+      sink.write(results("http://example.test/", 1));
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (Files.size(path) == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(1, lines(path).size());
+    }
+  }
+
+  @Test
+  public void rejectsWritesOnceClosed() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("run.ndjson");
+    ResultsLineSink sink = new ResultsLineSink(path);
+    sink.close();
+    sink.close();
+
+    assertThrows(IOException.class, () -> sink.write(results("http://example.test/", 1)));
+    assertTrue(Files.exists(path));
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.results.ResultType;
+import com.deque.html.axecore.results.Results;
+import com.deque.html.axecore.results.Rule;
+import java.util.Collections;
+import java.util.EnumSet;
+import org.junit.Test;
+
+/** Unit tests for {@link ResultsProjection}. */
+public class ResultsProjectionUnitTest {
+
+  @Test
+  public void keepsEverythingByDefault() {
+    assertSame(ResultsProjection.ALL, ResultsProjection.of());
+    assertSame(ResultsProjection.ALL, ResultsProjection.of(ResultType.values()));
+    assertTrue(ResultsProjection.ALL.isAll());
+    assertEquals("[]", ResultsProjection.ALL.getDroppedJson());
+  }
+
+  @Test
+  public void listsTheDroppedKeys() {
+    ResultsProjection projection =
+        ResultsProjection.of(ResultType.Violations, ResultType.Incomplete, ResultType.Violations);
+
+    assertEquals(EnumSet.of(ResultType.Violations, ResultType.Incomplete), projection.getKept());
+    assertEquals("[\"passes\",\"inapplicable\"]", projection.getDroppedJson());
+    assertThrows(
+        IllegalArgumentException.class, () -> ResultsProjection.of(ResultType.Passes, null));
+  }
+
+  @Test
+  public void emptiesTheDroppedTypes() {
+    ResultsProjection projection = ResultsProjection.of(ResultType.Passes);
+    Results results = new Results();
+    results.setViolations(Collections.singletonList(new Rule()));
+    results.setPasses(Collections.singletonList(new Rule()));
+    AxeResults axeResults = new AxeResults();
+    axeResults.setIncomplete(Collections.singletonList(new Rule()));
+    axeResults.setPasses(Collections.singletonList(new Rule()));
+
+    projection.apply(results);
+    projection.apply(axeResults);
+
+    assertTrue(results.getViolations().isEmpty());
+    assertTrue(results.getInapplicable().isEmpty());
+    assertEquals(1, results.getPasses().size());
+    assertTrue(axeResults.getIncomplete().isEmpty());
+    assertEquals(1, axeResults.getPasses().size());
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.results.Results;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Unit tests for {@link ResultsReader}, reading back what {@link ResultsWriter} wrote. */
+public class ResultsReaderUnitTest {
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private static final String RESULTS_JSON =
+      "{\"url\":\"http://example.test/\",\"timestamp\":\"2026-01-01T00:00:00.000Z\","
+          + "\"testEngine\":{\"name\":\"axe-core\",\"version\":\"4.11.0\"},"
+          + "\"violations\":[{\"id\":\"color-contrast\",\"impact\":\"serious\","
+          + "\"tags\":[\"wcag2aa\",\"wcag143\"],\"help\":\"Elements must meet contrast\","
+          + "\"nodes\":[{\"html\":\"<a href=\\\"/\\\">Home</a>\",\"impact\":\"serious\","
+          + "\"target\":[[\"#shadow-host\",\"a.home\"]],\"failureSummary\":\"Fix any\","
+          + "\"any\":[{\"id\":\"color-contrast\",\"impact\":\"serious\",\"message\":\"Low\","
+          + "\"data\":{\"fgColor\":\"#777777\",\"contrastRatio\":3.2,\"fontSize\":14,"
+          + "\"isLarge\":false,\"ranges\":[1,2.5,\"3\"]},"
+          + "\"relatedNodes\":[{\"html\":\"<nav>\",\"target\":[\"nav\"]}]}],"
+          + "\"all\":[],\"none\":[]}]}],\"passes\":[],\"incomplete\":[],\"inapplicable\":[]}";
+
+  private static final ObjectMapperFactory MAPPER = ObjectMapperFactory.getDefault();
+
+  private static <T> void assertRoundTrips(
+      final Class<T> type, final ResultsFormat format, final boolean gzip) throws IOException {
+    T results = MAPPER.read(RESULTS_JSON, type);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new ResultsWriter().setFormat(format).setGzip(gzip).write(results, out);
+
+    T read = new ResultsReader().read(new ByteArrayInputStream(out.toByteArray()), type);
+
+    assertEquals(MAPPER.serialize(results), MAPPER.serialize(read));
+  }
+
+  @Test
+  public void roundTripsEveryFormat() throws IOException {
+    for (ResultsFormat format : ResultsFormat.values()) {
+      for (boolean gzip : Arrays.asList(false, true)) {
+        assertRoundTrips(Results.class, format, gzip);
+        assertRoundTrips(AxeResults.class, format, gzip);
+      }
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void keepsCheckDataAndTargets() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("results" + ResultsFormat.SMILE.getExtension());
+    new ResultsWriter()
+        .setFormat(ResultsFormat.SMILE)
+        .write(MAPPER.read(RESULTS_JSON, Results.class), path);
+
+    Results read = new ResultsReader().read(path, Results.class);
+
+    assertEquals(
+        Arrays.asList(Arrays.asList("#shadow-host", "a.home")),
+        read.getViolations().get(0).getNodes().get(0).getTarget());
+    Map<String, Object> data =
+        (Map<String, Object>)
+            read.getViolations().get(0).getNodes().get(0).getAny().get(0).getData();
+    assertEquals(3.2, data.get("contrastRatio"));
+    assertEquals(14, data.get("fontSize"));
+    assertEquals(false, data.get("isLarge"));
+    assertEquals(Arrays.asList(1, 2.5, "3"), data.get("ranges"));
+  }
+
+  @Test
+  public void smileIsSmallerThanJson() throws JsonProcessingException, IOException {
+    Results results = MAPPER.read(RESULTS_JSON, Results.class);
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    ByteArrayOutputStream smile = new ByteArrayOutputStream();
+
+    new ResultsWriter().write(results, json);
+    new ResultsWriter().setFormat(ResultsFormat.SMILE).write(results, smile);
+
+    assertTrue(smile.size() < json.size());
+  }
+
+  @Test
+  public void throwsOnSomethingElse() {
+    byte[] text = "not results".getBytes(StandardCharsets.UTF_8);
+
+    assertThrows(
+        IOException.class,
+        () -> new ResultsReader().read(new ByteArrayInputStream(text), Results.class));
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.deque.html.axecore.results.Results;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Unit tests for {@link ResultsWriter}. */
+public class ResultsWriterUnitTest {
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private static Results results() {
+    com.deque.html.axecore.results.Rule rule = new com.deque.html.axecore.results.Rule();
+    rule.setId("image-alt");
+    rule.setHelp("Images must have alternate text");
+    rule.setTags(Collections.singletonList("wcag2a"));
+    rule.setNodes(Collections.emptyList());
+    Results results = new Results();
+    results.setUrl("http://example.test/");
+    results.setViolations(Collections.singletonList(rule));
+    return results;
+  }
+
+  @Test
+  public void writesWhatSerializeReturns() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    ResultsWriter.Written written = new ResultsWriter().write(results(), out);
+
+    String expected = ObjectMapperFactory.getDefault().serialize(results());
+    assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    assertEquals(out.size(), written.getBytes());
+  }
+
+  @Test
+  public void writesGzippedFiles() throws IOException {
+    Path path = folder.getRoot().toPath().resolve("results.json.gz");
+    Files.write(path, new byte[100_000]);
+
+    ResultsWriter.Written written =
+        new ResultsWriter().setGzip(true).setBufferSize(16).write(results(), path);
+
+    byte[] compressed = Files.readAllBytes(path);
+    assertEquals(compressed.length, written.getBytes());
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      byte[] buffer = new byte[4096];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        json.write(buffer, 0, read);
+      }
+    }
+    assertArrayEquals(
+        ObjectMapperFactory.getDefault().serialize(results()).getBytes(StandardCharsets.UTF_8),
+        json.toByteArray());
+  }
+
+  @Test
+  public void throwsWhenTheFileCannotBeWritten() {
+    Path directory = folder.getRoot().toPath();
+
+    assertThrows(IOException.class, () -> new ResultsWriter().write(results(), directory));
+  }
+
+  @Test
+  public void rejectsAnEmptyBuffer() {
+    assertThrows(IllegalArgumentException.class, () -> new ResultsWriter().setBufferSize(0));
+  }
+}
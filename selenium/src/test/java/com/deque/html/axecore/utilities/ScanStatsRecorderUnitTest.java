@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/** Unit tests for {@link ScanStatsRecorder} and {@link ScanStats}. */
+public class ScanStatsRecorderUnitTest {
+
+  @Test
+  public void computesThroughputAndPercentiles() {
+    ScanStatsRecorder recorder = new ScanStatsRecorder();
+    // 100 scans of 1..100ms, back to back over 5050ms
+    long start = 0;
+    for (int i = 1; i <= 100; i++) {
+      long latency = Duration.ofMillis(i).toNanos();
+      recorder.record(start, start + latency, i % 10 == 0);
+      start += latency;
+    }
+    recorder.recordRetry();
+
+    ScanStats stats = recorder.snapshot();
+
+    assertEquals(100, stats.getScans());
+    assertEquals(10, stats.getFailures());
+    assertEquals(1, stats.getRetries());
+    assertEquals(Duration.ofMillis(5050), stats.getElapsed());
+    assertEquals(100 / 5.05, stats.getThroughput(), 0.001);
+    assertEquals(Duration.ofMillis(50), stats.getLatencyPercentile(50));
+    assertEquals(Duration.ofMillis(95), stats.getLatencyPercentile(95));
+    assertEquals(Duration.ofMillis(1), stats.getLatencyPercentile(0));
+    assertEquals(Duration.ofMillis(100), stats.getMaxLatency());
+    assertEquals(Duration.ofNanos(50_500_000), stats.getMeanLatency());
+  }
+
+  @Test
+  public void reportsZeroWhenNothingWasScanned() {
+    ScanStats stats = new ScanStatsRecorder().snapshot();
+
+    assertEquals(0, stats.getScans());
+    assertEquals(Duration.ZERO, stats.getElapsed());
+    assertEquals(0, stats.getThroughput(), 0);
+    assertEquals(Duration.ZERO, stats.getMeanLatency());
+    assertEquals(Duration.ZERO, stats.getMaxLatency());
+  }
+
+  @Test
+  public void rejectsPercentilesOutOfRange() {
+    ScanStats stats = new ScanStatsRecorder().snapshot();
+
+    assertThrows(IllegalArgumentException.class, () -> stats.getLatencyPercentile(-1));
+    assertThrows(IllegalArgumentException.class, () -> stats.getLatencyPercentile(101));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/** Unit tests for {@link ScanTimingRecorder} and {@link ScanTimings}. */
+public class ScanTimingRecorderUnitTest {
+
+  @Test
+  public void aggregatesEachPhase() {
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    // runPartial in 100 frames of 1..100ms, nested up to 3 deep
+    for (int i = 1; i <= 100; i++) {
+      recorder.phaseFinished(
+          ScanPhase.RUN_PARTIAL, i % 4, Duration.ofMillis(i).toNanos(), i * 1000L);
+    }
+    recorder.phaseFinished(ScanPhase.FRAME_CONTEXTS, 0, 1_000, -1);
+    recorder.scanFinished(Duration.ofSeconds(6).toNanos(), false);
+    recorder.scanFinished(Duration.ofSeconds(1).toNanos(), true);
+
+    ScanTimings timings = recorder.snapshot();
+    ScanTimings.Timing runPartial = timings.getPhase(ScanPhase.RUN_PARTIAL);
+
+    assertEquals(100, runPartial.getCount());
+    assertEquals(Duration.ofMillis(5050), runPartial.getTotal());
+    assertEquals(Duration.ofNanos(50_500_000), runPartial.getMean());
+    assertEquals(Duration.ofMillis(100), runPartial.getMax());
+    assertEquals(Duration.ofMillis(100), runPartial.getPercentile(100));
+    assertWithin25Percent(Duration.ofMillis(50), runPartial.getPercentile(50));
+    assertWithin25Percent(Duration.ofMillis(95), runPartial.getPercentile(95));
+    assertEquals(5_050_000, runPartial.getPayloadTotal());
+    assertEquals(50_500, runPartial.getPayloadMean());
+    assertEquals(100_000, runPartial.getPayloadMax());
+    assertEquals(3, runPartial.getMaxFrameDepth());
+    assertEquals(0, timings.getPhase(ScanPhase.FRAME_CONTEXTS).getPayloadMean());
+    assertEquals(2, timings.getScans().getCount());
+    assertEquals(1, timings.getFailures());
+    assertTrue(timings.toString().contains("RUN_PARTIAL={count=100"));
+  }
+
+  @Test
+  public void snapshotsAreUnaffectedByLaterTimings() {
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    recorder.phaseFinished(ScanPhase.FINISH_RUN, 0, 10, 100);
+    ScanTimings timings = recorder.snapshot();
+
+    recorder.phaseFinished(ScanPhase.FINISH_RUN, 0, 20, 100);
+
+    assertEquals(1, timings.getPhase(ScanPhase.FINISH_RUN).getCount());
+    assertEquals(2, recorder.snapshot().getPhase(ScanPhase.FINISH_RUN).getCount());
+  }
+
+  @Test
+  public void reportsZeroForPhasesThatNeverRan() {
+    ScanTimings.Timing timing = new ScanTimingRecorder().snapshot().getPhase(ScanPhase.RUN);
+
+    assertEquals(0, timing.getCount());
+    assertEquals(Duration.ZERO, timing.getMean());
+    assertEquals(Duration.ZERO, timing.getPercentile(95));
+    assertEquals(Duration.ZERO, timing.getMax());
+    assertThrows(IllegalArgumentException.class, () -> timing.getPercentile(101));
+  }
+
+  @Test
+  public void keepsExtremeDurations() {
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    recorder.phaseFinished(ScanPhase.RUN, 0, 0, -1);
+    recorder.phaseFinished(ScanPhase.RUN, 0, 3, -1);
+    recorder.phaseFinished(ScanPhase.RUN, 0, Long.MAX_VALUE, -1);
+
+    ScanTimings.Timing timing = recorder.snapshot().getPhase(ScanPhase.RUN);
+
+    assertEquals(Duration.ZERO, timing.getPercentile(0));
+    assertEquals(Duration.ofNanos(3), timing.getPercentile(50));
+    assertEquals(Duration.ofNanos(Long.MAX_VALUE), timing.getPercentile(100));
+  }
+
+  @Test
+  public void sumsTheRoundTripsOfFrameTraversals() {
+    ScanTimingRecorder recorder = new ScanTimingRecorder();
+    assertFalse(recorder.snapshot().toString().contains("traversals"));
+    recorder.framesTraversed(3, 12, 4);
+    recorder.framesTraversed(1, 2, 0);
+
+    ScanTimings.Traversals traversals = recorder.snapshot().getTraversals();
+    assertEquals(2, traversals.getCount());
+    assertEquals(4, traversals.getFrames());
+    assertEquals(14, traversals.getRoundTrips());
+    assertEquals(4, traversals.getSwitches());
+    assertTrue(
+        recorder
+            .snapshot()
+            .toString()
+            .contains("traversals={count=2, frames=4, roundTrips=14, switches=4}"));
+  }
+
+  private static void assertWithin25Percent(final Duration expected, final Duration actual) {
+    long error = Math.abs(actual.toNanos() - expected.toNanos());
+    assertTrue(actual + " is not close to " + expected, error <= expected.toNanos() / 4);
+  }
+}
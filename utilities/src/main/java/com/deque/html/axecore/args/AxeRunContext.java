@@ -69,6 +69,18 @@ public class AxeRunContext {
     this.exclude.add(newExclude);
   }
 
+  /**
+   * copies the context. The include and exclude lists are copied, the values in them are shared.
+   *
+   * @return the copy
+   */
+  public AxeRunContext copy() {
+    AxeRunContext copy = new AxeRunContext();
+    copy.include = include == null ? null : new ArrayList<>(include);
+    copy.exclude = exclude == null ? null : new ArrayList<>(exclude);
+    return copy;
+  }
+
   private void createNewExclude() {
     if (this.exclude == null) {
       this.exclude = new ArrayList<>();
@@ -15,6 +15,8 @@ package com.deque.html.axecore.args;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -218,4 +220,22 @@ public class AxeRunOptions {
   public void setFrameWaitTimeInMilliseconds(final Integer newFrameWaitTime) {
     this.frameWaitTimeInMilliseconds = newFrameWaitTime;
   }
+
+  /**
+   * copies the options. The rules and result types are copied, the values in them are shared.
+   *
+   * @return the copy
+   */
+  public AxeRunOptions copy() {
+    AxeRunOptions copy = new AxeRunOptions();
+    copy.rules = rules == null ? null : new LinkedHashMap<>(rules);
+    copy.runOnly = runOnly;
+    copy.resultTypes = resultTypes == null ? null : new ArrayList<>(resultTypes);
+    copy.absolutePaths = absolutePaths;
+    copy.frameWaitTimeInMilliseconds = frameWaitTimeInMilliseconds;
+    copy.iframe = iframe;
+    copy.restoreScroll = restoreScroll;
+    copy.xpath = xpath;
+    return copy;
+  }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.util.List;
+
+/**
+ * Runs axe.finishRun somewhere other than a browser window. When a builder is given a FinishRunner,
+ * the partial results collected from the page are handed to it instead of being sent to a new
+ * about:blank window or page. The graaljs module's {@code GraalFinishRunner} runs axe.finishRun in
+ * a JavaScript runtime embedded in the JVM.
+ *
+ * <p>A runner brings its own axe-core source, loaded once rather than for every scan, which should
+ * be the version the builders inject into pages. Implementations are shared by every scan of the
+ * builders they are given to, and must be safe to call from several threads if those builders are.
+ */
+@FunctionalInterface
+public interface FinishRunner {
+  /**
+   * Runs axe.finishRun.
+   *
+   * @param partialResults the serialized partial results, in frame order, null for frames that were
+   *     not tested
+   * @return the results of axe.finishRun, serialized as JSON
+   * @throws Exception if axe.finishRun fails
+   */
+  String finishRun(List<String> partialResults) throws Exception;
+}
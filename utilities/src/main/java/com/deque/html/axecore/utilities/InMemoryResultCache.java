@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link ResultCache} in memory, holding at most the given number of characters of serialized
+ * results and evicting the least recently used first. Results are used for at most the given time
+ * to live after they were cached, however often they are looked up.
+ */
+public final class InMemoryResultCache implements ResultCache {
+  private final long maxChars;
+  private final long ttlNanos;
+  private final LongSupplier clock;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long chars = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param maxChars the most characters of keys and results to hold
+   * @param ttl how long results are used for after they were cached
+   */
+  public InMemoryResultCache(final long maxChars, final Duration ttl) {
+    this(maxChars, ttl, System::nanoTime);
+  }
+
+  InMemoryResultCache(final long maxChars, final Duration ttl, final LongSupplier clock) {
+    if (maxChars <= 0) {
+      throw new IllegalArgumentException("maxChars must be positive.");
+    }
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("ttl must be positive.");
+    }
+    this.maxChars = maxChars;
+    this.ttlNanos = ttl.toNanos();
+    this.clock = clock;
+  }
+
+  /**
+   * {@inheritDoc} Expired results are dropped.
+   *
+   * @param key the key
+   * @return the serialized results, or null if they are not cached or have expired
+   */
+  @Override
+  public synchronized String get(final String key) {
+    Entry entry = entries.get(key);
+    if (entry != null && clock.getAsLong() - entry.cachedAt >= ttlNanos) {
+      entries.remove(key);
+      chars -= entry.chars;
+      entry = null;
+    }
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    return entry.results;
+  }
+
+  /**
+   * {@inheritDoc} Results larger than the whole cache are not cached.
+   *
+   * @param key the key
+   * @param results the serialized results
+   */
+  @Override
+  public synchronized void put(final String key, final String results) {
+    Entry previous = entries.remove(key);
+    if (previous != null) {
+      chars -= previous.chars;
+    }
+    long size = (long) key.length() + results.length();
+    if (size > maxChars) {
+      return;
+    }
+    entries.put(key, new Entry(results, size, clock.getAsLong()));
+    chars += size;
+    Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+    while (chars > maxChars) {
+      Entry evicted = eldest.next().getValue();
+      eldest.remove();
+      chars -= evicted.chars;
+      evictions++;
+    }
+  }
+
+  /** Empties the cache. The hit, miss and eviction counts are kept. */
+  public synchronized void clear() {
+    entries.clear();
+    chars = 0;
+  }
+
+  /** @return the number of results cached. */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** @return the characters of keys and results cached. */
+  public synchronized long getChars() {
+    return chars;
+  }
+
+  @Override
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  @Override
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  @Override
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "InMemoryResultCache{size="
+        + entries.size()
+        + ", chars="
+        + chars
+        + ", hits="
+        + hits
+        + ", misses="
+        + misses
+        + ", evictions="
+        + evictions
+        + "}";
+  }
+
+  private static final class Entry {
+    private final String results;
+    private final long chars;
+    private final long cachedAt;
+
+    private Entry(final String results, final long chars, final long cachedAt) {
+      this.results = results;
+      this.chars = chars;
+      this.cachedAt = cachedAt;
+    }
+  }
+}
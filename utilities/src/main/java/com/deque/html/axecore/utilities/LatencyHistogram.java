@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of durations in nanoseconds with logarithmic buckets, four to each power of two, so
+ * percentiles are accurate to within 25% in a fixed 2KiB. Not thread-safe.
+ */
+final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 2;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private final long[] counts;
+  private long count = 0;
+  private long total = 0;
+  private long max = 0;
+
+  LatencyHistogram() {
+    this.counts = new long[bucket(Long.MAX_VALUE) + 1];
+  }
+
+  private LatencyHistogram(final LatencyHistogram histogram) {
+    this.counts = Arrays.copyOf(histogram.counts, histogram.counts.length);
+    this.count = histogram.count;
+    this.total = histogram.total;
+    this.max = histogram.max;
+  }
+
+  void record(final long nanos) {
+    long value = Math.max(nanos, 0);
+    counts[bucket(value)]++;
+    count++;
+    total += value;
+    max = Math.max(max, value);
+  }
+
+  LatencyHistogram copy() {
+    return new LatencyHistogram(this);
+  }
+
+  long getCount() {
+    return count;
+  }
+
+  long getTotal() {
+    return total;
+  }
+
+  long getMax() {
+    return max;
+  }
+
+  /**
+   * gets a percentile using the nearest-rank method, as the upper bound of the bucket it falls in.
+   *
+   * @param percentile between 0 and 100
+   * @return the duration in nanoseconds, or 0 if nothing has been recorded
+   */
+  long getPercentile(final double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100.");
+    }
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+    long seen = 0;
+    for (int bucket = 0; bucket < counts.length; bucket++) {
+      seen += counts[bucket];
+      if (seen >= rank) {
+        return Math.min(upperBound(bucket), max);
+      }
+    }
+    return max;
+  }
+
+  private static int bucket(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  private static long upperBound(final int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long subBucket = bucket % SUB_BUCKETS;
+    long next = (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    // the top bucket would overflow
+    return next <= 0 ? Long.MAX_VALUE : next - 1;
+  }
+}
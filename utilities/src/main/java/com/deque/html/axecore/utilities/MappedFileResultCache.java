@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link ResultCache} on disk, so that results outlive the JVM and can be shared by the forked
+ * JVMs of a build. Each result is a file in the directory holding the time it was cached on its
+ * first line and the serialized results after it, read by mapping it into memory and decoded
+ * straight from the mapping, and written to a temporary file first and then moved into place, so
+ * that a reader never sees half a file.
+ *
+ * <p>Results are used for at most the given time to live after they were cached, measured from the
+ * time in the file rather than from when it was last used, so results that keep being looked up
+ * still expire, and a cache opened on the directory later deletes the files that expired since. The
+ * cache holds at most the given number of bytes of the files it knows of, evicting the least
+ * recently used first. It knows of the files in the directory when it is created, ordered by when
+ * they were last used, and of any file another cache on the same directory writes later once it is
+ * looked up.
+ */
+public final class MappedFileResultCache implements ResultCache {
+  private static final String SUFFIX = ".json";
+
+  private final Path directory;
+  private final long maxBytes;
+  private final long ttlMillis;
+  private final LongSupplier clock;
+  /** the size of each file, by file name. */
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long bytes = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  /**
+   * Opens a cache on the directory, keeping the results already in it.
+   *
+   * @param directory the directory, created if it does not exist
+   * @param maxBytes the most bytes of results to hold
+   * @param ttl how long results are used for after they were cached, by this JVM or another
+   * @throws IOException if the directory cannot be created or listed
+   */
+  public MappedFileResultCache(final Path directory, final long maxBytes, final Duration ttl)
+      throws IOException {
+    this(directory, maxBytes, ttl, System::currentTimeMillis);
+  }
+
+  MappedFileResultCache(
+      final Path directory, final long maxBytes, final Duration ttl, final LongSupplier clock)
+      throws IOException {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes must be positive.");
+    }
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("ttl must be positive.");
+    }
+    this.directory = Files.createDirectories(directory);
+    this.maxBytes = maxBytes;
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+      stream.forEach(files::add);
+    }
+    Map<Path, FileTime> lastUsed = new LinkedHashMap<>();
+    for (Path file : files) {
+      FileTime modified = Files.getLastModifiedTime(file);
+      // a file is cached no later than it was last used, so it has expired if that is too long ago
+      if (clock.getAsLong() - modified.toMillis() >= ttlMillis) {
+        deleteQuietly(file);
+      } else {
+        lastUsed.put(file, modified);
+      }
+    }
+    files.removeIf(file -> !lastUsed.containsKey(file));
+    files.sort(Comparator.comparing(lastUsed::get));
+    for (Path file : files) {
+      long size = Files.size(file);
+      entries.put(file.getFileName().toString(), size);
+      bytes += size;
+    }
+    evict();
+  }
+
+  /**
+   * {@inheritDoc} Expired results are deleted.
+   *
+   * @param key the key
+   * @return the serialized results, or null if they are not cached or have expired
+   */
+  @Override
+  public String get(final String key) {
+    String name = fileName(key);
+    Path path = directory.resolve(name);
+    synchronized (this) {
+      if (entries.get(name) == null && !adopt(name, path)) {
+        misses++;
+        return null;
+      }
+    }
+    String content;
+    try {
+      content = read(path);
+    } catch (IOException e) {
+      // evicted by another thread or cache since
+      forget(name);
+      return null;
+    }
+    int newline = content.indexOf('\n');
+    if (newline < 0 || clock.getAsLong() - cachedAt(content, newline) >= ttlMillis) {
+      forget(name);
+      deleteQuietly(path);
+      return null;
+    }
+    synchronized (this) {
+      hits++;
+    }
+    try {
+      Files.setLastModifiedTime(path, FileTime.fromMillis(clock.getAsLong()));
+    } catch (IOException e) {
+      // only orders evictions after a restart, expiry goes by the time in the file
+    }
+    return content.substring(newline + 1);
+  }
+
+  /**
+   * {@inheritDoc} Results larger than the whole cache are not cached.
+   *
+   * @param key the key
+   * @param results the serialized results
+   * @throws UncheckedIOException if the file cannot be written
+   */
+  @Override
+  public void put(final String key, final String results) {
+    byte[] content = (clock.getAsLong() + "\n" + results).getBytes(StandardCharsets.UTF_8);
+    if (content.length > maxBytes) {
+      return;
+    }
+    String name = fileName(key);
+    Path temp = null;
+    try {
+      temp = Files.createTempFile(directory, "put", ".tmp");
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      Files.move(
+          temp,
+          directory.resolve(name),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      deleteQuietly(temp);
+      throw new UncheckedIOException("Unable to cache results in " + directory, e);
+    }
+    synchronized (this) {
+      Long previous = entries.put(name, (long) content.length);
+      bytes += content.length - (previous != null ? previous : 0);
+      evict();
+    }
+  }
+
+  /** @return the number of results cached. */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** @return the bytes of results cached. */
+  public synchronized long getBytes() {
+    return bytes;
+  }
+
+  @Override
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  @Override
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  @Override
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "MappedFileResultCache{directory="
+        + directory
+        + ", size="
+        + entries.size()
+        + ", bytes="
+        + bytes
+        + ", hits="
+        + hits
+        + ", misses="
+        + misses
+        + ", evictions="
+        + evictions
+        + "}";
+  }
+
+  private static String fileName(final String key) {
+    return Digests.sha256Hex(key) + SUFFIX;
+  }
+
+  private static String read(final Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return StandardCharsets.UTF_8
+          .decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()))
+          .toString();
+    }
+  }
+
+  /** gives the time a file was cached, or 0 if its first line is not a time. */
+  private static long cachedAt(final String content, final int newline) {
+    try {
+      return Long.parseLong(content.substring(0, newline));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  /** stops tracking a file that could not be used, counting a miss. */
+  private synchronized void forget(final String name) {
+    Long size = entries.remove(name);
+    if (size != null) {
+      bytes -= size;
+    }
+    misses++;
+  }
+
+  /** starts tracking a file another cache on the directory wrote. */
+  private boolean adopt(final String name, final Path path) {
+    long size;
+    try {
+      size = Files.size(path);
+    } catch (IOException e) {
+      return false;
+    }
+    entries.put(name, size);
+    bytes += size;
+    evict();
+    return entries.containsKey(name);
+  }
+
+  private void evict() {
+    Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+    while (bytes > maxBytes) {
+      Map.Entry<String, Long> evicted = eldest.next();
+      eldest.remove();
+      bytes -= evicted.getValue();
+      evictions++;
+      deleteQuietly(directory.resolve(evicted.getKey()));
+    }
+  }
+
+  private static void deleteQuietly(final Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // still mapped by a reader on some platforms, and evicted again once it is looked up
+    }
+  }
+}
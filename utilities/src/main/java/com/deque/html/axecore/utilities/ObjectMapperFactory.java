@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds an ObjectMapper together with the readers and writer made from it, so that they, and the
+ * serializers and deserializers Jackson caches in them, are built once and shared rather than per
+ * call. Use {@link #getDefault()} for a plain ObjectMapper, or {@link #of(ObjectMapper)} to plug in
+ * one of your own. Thread-safe, provided a mapper of your own is not reconfigured once it is handed
+ * over. The mapper itself is never handed out, so that no caller can reconfigure it for everyone
+ * else sharing the factory.
+ */
+public final class ObjectMapperFactory {
+  private static final ObjectMapperFactory DEFAULT = new ObjectMapperFactory(new ObjectMapper());
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter writer;
+  /** built on first use, since it needs a copy of the mapper. */
+  private volatile ObjectWriter nonNullWriter;
+  /** built on first use, since few callers need it. */
+  private volatile ObjectMapperFactory smile;
+
+  private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+  private ObjectMapperFactory(final ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.writer = objectMapper.writer();
+  }
+
+  /**
+   * gets the factory shared by everything that is not given a mapper of its own.
+   *
+   * @return the shared factory
+   */
+  public static ObjectMapperFactory getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Creates a factory for a mapper of your own. Create one per mapper and reuse it, since each
+   * factory has its own caches.
+   *
+   * @param objectMapper the mapper
+   * @return a factory using the mapper
+   */
+  public static ObjectMapperFactory of(final ObjectMapper objectMapper) {
+    return new ObjectMapperFactory(Objects.requireNonNull(objectMapper, "objectMapper"));
+  }
+
+  /**
+   * gets a copy of the mapper, to configure for uses of your own.
+   *
+   * @return a copy of the mapper, whose changes do not affect the factory
+   */
+  public ObjectMapper getObjectMapper() {
+    return objectMapper.copy();
+  }
+
+  /**
+   * gets a reader for the type, creating it on first use.
+   *
+   * @param type the type to read
+   * @return the reader
+   */
+  public ObjectReader readerFor(final Class<?> type) {
+    return readers.computeIfAbsent(type, objectMapper::readerFor);
+  }
+
+  /**
+   * gets the writer of the mapper as it is configured.
+   *
+   * @return the writer
+   */
+  public ObjectWriter writer() {
+    return writer;
+  }
+
+  /**
+   * gets the writer that leaves out null properties, as axe expects its arguments.
+   *
+   * @return the writer
+   */
+  public ObjectWriter nonNullWriter() {
+    ObjectWriter writer = nonNullWriter;
+    if (writer == null) {
+      // racing threads may each build one, which is harmless
+      writer = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL).writer();
+      nonNullWriter = writer;
+    }
+    return writer;
+  }
+
+  /**
+   * gets a factory for a copy of the mapper that reads and writes Smile, the binary form of JSON,
+   * creating it on first use.
+   *
+   * @return the Smile factory
+   */
+  public ObjectMapperFactory smile() {
+    ObjectMapperFactory factory = smile;
+    if (factory == null) {
+      // racing threads may each build one, which is harmless
+      factory = new ObjectMapperFactory(objectMapper.copyWith(new SmileFactory()));
+      smile = factory;
+    }
+    return factory;
+  }
+
+  /**
+   * Serializes a value, leaving out null properties.
+   *
+   * @param value the value to serialize
+   * @return the JSON
+   * @throws IllegalArgumentException if the value cannot be serialized
+   */
+  public String serialize(final Object value) {
+    try {
+      return nonNullWriter().writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot serialize object", e);
+    }
+  }
+
+  /**
+   * Reads JSON into a value of the type.
+   *
+   * @param json the JSON
+   * @param type the type to read
+   * @param <T> the type to read
+   * @return the value
+   * @throws JsonProcessingException if the JSON cannot be read as the type
+   */
+  public <T> T read(final String json, final Class<T> type) throws JsonProcessingException {
+    return readerFor(type).readValue(json);
+  }
+
+  /**
+   * Converts a value, such as the maps and lists a driver returns, into a value of the type.
+   *
+   * @param value the value to convert
+   * @param type the type to convert to
+   * @param <T> the type to convert to
+   * @return the converted value
+   * @throws IllegalArgumentException if the value cannot be converted
+   */
+  public <T> T convert(final Object value, final Class<T> type) {
+    return objectMapper.convertValue(value, type);
+  }
+
+  /**
+   * Converts a value, such as the maps and lists a driver returns, into a value of the generic
+   * type.
+   *
+   * @param value the value to convert
+   * @param type the type to convert to
+   * @param <T> the type to convert to
+   * @return the converted value
+   * @throws IllegalArgumentException if the value cannot be converted
+   */
+  public <T> T convert(final Object value, final TypeReference<T> type) {
+    return objectMapper.convertValue(value, type);
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the axe.runPartial results of frames, so that frames which appear on many pages, such as a
+ * consent banner or a chat widget, are only tested once. A builder given a cache fingerprints each
+ * frame below the top-level page in the browser, and when the same frame URL, fingerprint, axe
+ * source, context and options were seen before, it hands the cached partial result to axe.finishRun
+ * instead of running axe.runPartial in the frame.
+ *
+ * <p>The fingerprint is a hash of the frame's markup, including open shadow roots, and its viewport
+ * size. State that is not in the markup, such as form values, stylesheets changed in place or
+ * closed shadow roots, is not seen, so the time to live should be short enough for such changes not
+ * to matter. The cache holds at most the given number of characters of keys and partial results,
+ * evicting the least recently used first. Thread-safe, so one cache can be shared by every builder
+ * of a run.
+ */
+public final class PartialResultCache {
+  /**
+   * A JavaScript function, run in a frame, returning the frame's URL and a fingerprint of its
+   * document, separated by a newline.
+   */
+  public static final String FINGERPRINT_FUNCTION =
+      "function () {"
+          + "const parts = [document.documentElement.outerHTML];"
+          + "const visit = root => root.querySelectorAll('*').forEach(el => {"
+          + "  if (el.shadowRoot) { parts.push(el.shadowRoot.innerHTML); visit(el.shadowRoot); }"
+          + "});"
+          + "visit(document);"
+          + "parts.push(window.innerWidth + 'x' + window.innerHeight);"
+          + "const text = parts.join('\\u0000');"
+          // cyrb53, a fast 53 bit string hash
+          + "let h1 = 0xdeadbeef, h2 = 0x41c6ce57;"
+          + "for (let i = 0; i < text.length; i++) {"
+          + "  const ch = text.charCodeAt(i);"
+          + "  h1 = Math.imul(h1 ^ ch, 2654435761);"
+          + "  h2 = Math.imul(h2 ^ ch, 1597334677);"
+          + "}"
+          + "h1 = Math.imul(h1 ^ (h1 >>> 16), 2246822507);"
+          + "h1 ^= Math.imul(h2 ^ (h2 >>> 13), 3266489909);"
+          + "h2 = Math.imul(h2 ^ (h2 >>> 16), 2246822507);"
+          + "h2 ^= Math.imul(h1 ^ (h1 >>> 13), 3266489909);"
+          + "const hash = 4294967296 * (2097151 & h2) + (h1 >>> 0);"
+          + "return location.href + '\\n' + hash.toString(36) + ':' + text.length;"
+          + "}";
+
+  private final long maxChars;
+  private final long ttlNanos;
+  private final LongSupplier clock;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long chars = 0;
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param maxChars the most characters of keys and partial results to hold
+   * @param ttl how long a partial result is used for after it was cached
+   */
+  public PartialResultCache(final long maxChars, final Duration ttl) {
+    this(maxChars, ttl, System::nanoTime);
+  }
+
+  PartialResultCache(final long maxChars, final Duration ttl, final LongSupplier clock) {
+    if (maxChars <= 0) {
+      throw new IllegalArgumentException("maxChars must be positive.");
+    }
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("ttl must be positive.");
+    }
+    this.maxChars = maxChars;
+    this.ttlNanos = ttl.toNanos();
+    this.clock = clock;
+  }
+
+  /**
+   * Creates the part of the keys that is the same for every frame of a scan.
+   *
+   * @param axeSourceId identifies the axe source injected into the frames
+   * @param options the serialized run options
+   * @return the scan key
+   */
+  public static String scanKey(final String axeSourceId, final String options) {
+    return Digests.sha256Hex(axeSourceId, options);
+  }
+
+  /**
+   * Creates the key of a frame's partial result.
+   *
+   * @param fingerprint what {@link #FINGERPRINT_FUNCTION} returned in the frame
+   * @param scanKey from {@link #scanKey(String, String)}
+   * @param context the serialized context the frame is tested with
+   * @return the key
+   */
+  public static String key(final String fingerprint, final String scanKey, final String context) {
+    return fingerprint + '\n' + scanKey + '\n' + context;
+  }
+
+  /**
+   * gets a cached partial result.
+   *
+   * @param key the key
+   * @return the partial result, or null if it is not cached or has expired
+   */
+  public synchronized String get(final String key) {
+    Entry entry = entries.get(key);
+    if (entry != null && clock.getAsLong() - entry.cachedAt >= ttlNanos) {
+      remove(key, entry);
+      entry = null;
+    }
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    return entry.partialResult;
+  }
+
+  /**
+   * Caches a partial result, evicting the least recently used ones if the cache is full. Partial
+   * results larger than the whole cache are not cached.
+   *
+   * @param key the key
+   * @param partialResult the serialized partial result
+   */
+  public synchronized void put(final String key, final String partialResult) {
+    long size = (long) key.length() + partialResult.length();
+    Entry previous = entries.remove(key);
+    if (previous != null) {
+      chars -= previous.chars;
+    }
+    if (size > maxChars) {
+      return;
+    }
+    entries.put(key, new Entry(partialResult, size, clock.getAsLong()));
+    chars += size;
+    Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+    while (chars > maxChars) {
+      Entry evicted = eldest.next().getValue();
+      eldest.remove();
+      chars -= evicted.chars;
+      evictions++;
+    }
+  }
+
+  /** Empties the cache. The hit, miss and eviction counts are kept. */
+  public synchronized void clear() {
+    entries.clear();
+    chars = 0;
+  }
+
+  /** @return the number of partial results cached. */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /** @return the characters of keys and partial results cached. */
+  public synchronized long getChars() {
+    return chars;
+  }
+
+  /** @return the number of lookups that found a partial result. */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /** @return the number of lookups that found nothing, or an expired partial result. */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /** @return the number of partial results evicted to make room for others. */
+  public synchronized long getEvictions() {
+    return evictions;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "PartialResultCache{size="
+        + entries.size()
+        + ", chars="
+        + chars
+        + ", hits="
+        + hits
+        + ", misses="
+        + misses
+        + ", evictions="
+        + evictions
+        + "}";
+  }
+
+  private void remove(final String key, final Entry entry) {
+    entries.remove(key);
+    chars -= entry.chars;
+  }
+
+  private static final class Entry {
+    private final String partialResult;
+    private final long chars;
+    private final long cachedAt;
+
+    private Entry(final String partialResult, final long chars, final long cachedAt) {
+      this.partialResult = partialResult;
+      this.chars = chars;
+      this.cachedAt = cachedAt;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Splits the JSON array of axe partial results into chunks for sending to the browser, without
+ * building the whole array as one String. Small partial results are combined into one chunk, and a
+ * partial result larger than the chunk size is split, so each chunk is at most the chunk size and
+ * only one chunk is held at a time. The chunks joined together are the JSON array of the partial
+ * results.
+ */
+public final class PartialResultsChunker {
+  /** the default maximum chunk size, in characters. */
+  public static final int DEFAULT_CHUNK_SIZE = 20_000_000;
+
+  private PartialResultsChunker() {}
+
+  /**
+   * Passes the JSON array of partial results to the sink, chunk by chunk.
+   *
+   * @param partialResults the serialized partial results, null for frames that were not tested
+   * @param chunkSize the maximum chunk size, in characters
+   * @param sink receives each chunk in order
+   */
+  public static void forEachChunk(
+      final List<String> partialResults, final int chunkSize, final Consumer<String> sink) {
+    checkChunkSize(chunkSize);
+    StringBuilder buffer = new StringBuilder(Math.min(chunkSize, 8192));
+    append(buffer, "[", chunkSize, sink);
+    boolean first = true;
+    for (String partialResult : partialResults) {
+      if (!first) {
+        append(buffer, ",", chunkSize, sink);
+      }
+      append(buffer, String.valueOf(partialResult), chunkSize, sink);
+      first = false;
+    }
+    append(buffer, "]", chunkSize, sink);
+    sink.accept(buffer.toString());
+  }
+
+  /**
+   * Checks a chunk size is usable.
+   *
+   * @param chunkSize the maximum chunk size, in characters
+   * @return the chunk size
+   * @throws IllegalArgumentException if the chunk size is less than 1
+   */
+  public static int checkChunkSize(final int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be at least 1.");
+    }
+    return chunkSize;
+  }
+
+  private static void append(
+      final StringBuilder buffer,
+      final String value,
+      final int chunkSize,
+      final Consumer<String> sink) {
+    if (buffer.length() + value.length() <= chunkSize) {
+      buffer.append(value);
+      return;
+    }
+    int offset = 0;
+    if (buffer.length() > 0) {
+      // top the buffer up so every chunk but the last is full
+      offset = chunkSize - buffer.length();
+      buffer.append(value, 0, offset);
+      sink.accept(buffer.toString());
+      buffer.setLength(0);
+    }
+    // send whole slices straight from the value, keeping only the remainder
+    while (value.length() - offset > chunkSize) {
+      sink.accept(value.substring(offset, offset + chunkSize));
+      offset += chunkSize;
+    }
+    buffer.append(value, offset, value.length());
+  }
+}
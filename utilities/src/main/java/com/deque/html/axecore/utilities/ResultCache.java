@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+/**
+ * Caches the results of whole scans, so that a page scanned again unchanged, for example by another
+ * test visiting the same page, is not tested again. A builder given a cache fingerprints the page
+ * before injecting anything, with {@link PartialResultCache#FINGERPRINT_FUNCTION}, and when the
+ * same URL, fingerprint, axe source, context and options were seen before, it reads the cached
+ * results instead of scanning.
+ *
+ * <p>Only the markup of the top-level document is fingerprinted, so a page whose frames change
+ * while the page itself does not keeps getting the results cached before the change. Nor are the
+ * stylesheets and scripts the page loads seen, only the tags that load them, so a changed
+ * stylesheet or script that changes the results, for example of color-contrast or of rules that
+ * skip hidden elements, is not noticed either. Results therefore expire after a time to live, which
+ * should be no longer than the time between such changes, for example a single build. Scans whose
+ * axe is configured by code the key does not see, such as an inject callback, must not be cached.
+ * Implementations must be thread-safe, so that one cache can be shared by every builder of a run.
+ * See {@link InMemoryResultCache} and {@link MappedFileResultCache}.
+ */
+public interface ResultCache {
+  /**
+   * Creates the key of a scan's results.
+   *
+   * @param fingerprint what {@link PartialResultCache#FINGERPRINT_FUNCTION} returned in the page,
+   *     holding its URL and a hash of its document
+   * @param axeSourceId identifies the axe source the scan injects, standing in for axe.version
+   * @param context the serialized context
+   * @param options the serialized run options
+   * @param mode anything else that changes the results, such as whether frames are tested
+   * @return the key, 64 hex digits
+   */
+  static String key(
+      final String fingerprint,
+      final String axeSourceId,
+      final String context,
+      final String options,
+      final String mode) {
+    return Digests.sha256Hex(fingerprint, axeSourceId, context, options, mode);
+  }
+
+  /**
+   * gets cached results.
+   *
+   * @param key the key
+   * @return the serialized results, or null if they are not cached or have expired
+   */
+  String get(String key);
+
+  /**
+   * Caches results, evicting others if the cache is full.
+   *
+   * @param key the key
+   * @param results the serialized results
+   */
+  void put(String key, String results);
+
+  /** @return the number of lookups that found results. */
+  long getHits();
+
+  /** @return the number of lookups that found nothing, or expired results. */
+  long getMisses();
+
+  /** @return the number of results evicted to make room for others. */
+  long getEvictions();
+}
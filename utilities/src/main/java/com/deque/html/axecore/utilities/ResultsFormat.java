@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+/** The formats {@link ResultsWriter} writes and {@link ResultsReader} reads. */
+public enum ResultsFormat {
+  /** Plain JSON, as axe-core returns it. */
+  JSON(".json"),
+  /**
+   * Smile, the binary form of JSON. It holds the same data, including the free-form check data and
+   * node targets, in less space, and is faster to read back.
+   */
+  SMILE(".smile");
+
+  private final String extension;
+
+  ResultsFormat(final String extension) {
+    this.extension = extension;
+  }
+
+  /** @return the usual file extension, without any compression extension. */
+  public String getExtension() {
+    return extension;
+  }
+
+  ObjectMapperFactory mapperFactory(final ObjectMapperFactory jsonFactory) {
+    return this == SMILE ? jsonFactory.smile() : jsonFactory;
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import com.deque.html.axecore.results.CheckedNode;
+import com.deque.html.axecore.results.Rule;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends scan results to a file as newline-delimited JSON, one line per scan or one per violation
+ * node, so that a whole multi-page run ends up in one file that can be processed a line at a time.
+ * Any number of threads can write at once: each line is serialized on the calling thread and
+ * appended whole through a single buffered channel. The buffer is flushed periodically, and on
+ * {@link #flush()} and {@link #close()}.
+ *
+ * <pre>{@code
+ * try (ResultsLineSink sink = new ResultsLineSink(Paths.get("run.ndjson"))) {
+ *   sink.write(results);
+ *   sink.writeNodes(results.getUrl(), results.getViolations());
+ * }
+ * }</pre>
+ */
+public final class ResultsLineSink implements Closeable {
+  private static final byte NEWLINE = '\n';
+
+  private final ObjectWriter writer;
+  private final OutputStream out;
+  private final ScheduledExecutorService flusher;
+  private long lines = 0;
+  private boolean dirty = false;
+  private boolean closed = false;
+  /** a failed periodic flush, thrown from the next write. */
+  private IOException flushError;
+
+  /**
+   * Opens a sink on the file, flushing every second.
+   *
+   * @param path the file to append to, created if it does not exist
+   * @throws IOException if the file cannot be opened
+   */
+  public ResultsLineSink(final Path path) throws IOException {
+    this(path, Duration.ofSeconds(1), ObjectMapperFactory.getDefault());
+  }
+
+  /**
+   * Opens a sink on the file.
+   *
+   * @param path the file to append to, created if it does not exist
+   * @param flushInterval how often buffered lines are flushed, or zero to only flush when the
+   *     buffer is full and on {@link #flush()} and {@link #close()}
+   * @param mapperFactory the mapper to serialize with
+   * @throws IOException if the file cannot be opened
+   */
+  public ResultsLineSink(
+      final Path path, final Duration flushInterval, final ObjectMapperFactory mapperFactory)
+      throws IOException {
+    if (flushInterval.isNegative()) {
+      throw new IllegalArgumentException("flushInterval cannot be negative.");
+    }
+    this.writer = mapperFactory.nonNullWriter();
+    this.out =
+        new BufferedOutputStream(
+            Channels.newOutputStream(
+                FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND,
+                    StandardOpenOption.WRITE)),
+            64 * 1024);
+    if (flushInterval.isZero()) {
+      flusher = null;
+    } else {
+      flusher =
+          Executors.newSingleThreadScheduledExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "axe-results-sink-flush");
+                thread.setDaemon(true);
+                return thread;
+              });
+      long nanos = flushInterval.toNanos();
+      flusher.scheduleWithFixedDelay(this::periodicFlush, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Appends one line holding the whole value.
+   *
+   * @param results the results of a scan, such as a Results or an AxeResults
+   * @throws IOException if the line cannot be written
+   */
+  public void write(final Object results) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream(8192);
+    writer.writeValue(line, results);
+    line.write(NEWLINE);
+    append(line, 1);
+  }
+
+  /**
+   * Appends one line per node of the rules, holding the URL, the rule and the node.
+   *
+   * @param url the URL that was scanned
+   * @param rules the rules, usually the violations of a scan
+   * @throws IOException if the lines cannot be written
+   */
+  public void writeNodes(final String url, final List<Rule> rules) throws IOException {
+    ByteArrayOutputStream lines = new ByteArrayOutputStream(8192);
+    int count = 0;
+    for (Rule rule : rules) {
+      if (rule.getNodes() == null) {
+        continue;
+      }
+      for (CheckedNode node : rule.getNodes()) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("url", url);
+        line.put("ruleId", rule.getId());
+        line.put("impact", node.getImpact() != null ? node.getImpact() : rule.getImpact());
+        line.put("tags", rule.getTags());
+        line.put("html", node.getHtml());
+        line.put("target", node.getTarget());
+        line.put("failureSummary", node.getFailureSummary());
+        writer.writeValue(lines, line);
+        lines.write(NEWLINE);
+        count++;
+      }
+    }
+    append(lines, count);
+  }
+
+  /**
+   * gets the number of lines written so far.
+   *
+   * @return the line count
+   */
+  public synchronized long getLines() {
+    return lines;
+  }
+
+  /**
+   * Writes any buffered lines to the file.
+   *
+   * @throws IOException if the lines cannot be written
+   */
+  public synchronized void flush() throws IOException {
+    throwIfUnusable();
+    out.flush();
+    dirty = false;
+  }
+
+  /**
+   * Flushes and closes the file. Closing more than once has no effect.
+   *
+   * @throws IOException if the buffered lines cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    if (flusher != null) {
+      flusher.shutdownNow();
+    }
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      out.close();
+    }
+  }
+
+  private synchronized void append(final ByteArrayOutputStream bytes, final int count)
+      throws IOException {
+    throwIfUnusable();
+    bytes.writeTo(out);
+    lines += count;
+    dirty = true;
+  }
+
+  private synchronized void periodicFlush() {
+    if (closed || !dirty || flushError != null) {
+      return;
+    }
+    try {
+      out.flush();
+      dirty = false;
+    } catch (IOException e) {
+      flushError = e;
+    }
+  }
+
+  private void throwIfUnusable() throws IOException {
+    if (closed) {
+      throw new IOException("The sink has been closed.");
+    }
+    if (flushError != null) {
+      throw new IOException("An earlier flush failed.", flushError);
+    }
+  }
+}
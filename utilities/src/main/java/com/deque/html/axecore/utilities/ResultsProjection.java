@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import com.deque.html.axecore.results.AxeResults;
+import com.deque.html.axecore.results.ResultType;
+import com.deque.html.axecore.results.Results;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The result types a scan hands back, for example only the violations. The builders empty the other
+ * types in the browser, before the results are serialized, so they are neither sent to Java nor
+ * parsed. Unlike {@link com.deque.html.axecore.args.AxeRunOptions#setResultTypes}, which only
+ * limits the nodes axe-core lists for each rule, the rules of the other types are dropped too.
+ * Immutable.
+ */
+public final class ResultsProjection {
+  /** Keeps every result type. */
+  public static final ResultsProjection ALL =
+      new ResultsProjection(EnumSet.allOf(ResultType.class));
+
+  private final Set<ResultType> kept;
+  /** the keys of the dropped types as a JSON array, as the builders' scripts take them. */
+  private final String droppedJson;
+
+  private ResultsProjection(final Set<ResultType> kept) {
+    this.kept = Collections.unmodifiableSet(kept);
+    List<String> dropped = new ArrayList<>();
+    for (ResultType type : ResultType.values()) {
+      if (!kept.contains(type)) {
+        dropped.add("\"" + type.getKey() + "\"");
+      }
+    }
+    this.droppedJson = "[" + String.join(",", dropped) + "]";
+  }
+
+  /**
+   * Creates a projection keeping the given result types.
+   *
+   * @param resultTypes the types to keep, or none to keep every type
+   * @return the projection
+   */
+  public static ResultsProjection of(final ResultType... resultTypes) {
+    if (resultTypes == null || resultTypes.length == 0) {
+      return ALL;
+    }
+    Set<ResultType> kept = EnumSet.noneOf(ResultType.class);
+    for (ResultType resultType : resultTypes) {
+      if (resultType == null) {
+        throw new IllegalArgumentException("resultTypes cannot contain null.");
+      }
+      kept.add(resultType);
+    }
+    return kept.size() == ResultType.values().length ? ALL : new ResultsProjection(kept);
+  }
+
+  /**
+   * gets the kept result types.
+   *
+   * @return the kept types
+   */
+  public Set<ResultType> getKept() {
+    return kept;
+  }
+
+  /**
+   * gets whether every result type is kept.
+   *
+   * @return true if nothing is dropped
+   */
+  public boolean isAll() {
+    return this == ALL;
+  }
+
+  /**
+   * gets the keys of the dropped result types as a JSON array, such as {@code
+   * ["passes","inapplicable"]}.
+   *
+   * @return the JSON array
+   */
+  public String getDroppedJson() {
+    return droppedJson;
+  }
+
+  /**
+   * Empties the dropped result types of results read in Java, for results that did not come from a
+   * browser.
+   *
+   * @param results the results to project
+   * @return the results
+   */
+  public Results apply(final Results results) {
+    if (!kept.contains(ResultType.Violations)) {
+      results.setViolations(new ArrayList<>());
+    }
+    if (!kept.contains(ResultType.Passes)) {
+      results.setPasses(new ArrayList<>());
+    }
+    if (!kept.contains(ResultType.Inapplicable)) {
+      results.setInapplicable(new ArrayList<>());
+    }
+    if (!kept.contains(ResultType.Incomplete)) {
+      results.setIncomplete(new ArrayList<>());
+    }
+    return results;
+  }
+
+  /**
+   * Empties the dropped result types of results read in Java, for results that did not come from a
+   * browser.
+   *
+   * @param results the results to project
+   * @return the results
+   */
+  public AxeResults apply(final AxeResults results) {
+    if (!kept.contains(ResultType.Violations)) {
+      results.setViolations(new ArrayList<>());
+    }
+    if (!kept.contains(ResultType.Passes)) {
+      results.setPasses(new ArrayList<>());
+    }
+    if (!kept.contains(ResultType.Inapplicable)) {
+      results.setInapplicable(new ArrayList<>());
+    }
+    if (!kept.contains(ResultType.Incomplete)) {
+      results.setIncomplete(new ArrayList<>());
+    }
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "ResultsProjection" + kept;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads back what a {@link ResultsWriter} wrote, in any of its formats, gzipped or not. The format
+ * is detected from the first bytes, so archives of mixed formats can be read with one reader. The
+ * readers for each type are built once and shared, so reading many archives, for example to follow
+ * trends across nightly scans, costs little more than parsing them. Thread-safe.
+ *
+ * <pre>{@code
+ * ResultsReader reader = new ResultsReader();
+ * for (Path archive : archives) {
+ *   Results results = reader.read(archive, Results.class);
+ * }
+ * }</pre>
+ */
+public final class ResultsReader {
+  private static final int GZIP_MAGIC_1 = 0x1f;
+  private static final int GZIP_MAGIC_2 = 0x8b;
+  // Smile data starts with ":)\n"
+  private static final int SMILE_MAGIC_1 = ':';
+  private static final int SMILE_MAGIC_2 = ')';
+
+  private final ObjectMapperFactory mapperFactory;
+  private int bufferSize = 64 * 1024;
+
+  /** Creates a reader using the default ObjectMapper. */
+  public ResultsReader() {
+    this(ObjectMapperFactory.getDefault());
+  }
+
+  /**
+   * Creates a reader using the factory's ObjectMapper.
+   *
+   * @param mapperFactory the mapper to deserialize with
+   */
+  public ResultsReader(final ObjectMapperFactory mapperFactory) {
+    this.mapperFactory = Objects.requireNonNull(mapperFactory, "mapperFactory");
+  }
+
+  /**
+   * Sets the size of the buffer between a file and the parser.
+   *
+   * @param bufferSize the buffer size in bytes. Defaults to 64KiB.
+   * @return this
+   */
+  public ResultsReader setBufferSize(final int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize must be at least 1.");
+    }
+    this.bufferSize = bufferSize;
+    return this;
+  }
+
+  /**
+   * Reads results from a file.
+   *
+   * @param path the file to read
+   * @param type the type to read, such as Results or AxeResults
+   * @param <T> the type to read
+   * @return the results
+   * @throws IOException if the file cannot be read or does not hold results of the type
+   */
+  public <T> T read(final Path path, final Class<T> type) throws IOException {
+    try (InputStream in =
+        new BufferedInputStream(
+            Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ)), bufferSize)) {
+      return read(in, type);
+    }
+  }
+
+  /**
+   * Reads results from a stream, which is left open.
+   *
+   * @param in the stream to read
+   * @param type the type to read, such as Results or AxeResults
+   * @param <T> the type to read
+   * @return the results
+   * @throws IOException if the stream cannot be read or does not hold results of the type
+   */
+  public <T> T read(final InputStream in, final Class<T> type) throws IOException {
+    InputStream source = in.markSupported() ? in : new BufferedInputStream(in);
+    if (startsWith(source, GZIP_MAGIC_1, GZIP_MAGIC_2)) {
+      source = new BufferedInputStream(new GZIPInputStream(source, 8192));
+    }
+    ResultsFormat format =
+        startsWith(source, SMILE_MAGIC_1, SMILE_MAGIC_2) ? ResultsFormat.SMILE : ResultsFormat.JSON;
+    ObjectReader reader = format.mapperFactory(mapperFactory).readerFor(type);
+    try (JsonParser parser = reader.createParser(source)) {
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+      return reader.readValue(parser);
+    }
+  }
+
+  private static boolean startsWith(final InputStream in, final int first, final int second)
+      throws IOException {
+    in.mark(2);
+    try {
+      return in.read() == first && in.read() == second;
+    } finally {
+      in.reset();
+    }
+  }
+}
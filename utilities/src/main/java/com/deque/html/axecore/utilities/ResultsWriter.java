@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams scan results as JSON or Smile, leaving out null properties as {@link
+ * ObjectMapperFactory#serialize(Object)} does. The output is generated straight into the target
+ * rather than built up as a String first, so writing large results takes no more memory than the
+ * results themselves. Errors are thrown rather than ignored. Thread-safe once configured. Read the
+ * output back with a {@link ResultsReader}.
+ *
+ * <pre>{@code
+ * ResultsWriter.Written written =
+ *     new ResultsWriter().setGzip(true).write(results, Paths.get("results.json.gz"));
+ * }</pre>
+ */
+public final class ResultsWriter {
+  private final ObjectMapperFactory mapperFactory;
+  private ResultsFormat format = ResultsFormat.JSON;
+  private boolean gzip = false;
+  private int bufferSize = 64 * 1024;
+
+  /** Creates a writer using the default ObjectMapper. */
+  public ResultsWriter() {
+    this(ObjectMapperFactory.getDefault());
+  }
+
+  /**
+   * Creates a writer using the factory's ObjectMapper.
+   *
+   * @param mapperFactory the mapper to serialize with
+   */
+  public ResultsWriter(final ObjectMapperFactory mapperFactory) {
+    this.mapperFactory = Objects.requireNonNull(mapperFactory, "mapperFactory");
+  }
+
+  /**
+   * Sets the format to write.
+   *
+   * @param format the format. Defaults to {@link ResultsFormat#JSON}.
+   * @return this
+   */
+  public ResultsWriter setFormat(final ResultsFormat format) {
+    this.format = Objects.requireNonNull(format, "format");
+    return this;
+  }
+
+  /**
+   * Sets whether the output is gzip compressed.
+   *
+   * @param gzip true to compress. Defaults to false.
+   * @return this
+   */
+  public ResultsWriter setGzip(final boolean gzip) {
+    this.gzip = gzip;
+    return this;
+  }
+
+  /**
+   * Sets the size of the buffer between the generator and a file.
+   *
+   * @param bufferSize the buffer size in bytes. Defaults to 64KiB.
+   * @return this
+   */
+  public ResultsWriter setBufferSize(final int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize must be at least 1.");
+    }
+    this.bufferSize = bufferSize;
+    return this;
+  }
+
+  /**
+   * Writes the results to a file, replacing it if it exists.
+   *
+   * @param results the results to write, such as a Results or the violations it contains
+   * @param path the file to write
+   * @return the bytes written and the time taken
+   * @throws IOException if the file cannot be written
+   */
+  public Written write(final Object results, final Path path) throws IOException {
+    try (OutputStream out =
+        new BufferedOutputStream(
+            Channels.newOutputStream(
+                FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)),
+            bufferSize)) {
+      return write(results, out);
+    }
+  }
+
+  /**
+   * Writes the results to a stream, which is flushed but left open.
+   *
+   * @param results the results to write, such as a Results or the violations it contains
+   * @param out the stream to write to
+   * @return the bytes written and the time taken
+   * @throws IOException if the stream cannot be written
+   */
+  public Written write(final Object results, final OutputStream out) throws IOException {
+    long start = System.nanoTime();
+    CountingOutputStream counted = new CountingOutputStream(out);
+    GZIPOutputStream gzipped = gzip ? new GZIPOutputStream(counted, 8192) : null;
+    ObjectWriter writer = format.mapperFactory(mapperFactory).nonNullWriter();
+    try (JsonGenerator generator =
+        writer
+            .createGenerator(gzipped != null ? gzipped : counted, JsonEncoding.UTF8)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      writer.writeValue(generator, results);
+    }
+    if (gzipped != null) {
+      gzipped.finish();
+    }
+    counted.flush();
+    return new Written(counted.count, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  /** How much a write wrote, and how long it took. */
+  public static final class Written {
+    private final long bytes;
+    private final Duration elapsed;
+
+    private Written(final long bytes, final Duration elapsed) {
+      this.bytes = bytes;
+      this.elapsed = elapsed;
+    }
+
+    /** @return the number of bytes written, after any compression. */
+    public long getBytes() {
+      return bytes;
+    }
+
+    /** @return the time taken to serialize and write the results. */
+    public Duration getElapsed() {
+      return elapsed;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d bytes in %d ms", bytes, elapsed.toMillis());
+    }
+  }
+
+  /** Counts the bytes passed through to the target. */
+  private static final class CountingOutputStream extends FilterOutputStream {
+    private long count = 0;
+
+    private CountingOutputStream(final OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
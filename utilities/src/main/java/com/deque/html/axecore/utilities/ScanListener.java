@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+/**
+ * Told how long each phase of a scan takes, for finding where a slow scan spends its time. The
+ * builders call it on the thread that is scanning, as each phase finishes; phases that fail are not
+ * reported. Listeners given to builders that scan from several threads at once, such as a frozen
+ * builder, must be thread-safe. {@link ScanTimingRecorder} aggregates the timings in memory.
+ */
+public interface ScanListener {
+  /** Ignores everything. */
+  ScanListener NONE = new ScanListener() {};
+
+  /**
+   * Called when a phase of a scan finishes.
+   *
+   * @param phase the phase
+   * @param frameDepth how deeply nested the frame the phase ran in is, 0 for the top-level page and
+   *     for phases that do not run in a frame of the page
+   * @param elapsedNanos how long the phase took
+   * @param payloadLength the length in characters of the JSON the phase sent or received, such as
+   *     the partial result of a frame, or -1 for phases without one
+   */
+  default void phaseFinished(
+      final ScanPhase phase,
+      final int frameDepth,
+      final long elapsedNanos,
+      final long payloadLength) {}
+
+  /**
+   * Called when a scan finishes.
+   *
+   * @param elapsedNanos how long the whole scan took
+   * @param failed whether the scan threw or returned errored results
+   */
+  default void scanFinished(final long elapsedNanos, final boolean failed) {}
+
+  /**
+   * Called when a scan has visited every frame it tests, with the WebDriver commands it sent to do
+   * so. Only builders that switch between frames one command at a time, as Selenium does, call it.
+   *
+   * @param frames the frames visited, including the top-level page
+   * @param roundTrips the commands sent while visiting them, such as scripts and frame switches
+   * @param switches how many of those commands switched frames or windows
+   */
+  default void framesTraversed(final int frames, final int roundTrips, final int switches) {}
+}
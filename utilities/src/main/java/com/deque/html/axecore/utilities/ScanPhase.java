@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+/** The phases of a scan that are timed and reported to a {@link ScanListener}. */
+public enum ScanPhase {
+  /** Removing the sandbox attribute from iframes, before anything else. */
+  SANDBOX_BUSTING,
+  /** Injecting the axe source into a frame, or checking that it is already there. */
+  INJECT_AXE,
+  /** axe.utils.getFrameContexts in a frame, including converting its response. */
+  FRAME_CONTEXTS,
+  /** axe.runPartial in a frame, including serializing its result. */
+  RUN_PARTIAL,
+  /** axe.run, for axe-core before 4.3 and in legacy mode. */
+  RUN,
+  /** Opening the blank window or page axe.finishRun runs in, or switching to a finisher. */
+  OPEN_FINISHER,
+  /** Sending one chunk of partial results to the finishing window or page. */
+  SEND_PARTIAL_RESULTS,
+  /** axe.finishRun, in a browser or in a {@link FinishRunner}. */
+  FINISH_RUN,
+  /** Parsing the serialized results into Results or AxeResults. */
+  READ_RESULTS
+}
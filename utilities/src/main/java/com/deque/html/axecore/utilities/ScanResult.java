@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.time.Duration;
+
+/**
+ * The outcome of scanning one URL in a multi-page scan: either the axe results, or the error of the
+ * last attempt if every attempt failed.
+ *
+ * @param <R> the axe results type of the integration that produced it.
+ */
+public final class ScanResult<R> {
+  private final String url;
+  private final R results;
+  private final RuntimeException error;
+  private final int attempts;
+  private final Duration duration;
+
+  /**
+   * Creates a scan outcome.
+   *
+   * @param url the URL that was scanned.
+   * @param results the axe results, or null if the scan failed.
+   * @param error the error of the last attempt, or null if the scan succeeded.
+   * @param attempts the number of attempts made.
+   * @param duration the time from the first attempt starting to the last attempt finishing.
+   */
+  public ScanResult(
+      final String url,
+      final R results,
+      final RuntimeException error,
+      final int attempts,
+      final Duration duration) {
+    this.url = url;
+    this.results = results;
+    this.error = error;
+    this.attempts = attempts;
+    this.duration = duration;
+  }
+
+  /** @return the URL that was scanned. */
+  public String getUrl() {
+    return url;
+  }
+
+  /** @return the axe results, or null if the scan failed. */
+  public R getResults() {
+    return results;
+  }
+
+  /** @return the error of the last attempt, or null if the scan succeeded. */
+  public RuntimeException getError() {
+    return error;
+  }
+
+  /** @return whether the scan failed on every attempt. */
+  public boolean isFailed() {
+    return error != null;
+  }
+
+  /** @return the number of attempts made, 1 if the first attempt succeeded. */
+  public int getAttempts() {
+    return attempts;
+  }
+
+  /** @return the time from the first attempt starting to the last attempt finishing. */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  @Override
+  public String toString() {
+    return "ScanResult{url='"
+        + url
+        + "', failed="
+        + isFailed()
+        + ", attempts="
+        + attempts
+        + ", duration="
+        + duration
+        + "}";
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/** A snapshot of the throughput and per-URL latency of a multi-page scan. */
+public final class ScanStats {
+  private final int scans;
+  private final int failures;
+  private final int retries;
+  private final Duration elapsed;
+  private final long[] sortedLatencies;
+
+  ScanStats(
+      final int scans,
+      final int failures,
+      final int retries,
+      final Duration elapsed,
+      final long[] latencyNanos) {
+    this.scans = scans;
+    this.failures = failures;
+    this.retries = retries;
+    this.elapsed = elapsed;
+    // the recorder hands over a fresh copy
+    this.sortedLatencies = latencyNanos;
+    Arrays.sort(this.sortedLatencies);
+  }
+
+  /** @return the number of URLs scanned, failed or not. */
+  public int getScans() {
+    return scans;
+  }
+
+  /** @return the number of URLs that failed on every attempt. */
+  public int getFailures() {
+    return failures;
+  }
+
+  /** @return the number of attempts that were retried. */
+  public int getRetries() {
+    return retries;
+  }
+
+  /** @return the time spent scanning, from the first scan starting to the last one finishing. */
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  /** @return URLs scanned per second of elapsed time, or 0 if nothing has been scanned. */
+  public double getThroughput() {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : scans * 1_000_000_000d / nanos;
+  }
+
+  /** @return the mean time to scan a URL, or zero if nothing has been scanned. */
+  public Duration getMeanLatency() {
+    if (sortedLatencies.length == 0) {
+      return Duration.ZERO;
+    }
+    long total = 0;
+    for (long latency : sortedLatencies) {
+      total += latency;
+    }
+    return Duration.ofNanos(total / sortedLatencies.length);
+  }
+
+  /**
+   * gets a latency percentile, using the nearest-rank method.
+   *
+   * @param percentile between 0 and 100, e.g. 95 for the 95th percentile
+   * @return the time within which that percentage of URLs were scanned, or zero if nothing has been
+   *     scanned
+   */
+  public Duration getLatencyPercentile(final double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100.");
+    }
+    if (sortedLatencies.length == 0) {
+      return Duration.ZERO;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+    return Duration.ofNanos(sortedLatencies[Math.max(rank, 1) - 1]);
+  }
+
+  /** @return the longest time to scan a URL, or zero if nothing has been scanned. */
+  public Duration getMaxLatency() {
+    return getLatencyPercentile(100);
+  }
+
+  @Override
+  public String toString() {
+    return "ScanStats{scans="
+        + scans
+        + ", failures="
+        + failures
+        + ", retries="
+        + retries
+        + ", throughput="
+        + String.format("%.2f/s", getThroughput())
+        + ", p50="
+        + getLatencyPercentile(50)
+        + ", p95="
+        + getLatencyPercentile(95)
+        + ", max="
+        + getMaxLatency()
+        + "}";
+  }
+}
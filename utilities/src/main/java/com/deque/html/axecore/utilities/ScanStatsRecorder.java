@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/** Collects the timing of each scan of a multi-page scan, for {@link ScanStats}. Thread-safe. */
+public final class ScanStatsRecorder {
+  private int scans = 0;
+  private int failures = 0;
+  private int retries = 0;
+  private long firstStart = Long.MAX_VALUE;
+  private long lastEnd = Long.MIN_VALUE;
+  private long[] latencies = new long[64];
+
+  /**
+   * Records a finished scan.
+   *
+   * @param startNanos {@link System#nanoTime()} when the scan started
+   * @param endNanos {@link System#nanoTime()} when the scan finished
+   * @param failed whether the scan failed
+   */
+  public synchronized void record(
+      final long startNanos, final long endNanos, final boolean failed) {
+    if (scans == latencies.length) {
+      latencies = Arrays.copyOf(latencies, scans * 2);
+    }
+    latencies[scans++] = endNanos - startNanos;
+    if (failed) {
+      failures++;
+    }
+    firstStart = Math.min(firstStart, startNanos);
+    lastEnd = Math.max(lastEnd, endNanos);
+  }
+
+  /** Records that a scan attempt failed and is being retried. */
+  public synchronized void recordRetry() {
+    retries++;
+  }
+
+  /**
+   * gets the stats recorded so far.
+   *
+   * @return a snapshot of the stats
+   */
+  public synchronized ScanStats snapshot() {
+    Duration elapsed = scans == 0 ? Duration.ZERO : Duration.ofNanos(lastEnd - firstStart);
+    return new ScanStats(scans, failures, retries, elapsed, Arrays.copyOf(latencies, scans));
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A {@link ScanListener} that aggregates the timings of every scan it is given to into in-memory
+ * histograms, one per phase and one for whole scans, for {@link ScanTimings}. Needs nothing outside
+ * the JVM, so it works offline, for example in CI. Thread-safe.
+ *
+ * <pre>{@code
+ * ScanTimingRecorder timings = new ScanTimingRecorder();
+ * new AxeBuilder().setScanListener(timings).analyze(webDriver);
+ * System.out.println(timings.snapshot());
+ * }</pre>
+ */
+public final class ScanTimingRecorder implements ScanListener {
+  private final Map<ScanPhase, PhaseRecorder> phases = new EnumMap<>(ScanPhase.class);
+  private final LatencyHistogram scans = new LatencyHistogram();
+  private int failures = 0;
+  private long traversals = 0;
+  private long framesTraversed = 0;
+  private long roundTrips = 0;
+  private long switches = 0;
+
+  /** Creates a recorder with nothing recorded. */
+  public ScanTimingRecorder() {
+    for (ScanPhase phase : ScanPhase.values()) {
+      phases.put(phase, new PhaseRecorder());
+    }
+  }
+
+  @Override
+  public synchronized void phaseFinished(
+      final ScanPhase phase,
+      final int frameDepth,
+      final long elapsedNanos,
+      final long payloadLength) {
+    PhaseRecorder recorder = phases.get(phase);
+    recorder.latencies.record(elapsedNanos);
+    if (payloadLength >= 0) {
+      recorder.payloads++;
+      recorder.payloadTotal += payloadLength;
+      recorder.payloadMax = Math.max(recorder.payloadMax, payloadLength);
+    }
+    recorder.maxFrameDepth = Math.max(recorder.maxFrameDepth, frameDepth);
+  }
+
+  @Override
+  public synchronized void scanFinished(final long elapsedNanos, final boolean failed) {
+    scans.record(elapsedNanos);
+    if (failed) {
+      failures++;
+    }
+  }
+
+  @Override
+  public synchronized void framesTraversed(
+      final int frames, final int roundTrips, final int switches) {
+    this.traversals++;
+    this.framesTraversed += frames;
+    this.roundTrips += roundTrips;
+    this.switches += switches;
+  }
+
+  /**
+   * gets the timings recorded so far.
+   *
+   * @return a snapshot of the timings
+   */
+  public synchronized ScanTimings snapshot() {
+    Map<ScanPhase, ScanTimings.Timing> timings = new EnumMap<>(ScanPhase.class);
+    for (Map.Entry<ScanPhase, PhaseRecorder> entry : phases.entrySet()) {
+      PhaseRecorder recorder = entry.getValue();
+      timings.put(
+          entry.getKey(),
+          new ScanTimings.Timing(
+              recorder.latencies.copy(),
+              recorder.payloads,
+              recorder.payloadTotal,
+              recorder.payloadMax,
+              recorder.maxFrameDepth));
+    }
+    return new ScanTimings(
+        new ScanTimings.Timing(scans.copy(), 0, 0, 0, 0),
+        failures,
+        timings,
+        new ScanTimings.Traversals(traversals, framesTraversed, roundTrips, switches));
+  }
+
+  private static final class PhaseRecorder {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private long payloads = 0;
+    private long payloadTotal = 0;
+    private long payloadMax = 0;
+    private int maxFrameDepth = 0;
+  }
+}
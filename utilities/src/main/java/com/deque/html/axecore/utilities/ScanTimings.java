@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2026 Deque Systems Inc.,
+ *
+ * Your use of this Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ *
+ * This entire copyright notice must appear in every copy of this file you
+ * distribute or in any file that contains substantial portions of this source
+ * code.
+ */
+
+package com.deque.html.axecore.utilities;
+
+import java.time.Duration;
+import java.util.Map;
+
+/** A snapshot of the timings a {@link ScanTimingRecorder} has aggregated. */
+public final class ScanTimings {
+  private final Timing scans;
+  private final int failures;
+  private final Map<ScanPhase, Timing> phases;
+  private final Traversals traversals;
+
+  ScanTimings(
+      final Timing scans,
+      final int failures,
+      final Map<ScanPhase, Timing> phases,
+      final Traversals traversals) {
+    this.scans = scans;
+    this.failures = failures;
+    this.phases = phases;
+    this.traversals = traversals;
+  }
+
+  /** @return the timing of whole scans. */
+  public Timing getScans() {
+    return scans;
+  }
+
+  /** @return the number of scans that threw or returned errored results. */
+  public int getFailures() {
+    return failures;
+  }
+
+  /**
+   * gets the timing of a phase, across every scan and frame.
+   *
+   * @param phase the phase
+   * @return the timing, with a count of 0 if the phase never finished
+   */
+  public Timing getPhase(final ScanPhase phase) {
+    return phases.get(phase);
+  }
+
+  /** @return the WebDriver commands sent visiting frames, summed across scans. */
+  public Traversals getTraversals() {
+    return traversals;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("ScanTimings{scans=").append(scans);
+    sb.append(", failures=").append(failures);
+    if (traversals.getCount() > 0) {
+      sb.append(", traversals=").append(traversals);
+    }
+    for (Map.Entry<ScanPhase, Timing> entry : phases.entrySet()) {
+      if (entry.getValue().getCount() > 0) {
+        sb.append(", ").append(entry.getKey()).append('=').append(entry.getValue());
+      }
+    }
+    return sb.append('}').toString();
+  }
+
+  /** The frames scans visited and the WebDriver commands they sent to do so, summed. */
+  public static final class Traversals {
+    private final long count;
+    private final long frames;
+    private final long roundTrips;
+    private final long switches;
+
+    Traversals(final long count, final long frames, final long roundTrips, final long switches) {
+      this.count = count;
+      this.frames = frames;
+      this.roundTrips = roundTrips;
+      this.switches = switches;
+    }
+
+    /** @return the number of scans that reported visiting frames. */
+    public long getCount() {
+      return count;
+    }
+
+    /** @return the frames visited, including the top-level pages. */
+    public long getFrames() {
+      return frames;
+    }
+
+    /** @return the commands sent while visiting frames. */
+    public long getRoundTrips() {
+      return roundTrips;
+    }
+
+    /** @return how many of the commands switched frames or windows. */
+    public long getSwitches() {
+      return switches;
+    }
+
+    @Override
+    public String toString() {
+      return "{count="
+          + count
+          + ", frames="
+          + frames
+          + ", roundTrips="
+          + roundTrips
+          + ", switches="
+          + switches
+          + "}";
+    }
+  }
+
+  /**
+   * The histogram of how long a phase, or a whole scan, took, along with the sizes of the payloads
+   * it moved and the deepest frame it ran in.
+   */
+  public static final class Timing {
+    private final LatencyHistogram latencies;
+    private final long payloads;
+    private final long payloadTotal;
+    private final long payloadMax;
+    private final int maxFrameDepth;
+
+    Timing(
+        final LatencyHistogram latencies,
+        final long payloads,
+        final long payloadTotal,
+        final long payloadMax,
+        final int maxFrameDepth) {
+      this.latencies = latencies;
+      this.payloads = payloads;
+      this.payloadTotal = payloadTotal;
+      this.payloadMax = payloadMax;
+      this.maxFrameDepth = maxFrameDepth;
+    }
+
+    /** @return the number of times it finished. */
+    public long getCount() {
+      return latencies.getCount();
+    }
+
+    /** @return the time it took altogether. */
+    public Duration getTotal() {
+      return Duration.ofNanos(latencies.getTotal());
+    }
+
+    /** @return the mean time it took, or zero if it never finished. */
+    public Duration getMean() {
+      long count = latencies.getCount();
+      return count == 0 ? Duration.ZERO : Duration.ofNanos(latencies.getTotal() / count);
+    }
+
+    /**
+     * gets a percentile of the time it took, accurate to within 25%.
+     *
+     * @param percentile between 0 and 100, e.g. 95 for the 95th percentile
+     * @return the time within which that percentage of them finished, or zero if it never finished
+     */
+    public Duration getPercentile(final double percentile) {
+      return Duration.ofNanos(latencies.getPercentile(percentile));
+    }
+
+    /** @return the longest time it took, or zero if it never finished. */
+    public Duration getMax() {
+      return Duration.ofNanos(latencies.getMax());
+    }
+
+    /** @return the combined length in characters of its payloads. */
+    public long getPayloadTotal() {
+      return payloadTotal;
+    }
+
+    /** @return the mean length in characters of its payloads, or 0 if it had none. */
+    public long getPayloadMean() {
+      return payloads == 0 ? 0 : payloadTotal / payloads;
+    }
+
+    /** @return the length in characters of its largest payload. */
+    public long getPayloadMax() {
+      return payloadMax;
+    }
+
+    /** @return the depth of the most deeply nested frame it ran in, 0 for the top-level page. */
+    public int getMaxFrameDepth() {
+      return maxFrameDepth;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("{count=").append(getCount());
+      sb.append(", p50=").append(getPercentile(50));
+      sb.append(", p95=").append(getPercentile(95));
+      sb.append(", max=").append(getMax());
+      sb.append(", total=").append(getTotal());
+      if (payloads > 0) {
+        sb.append(", payloadMean=").append(getPayloadMean());
+        sb.append(", payloadMax=").append(payloadMax);
+      }
+      if (maxFrameDepth > 0) {
+        sb.append(", maxFrameDepth=").append(maxFrameDepth);
+      }
+      return sb.append('}').toString();
+    }
+  }
+}